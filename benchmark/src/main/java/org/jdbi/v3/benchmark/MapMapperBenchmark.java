@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.sql.ResultSetMetaData;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Maps a wide result into {@code Map}s with {@code mapToMap()} and {@code mapToMap(Integer.class)}, compared
+ * to a mapper building a {@link LinkedHashMap} per row. Run with the GC profiler ({@code -prof gc}) and divide
+ * {@code gc.alloc.rate.norm} by {@link #rows} to compare the allocation per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class MapMapperBenchmark {
+    private static final int COLUMNS = 40;
+
+    @Param({"1000"})
+    public int rows;
+
+    private JdbiRule db;
+    private Handle handle;
+    private String query;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(MapMapperBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        handle = db.getHandle();
+
+        String columns = IntStream.range(0, COLUMNS).mapToObj(i -> "c" + i).collect(Collectors.joining(", "));
+        handle.execute("create table wide_rows (id int primary key, "
+            + IntStream.range(0, COLUMNS).mapToObj(i -> "c" + i + " int").collect(Collectors.joining(", ")) + ")");
+        handle.execute("insert into wide_rows (id, " + columns + ") select x, "
+            + IntStream.range(0, COLUMNS).mapToObj(i -> "x + " + i).collect(Collectors.joining(", "))
+            + " from system_range(1, " + rows + ")");
+        query = "select " + columns + " from wide_rows";
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> mapToMap() {
+        return handle.createQuery(query).mapToMap().list();
+    }
+
+    @Benchmark
+    public List<Map<String, Integer>> mapToGenericMap() {
+        return handle.createQuery(query).mapToMap(Integer.class).list();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> linkedHashMapPerRow() {
+        return handle.createQuery(query).map(linkedHashMapper()).list();
+    }
+
+    private static RowMapper<Map<String, Object>> linkedHashMapper() {
+        return (rs, ctx) -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columnCount = meta.getColumnCount();
+            Map<String, Object> row = new LinkedHashMap<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                row.put(meta.getColumnLabel(i).toLowerCase(), rs.getObject(i));
+            }
+            return row;
+        };
+    }
+}
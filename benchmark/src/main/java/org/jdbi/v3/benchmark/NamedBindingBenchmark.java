@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures binding named parameters to a statement executed repeatedly with values of the same
+ * types, which reuses the binding plan cached for the statement. Run with the GC profiler
+ * ({@code -prof gc}) to compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class NamedBindingBenchmark {
+    private static final String INSERT = "insert into sample_rows (id, a, b, c, d, e, f, g, h)"
+        + " values (:id, :a, :b, :c, :d, :e, :f, :g, :h)";
+
+    private JdbiRule db;
+    private Handle handle;
+    private int id;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(NamedBindingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        handle = db.getHandle();
+        handle.execute("create table sample_rows (id int primary key, a varchar, b varchar, c int, d int,"
+            + " e bigint, f bigint, g boolean, h double)");
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public int bindNamed() {
+        return handle.createUpdate(INSERT)
+            .bind("id", id++)
+            .bind("a", "alpha")
+            .bind("b", "beta")
+            .bind("c", 3)
+            .bind("d", 4)
+            .bind("e", 5L)
+            .bind("f", 6L)
+            .bind("g", true)
+            .bind("h", 8.0)
+            .execute();
+    }
+}
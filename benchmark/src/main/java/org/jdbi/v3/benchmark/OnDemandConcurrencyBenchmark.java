@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Calls an on-demand SqlObject from many short lived tasks, with handle context
+ * held in thread locals or by the handle. Tasks run on virtual threads when the
+ * JVM provides them, and on a fixed pool of platform threads otherwise.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class OnDemandConcurrencyBenchmark {
+    @Param({"true", "false"})
+    private boolean threadLocalContext;
+
+    @Param({"100000"})
+    private int tasks;
+
+    private JdbiRule db;
+    private Dao dao;
+    private ExecutorService executor;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(OnDemandConcurrencyBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2().withPlugin(new SqlObjectPlugin());
+        db.before();
+        Jdbi jdbi = db.getJdbi().setThreadLocalContext(threadLocalContext);
+        jdbi.useHandle(h -> {
+            h.execute("create table sample_rows (id int primary key, name varchar)");
+            h.execute("insert into sample_rows (id, name) values (1, 'one')");
+        });
+        dao = jdbi.onDemand(Dao.class);
+        executor = newExecutor();
+    }
+
+    @TearDown
+    public void close() {
+        executor.shutdown();
+        db.after();
+    }
+
+    @Benchmark
+    public int onDemand() {
+        List<CompletableFuture<String>> results = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> dao.name(1), executor));
+        }
+        int found = 0;
+        for (CompletableFuture<String> result : results) {
+            if (result.join() != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+        }
+    }
+
+    public interface Dao {
+        @SqlQuery("select name from sample_rows where id = :id")
+        String name(@Bind("id") int id);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.reflect.BeanMapper;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.jdbi.v3.core.mapper.reflect.FieldMapper;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the reflective and generated accessor paths of the bean,
+ * constructor and field mappers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ReflectionMapperBenchmark {
+    private static final String QUERY = "select id, name, score, active from sample_rows";
+
+    @Param({"false", "true"})
+    private boolean generatedAccessors;
+
+    @Param({"10000"})
+    private int rows;
+
+    private JdbiRule db;
+    private Handle handle;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ReflectionMapperBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        handle = db.getHandle();
+        handle.getConfig(ReflectionMappers.class).setGeneratedAccessors(generatedAccessors);
+        handle.execute("create table sample_rows (id int primary key, name varchar, score double, active boolean)");
+
+        PreparedBatch batch = handle.prepareBatch("insert into sample_rows (id, name, score, active) values (?, ?, ?, ?)");
+        for (int i = 0; i < rows; i++) {
+            batch.add(i, "name" + i, i / 2.0, i % 2 == 0);
+        }
+        batch.execute();
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public List<SampleBean> bean() {
+        return handle.createQuery(QUERY).map(BeanMapper.of(SampleBean.class)).list();
+    }
+
+    @Benchmark
+    public List<SampleValue> constructor() {
+        return handle.createQuery(QUERY).map(ConstructorMapper.of(SampleValue.class)).list();
+    }
+
+    @Benchmark
+    public List<SampleBean> field() {
+        return handle.createQuery(QUERY).map(FieldMapper.of(SampleBean.class)).list();
+    }
+
+    public static class SampleBean {
+        private int id;
+        private String name;
+        private double score;
+        private boolean active;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    public static class SampleValue {
+        private final int id;
+        private final String name;
+        private final double score;
+        private final boolean active;
+
+        @ConstructorProperties({"id", "name", "score", "active"})
+        public SampleValue(int id, String name, double score, boolean active) {
+            this.id = id;
+            this.name = name;
+            this.score = score;
+            this.active = active;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the ways of walking a large result set: plain JDBC, the
+ * iterator protocol, the internal {@code forEach} loop, and the stream
+ * and list paths built on top of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ResultIterationBenchmark {
+    private static final String QUERY = "select id, name from sample_rows";
+
+    @Param({"100000"})
+    private int rows;
+
+    private JdbiRule db;
+    private Handle handle;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ResultIterationBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        handle = db.getHandle();
+        handle.execute("create table sample_rows (id int primary key, name varchar)");
+
+        PreparedBatch batch = handle.prepareBatch("insert into sample_rows (id, name) values (?, ?)");
+        for (int i = 0; i < rows; i++) {
+            batch.add(i, "name" + i);
+        }
+        batch.execute();
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public void jdbc(Blackhole bh) throws SQLException {
+        try (PreparedStatement stmt = handle.getConnection().prepareStatement(QUERY);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getString(2));
+            }
+        }
+    }
+
+    @Benchmark
+    public void iterator(Blackhole bh) {
+        try (ResultIterator<String> it = handle.createQuery(QUERY).map((rs, ctx) -> rs.getString(2)).iterator()) {
+            while (it.hasNext()) {
+                bh.consume(it.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        handle.createQuery(QUERY).map((rs, ctx) -> rs.getString(2)).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public long stream() {
+        return handle.createQuery(QUERY)
+            .map((rs, ctx) -> rs.getString(2))
+            .withStream(stream -> stream.filter(name -> name.length() > 4).count());
+    }
+
+    @Benchmark
+    public List<String> streamCollect() {
+        return handle.createQuery(QUERY)
+            .map((rs, ctx) -> rs.getString(2))
+            .withStream(stream -> stream.collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<String> list() {
+        return handle.createQuery(QUERY).map((rs, ctx) -> rs.getString(2)).list();
+    }
+}
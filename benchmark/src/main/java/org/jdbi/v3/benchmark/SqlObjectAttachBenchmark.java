@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Attaches a proxied SqlObject with many methods to a handle and calls one of them,
+ * as done by code which attaches its DAOs per request, compared to calling a SqlObject
+ * attached once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class SqlObjectAttachBenchmark {
+    private JdbiRule db;
+    private Handle handle;
+    private Dao attached;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SqlObjectAttachBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2().withPlugin(new SqlObjectPlugin());
+        db.before();
+        handle = db.getHandle();
+        handle.execute("create table sample_rows (id int primary key, name varchar)");
+        handle.execute("insert into sample_rows (id, name) values (1, 'name')");
+        attached = handle.attach(Dao.class);
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public String attachAndCall() {
+        return handle.attach(Dao.class).name(1);
+    }
+
+    @Benchmark
+    public String callAttached() {
+        return attached.name(1);
+    }
+
+    public interface Dao {
+        @SqlQuery("select name from sample_rows where id = :id")
+        String name(@Bind("id") int id);
+
+        @SqlQuery("select id from sample_rows where name = :name")
+        int id(@Bind("name") String name);
+
+        @SqlQuery("select count(*) from sample_rows")
+        int count();
+
+        @SqlQuery("select max(id) from sample_rows")
+        int maxId();
+
+        @SqlQuery("select min(id) from sample_rows")
+        int minId();
+
+        @SqlQuery("select name from sample_rows where id = :id and name = :name")
+        String check(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlQuery("select name from sample_rows where id > :id")
+        String after(@Bind("id") int id);
+
+        @SqlQuery("select name from sample_rows where id < :id")
+        String before(@Bind("id") int id);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.jdbi.v3.core.internal.lexer.ColonStatementLexer;
+import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
+import org.jdbi.v3.core.statement.ParsedSql;
+import org.jdbi.v3.core.statement.SqlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures parsing a statement which misses the parse cache, as dynamic SQL does, against
+ * tokenizing it with the ANTLR lexer the parser used to be driven by.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class SqlParserBenchmark {
+    @Param({"short", "long", "pathological"})
+    private String statement;
+
+    private String sql;
+    private SqlParser parser;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SqlParserBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        switch (statement) {
+            case "short":
+                sql = "select id, name from something where id = :id";
+                break;
+            case "long":
+                sql = longStatement();
+                break;
+            case "pathological":
+                sql = pathologicalStatement();
+                break;
+            default:
+                throw new IllegalArgumentException(statement);
+        }
+        // evict synchronously, so that every parse misses
+        parser = new ColonPrefixSqlParser(Caffeine.newBuilder().maximumSize(0).executor(Runnable::run));
+    }
+
+    private static String longStatement() {
+        StringBuilder sql = new StringBuilder("insert into something (id, name, created, tags) values ");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id_").append(i)
+                .append(", :name_").append(i)
+                .append(", :created_").append(i).append("::timestamp")
+                .append(", '{tag}') /* row ").append(i).append(" */");
+        }
+        return sql.toString();
+    }
+
+    private static String pathologicalStatement() {
+        StringBuilder sql = new StringBuilder("select ");
+        for (int i = 0; i < 200; i++) {
+            sql.append("/* '\\' \\:x ::: ?? :a?.b?.c ");
+        }
+        return sql.append(":id").toString();
+    }
+
+    @Benchmark
+    public ParsedSql parse() {
+        // the context is only used to report parse failures
+        return parser.parse(sql, null);
+    }
+
+    @Benchmark
+    public void antlrLexer(Blackhole bh) {
+        ColonStatementLexer lexer = new ColonStatementLexer(CharStreams.fromString(sql));
+        Token t = lexer.nextToken();
+        while (t.getType() != Token.EOF) {
+            bh.consume(t.getText());
+            t = lexer.nextToken();
+        }
+    }
+}
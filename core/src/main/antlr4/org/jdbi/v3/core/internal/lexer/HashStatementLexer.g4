@@ -12,6 +12,7 @@
  * limitations under the License.
  */
 
+/* Specifies the syntax implemented by org.jdbi.v3.core.statement.SqlScanner, which is tested against this lexer. */
 lexer grammar HashStatementLexer;
 
 fragment QUOTE: '\'';
@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * An {@link Executor} which runs at most a fixed number of tasks at a time on a delegate
+ * executor, and queues at most a fixed number more. Tasks beyond that are rejected with a
+ * {@link RejectedExecutionException}, which the asynchronous methods of {@link Jdbi} report
+ * through the returned future.
+ * <p>
+ * Size the concurrency to the connection pool, so that queued work waits here rather than
+ * holding a thread while it waits for a connection. The queue bound is the backpressure:
+ * once it is reached, callers learn of it immediately instead of building an unbounded
+ * backlog.
+ *
+ * @see Jdbi#setAsyncExecutor(Executor)
+ */
+@Beta
+@SuppressWarnings("PMD.DoNotUseThreads")
+public final class BoundedExecutor implements Executor {
+    private final Executor delegate;
+    private final int maxConcurrency;
+    private final int maxQueueDepth;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param delegate runs the tasks; must accept every task it is given, such as an unbounded
+     * cached thread pool, since this executor does the bounding
+     * @param maxConcurrency the maximum number of tasks running at the same time, usually the
+     * size of the connection pool
+     * @param maxQueueDepth the maximum number of tasks waiting to run
+     */
+    public BoundedExecutor(Executor delegate, int maxConcurrency, int maxQueueDepth) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        if (maxQueueDepth < 0) {
+            throw new IllegalArgumentException("maxQueueDepth must not be negative");
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (queueDepth.incrementAndGet() > maxQueueDepth + Math.max(0, maxConcurrency - active.get())) {
+            queueDepth.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Queue depth " + maxQueueDepth + " exceeded");
+        }
+        queue.add(task);
+        drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            int running = active.get();
+            if (running >= maxConcurrency) {
+                return;
+            }
+            if (!active.compareAndSet(running, running + 1)) {
+                continue;
+            }
+            Runnable task = queue.poll();
+            if (task == null) {
+                active.decrementAndGet();
+                continue;
+            }
+            queueDepth.decrementAndGet();
+            try {
+                delegate.execute(() -> run(task));
+            } catch (RuntimeException e) {
+                active.decrementAndGet();
+                rejected.incrementAndGet();
+                if (!(task instanceof RejectableTask)) {
+                    throw e;
+                }
+                ((RejectableTask) task).rejected(e);
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            completed.incrementAndGet();
+            active.decrementAndGet();
+            drain();
+        }
+    }
+
+    /**
+     * @return the maximum number of tasks running at the same time
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return the maximum number of tasks waiting to run
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return the number of tasks currently waiting to run
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the number of tasks currently running
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * @return the number of tasks which have finished running, successfully or not
+     */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * @return the number of tasks rejected because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * A task which is told when the delegate fails to accept it after it left the queue, since by
+     * then the caller which submitted it may have returned, and drain may run on another task's thread.
+     */
+    interface RejectableTask extends Runnable {
+        void rejected(RuntimeException failure);
+    }
+}
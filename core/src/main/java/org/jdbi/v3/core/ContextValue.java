@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+/**
+ * A piece of handle context, such as the current config or extension method.
+ * It is held either per thread, so that a handle shared between threads
+ * may be in a different context on each of them, or directly by the handle.
+ *
+ * @see Jdbi#setThreadLocalContext(boolean)
+ */
+abstract class ContextValue<T> {
+    abstract T get();
+
+    abstract void set(T value);
+
+    /**
+     * Reset the value to its initial state, releasing any per thread storage.
+     */
+    abstract void remove();
+
+    static <T> ContextValue<T> create(boolean threadLocal, T initial) {
+        return threadLocal ? new PerThread<>(initial) : new Explicit<>(initial);
+    }
+
+    private static final class PerThread<T> extends ContextValue<T> {
+        private final ThreadLocal<T> value;
+
+        PerThread(T initial) {
+            value = ThreadLocal.withInitial(() -> initial);
+        }
+
+        @Override
+        T get() {
+            return value.get();
+        }
+
+        @Override
+        void set(T newValue) {
+            if (newValue == null) {
+                value.remove();
+            } else {
+                value.set(newValue);
+            }
+        }
+
+        @Override
+        void remove() {
+            value.remove();
+        }
+    }
+
+    private static final class Explicit<T> extends ContextValue<T> {
+        private final T initial;
+        private volatile T value;
+
+        Explicit(T initial) {
+            this.initial = initial;
+            this.value = initial;
+        }
+
+        @Override
+        T get() {
+            return value;
+        }
+
+        @Override
+        void set(T newValue) {
+            value = newValue == null ? initial : newValue;
+        }
+
+        @Override
+        void remove() {
+            value = initial;
+        }
+    }
+}
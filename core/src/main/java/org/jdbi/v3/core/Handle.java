@@ -56,8 +56,8 @@ public class Handle implements Closeable, Configurable<Handle> {
     private final Connection connection;
     private final boolean forceEndTransactions;
 
-    private ThreadLocal<ConfigRegistry> localConfig;
-    private ThreadLocal<ExtensionMethod> localExtensionMethod;
+    private ContextValue<ConfigRegistry> localConfig;
+    private ContextValue<ExtensionMethod> localExtensionMethod;
     private StatementBuilder statementBuilder;
 
     private boolean closed = false;
@@ -67,14 +67,15 @@ public class Handle implements Closeable, Configurable<Handle> {
            ConnectionCloser closer,
            TransactionHandler transactions,
            StatementBuilder statementBuilder,
-           Connection connection) {
+           Connection connection,
+           boolean threadLocalContext) {
         this.jdbi = jdbi;
         this.closer = closer;
         this.transactions = transactions;
         this.connection = connection;
 
-        this.localConfig = ThreadLocal.withInitial(() -> localConfig);
-        this.localExtensionMethod = new ThreadLocal<>();
+        this.localConfig = ContextValue.create(threadLocalContext, localConfig);
+        this.localExtensionMethod = ContextValue.create(threadLocalContext, null);
         this.statementBuilder = statementBuilder;
         this.forceEndTransactions = !transactions.isInTransaction(this);
     }
@@ -92,8 +93,8 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.localConfig.set(config);
     }
 
-    void setLocalConfig(ThreadLocal<ConfigRegistry> configThreadLocal) {
-        this.localConfig = configThreadLocal;
+    void setLocalConfig(ContextValue<ConfigRegistry> configContext) {
+        this.localConfig = configContext;
     }
 
     /**
@@ -551,8 +552,8 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.localExtensionMethod.set(extensionMethod);
     }
 
-    void setExtensionMethodThreadLocal(ThreadLocal<ExtensionMethod> extensionMethodThreadLocal) {
-        this.localExtensionMethod = requireNonNull(extensionMethodThreadLocal);
+    void setLocalExtensionMethod(ContextValue<ExtensionMethod> extensionMethodContext) {
+        this.localExtensionMethod = requireNonNull(extensionMethodContext);
     }
 
     interface ConnectionCloser {
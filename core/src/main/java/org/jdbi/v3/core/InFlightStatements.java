@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the statements executing on a handle, so that they can be cancelled
+ * from another thread. Once cancelled, further statements fail before executing.
+ */
+class InFlightStatements implements StatementCustomizer {
+    private static final Logger LOG = LoggerFactory.getLogger(InFlightStatements.class);
+
+    private final Set<PreparedStatement> statements = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    @Override
+    public void beforeExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+        if (cancelled) {
+            throw new SQLException("Statement cancelled");
+        }
+        statements.add(stmt);
+        ctx.addCleanable(() -> statements.remove(stmt));
+        if (cancelled) {
+            stmt.cancel();
+        }
+    }
+
+    void cancel() {
+        cancelled = true;
+        for (PreparedStatement stmt : statements) {
+            try {
+                stmt.cancel();
+            } catch (SQLException e) {
+                LOG.warn("Unable to cancel statement", e);
+            }
+        }
+    }
+}
@@ -16,10 +16,20 @@ package org.jdbi.v3.core;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
@@ -41,6 +51,7 @@ import org.jdbi.v3.core.statement.StatementBuilderFactory;
 import org.jdbi.v3.core.transaction.LocalTransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import org.jdbi.v3.meta.Beta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +75,8 @@ public class Jdbi implements Configurable<Jdbi> {
     private final CopyOnWriteArrayList<JdbiPlugin> plugins = new CopyOnWriteArrayList<>();
 
     private final ThreadLocal<HandleSupplier> threadHandleSupplier = new ThreadLocal<>();
+    private volatile boolean threadLocalContext = true;
+    private volatile Executor asyncExecutor;
 
     private Jdbi(ConnectionFactory connectionFactory) {
         Objects.requireNonNull(connectionFactory, "null connectionFactory");
@@ -287,6 +300,64 @@ public class Jdbi implements Configurable<Jdbi> {
         return this.transactionhandler.get();
     }
 
+    /**
+     * Choose where handles and extensions keep their per-call context: the configuration and
+     * extension method in effect while an extension method runs, and the handle in use by an
+     * enclosing {@link #withHandle(HandleCallback)} or {@link #withExtension(Class, ExtensionCallback)}.
+     * <p>
+     * By default this context is held in thread locals. That lets nested {@code withHandle},
+     * {@code withExtension} and {@link #onDemand(Class) on-demand} calls on the same thread join
+     * the enclosing handle and its transaction, at the cost of a thread local entry per handle
+     * on every thread that uses it. Applications running each call on its own short lived
+     * thread, such as one virtual thread per request, gain nothing from this and pay for it.
+     * <p>
+     * When disabled, the context is held by the handle itself, and nested calls no longer
+     * look for an enclosing handle: each opens its own. Use the handle or extension passed to
+     * the outer callback to take part in its transaction. A handle, and an on-demand extension
+     * method with it, must then not be used by more than one thread at a time.
+     *
+     * @param threadLocalContext whether handle context is held in thread locals, the default
+     * @return this
+     */
+    @Beta
+    public Jdbi setThreadLocalContext(boolean threadLocalContext) {
+        this.threadLocalContext = threadLocalContext;
+        return this;
+    }
+
+    /**
+     * @return whether handle context is held in thread locals
+     * @see #setThreadLocalContext(boolean)
+     */
+    @Beta
+    public boolean isThreadLocalContext() {
+        return threadLocalContext;
+    }
+
+    /**
+     * Set the executor running the callbacks passed to {@link #withHandleAsync(HandleCallback)},
+     * {@link #inTransactionAsync(HandleCallback)} and {@link #withExtensionAsync(Class, ExtensionCallback)}.
+     * Each callback blocks a thread of this executor while it uses the database, so it should be
+     * reserved for database work and bounded to the connection pool, for example with a
+     * {@link BoundedExecutor}.
+     *
+     * @param executor the executor for asynchronous callbacks
+     * @return this
+     */
+    @Beta
+    public Jdbi setAsyncExecutor(Executor executor) {
+        this.asyncExecutor = Objects.requireNonNull(executor, "null async executor");
+        return this;
+    }
+
+    /**
+     * @return the executor for asynchronous callbacks, or null if none was set
+     */
+    @Beta
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
     /**
      * Obtain a Handle to the data source wrapped by this Jdbi instance.
      * You own this expensive resource and are required to close it or
@@ -308,7 +379,7 @@ public class Jdbi implements Configurable<Jdbi> {
             }
 
             StatementBuilder cache = statementBuilderFactory.get().createStatementBuilder(conn);
-            Handle h = new Handle(this, config.createCopy(), connectionFactory::closeConnection, transactionhandler.get(), cache, conn);
+            Handle h = new Handle(this, config.createCopy(), connectionFactory::closeConnection, transactionhandler.get(), cache, conn, threadLocalContext);
             for (JdbiPlugin p : plugins) {
                 h = p.customizeHandle(h);
             }
@@ -332,6 +403,12 @@ public class Jdbi implements Configurable<Jdbi> {
      * @throws X any exception thrown by the callback
      */
     public <R, X extends Exception> R withHandle(HandleCallback<R, X> callback) throws X {
+        if (!threadLocalContext) {
+            try (Handle h = this.open()) {
+                return callback.withHandle(h);
+            }
+        }
+
         if (threadHandleSupplier.get() != null) {
             return callback.withHandle(threadHandleSupplier.get().getHandle());
         }
@@ -453,11 +530,17 @@ public class Jdbi implements Configurable<Jdbi> {
      */
     public <R, E, X extends Exception> R withExtension(Class<E> extensionType, ExtensionCallback<R, E, X> callback)
             throws X {
+        if (!threadLocalContext) {
+            try (LazyHandleSupplier handleSupplier = new LazyHandleSupplier(this, config, false)) {
+                return callWithExtension(extensionType, callback, handleSupplier);
+            }
+        }
+
         if (threadHandleSupplier.get() != null) {
             return callWithExtension(extensionType, callback, threadHandleSupplier.get());
         }
 
-        try (LazyHandleSupplier handleSupplier = new LazyHandleSupplier(this, config)) {
+        try (LazyHandleSupplier handleSupplier = new LazyHandleSupplier(this, config, true)) {
             threadHandleSupplier.set(handleSupplier);
             return callWithExtension(extensionType, callback, handleSupplier);
         } finally {
@@ -494,6 +577,180 @@ public class Jdbi implements Configurable<Jdbi> {
         });
     }
 
+    /**
+     * Run a callback with a handle on the {@link #setAsyncExecutor(Executor) async executor}.
+     * The handle is managed as by {@link #withHandle(HandleCallback)}.
+     * <p>
+     * Cancelling the returned future before the callback starts keeps it from running. Cancelling
+     * it while the callback runs {@link java.sql.Statement#cancel() cancels} any statement executing
+     * on the handle, and fails any statement the callback executes afterwards, so the callback ends
+     * with an exception and any transaction it opened is rolled back. If the executor runs the callback
+     * on a thread which already has a handle bound, the callback uses that handle and cancelling
+     * leaves its statements alone.
+     *
+     * @param callback A callback which will receive an open Handle
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any
+     * @return a future of the value returned by the callback; completed exceptionally with
+     * anything the callback throws, or with a {@link java.util.concurrent.RejectedExecutionException}
+     * if the executor is saturated
+     * @throws IllegalStateException if no async executor is set
+     */
+    @Beta
+    public <R, X extends Exception> CompletableFuture<R> withHandleAsync(HandleCallback<R, X> callback) {
+        final Executor executor = asyncExecutor;
+        if (executor == null) {
+            throw new IllegalStateException("No async executor is set, see Jdbi.setAsyncExecutor");
+        }
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final InFlightStatements inFlight = new InFlightStatements();
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                inFlight.cancel();
+            }
+        });
+        try {
+            executor.execute(new BoundedExecutor.RejectableTask() {
+                @Override
+                public void run() {
+                    if (result.isDone()) {
+                        return;
+                    }
+                    // only track statements on a handle opened for this call, not on one the thread already holds
+                    boolean ownHandle = threadHandleSupplier.get() == null;
+                    try {
+                        result.complete(withHandle(handle -> {
+                            if (ownHandle) {
+                                handle.addCustomizer(inFlight);
+                            }
+                            return callback.withHandle(handle);
+                        }));
+                    } catch (Throwable e) {
+                        result.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void rejected(RuntimeException failure) {
+                    result.completeExceptionally(failure);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Run a callback in a transaction on the {@link #setAsyncExecutor(Executor) async executor}.
+     *
+     * @param callback A callback which will receive an open Handle, in a transaction
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any
+     * @return a future of the value returned by the callback
+     * @see #withHandleAsync(HandleCallback)
+     */
+    @Beta
+    public <R, X extends Exception> CompletableFuture<R> inTransactionAsync(HandleCallback<R, X> callback) {
+        return withHandleAsync(handle -> handle.inTransaction(callback));
+    }
+
+    /**
+     * Run a callback in a transaction on the {@link #setAsyncExecutor(Executor) async executor}.
+     *
+     * @param level the transaction isolation level
+     * @param callback A callback which will receive an open Handle, in a transaction
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any
+     * @return a future of the value returned by the callback
+     * @see #withHandleAsync(HandleCallback)
+     */
+    @Beta
+    public <R, X extends Exception> CompletableFuture<R> inTransactionAsync(TransactionIsolationLevel level, HandleCallback<R, X> callback) {
+        return withHandleAsync(handle -> handle.inTransaction(level, callback));
+    }
+
+    /**
+     * Run a callback with an extension on the {@link #setAsyncExecutor(Executor) async executor}.
+     * Unlike {@link #withExtension(Class, ExtensionCallback)}, the handle is opened up front,
+     * so that its statements can be cancelled.
+     *
+     * @param extensionType the type of extension
+     * @param callback a callback which will receive the extension
+     * @param <R> the return type
+     * @param <E> the extension type
+     * @param <X> the exception type optionally thrown by the callback
+     * @return a future of the value returned by the callback; completed exceptionally with a
+     * {@link NoSuchExtensionException} if no {@link ExtensionFactory} supports the extension type
+     * @see #withHandleAsync(HandleCallback)
+     */
+    @Beta
+    public <R, E, X extends Exception> CompletableFuture<R> withExtensionAsync(Class<E> extensionType, ExtensionCallback<R, E, X> callback) {
+        return withHandleAsync(handle -> callback.withExtension(handle.attach(extensionType)));
+    }
+
+    /**
+     * Prepare the given extension types ahead of their first use, one after the other. For SQL Objects, this
+     * builds the method handlers, runs the configuring annotations, locates and parses constant SQL, and
+     * resolves the row mappers of query results.
+     *
+     * @param extensionTypes the extension types to prepare
+     * @return the time taken for each extension type, in the given order
+     * @throws NoSuchExtensionException if no {@link ExtensionFactory} is registered which supports one of the types
+     * @see ExtensionFactory#warmUp(Class, ConfigRegistry)
+     */
+    @Beta
+    public Map<Class<?>, Duration> warmUp(Class<?>... extensionTypes) {
+        final Map<Class<?>, Duration> timings = new LinkedHashMap<>();
+        for (Class<?> extensionType : extensionTypes) {
+            timings.put(extensionType, timeWarmUp(extensionType));
+        }
+        return Collections.unmodifiableMap(timings);
+    }
+
+    /**
+     * Prepare the given extension types ahead of their first use, in parallel on the given executor.
+     * Returns once all types are prepared.
+     *
+     * @param executor the executor which prepares each extension type
+     * @param extensionTypes the extension types to prepare
+     * @return the time taken for each extension type, in the given order
+     * @throws NoSuchExtensionException if no {@link ExtensionFactory} is registered which supports one of the types
+     * @see #warmUp(Class[])
+     */
+    @Beta
+    public Map<Class<?>, Duration> warmUp(Executor executor, Class<?>... extensionTypes) {
+        final List<CompletableFuture<Duration>> futures = new ArrayList<>(extensionTypes.length);
+        for (Class<?> extensionType : extensionTypes) {
+            futures.add(CompletableFuture.supplyAsync(() -> timeWarmUp(extensionType), executor));
+        }
+
+        final Map<Class<?>, Duration> timings = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        for (int i = 0; i < extensionTypes.length; i++) {
+            try {
+                timings.put(extensionTypes[i], futures.get(i).join());
+            } catch (CompletionException e) {
+                final RuntimeException cause = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return Collections.unmodifiableMap(timings);
+    }
+
+    private Duration timeWarmUp(Class<?> extensionType) {
+        final long start = System.nanoTime();
+        getConfig(Extensions.class).warmUp(extensionType, getConfig());
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
     /**
      * @param extensionType the type of extension. Must be a public interface type.
      * @param <E> the extension type
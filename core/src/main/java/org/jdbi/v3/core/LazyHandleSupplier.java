@@ -14,6 +14,8 @@
 package org.jdbi.v3.core;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
@@ -23,18 +25,20 @@ import org.jdbi.v3.core.internal.OnDemandHandleSupplier;
 import static org.jdbi.v3.core.internal.Invocations.invokeWith;
 
 class LazyHandleSupplier implements HandleSupplier, AutoCloseable, OnDemandHandleSupplier {
-    private final Object[] lock = new Object[0];
+    // not a monitor, so that virtual threads opening the handle do not pin their carrier
+    private final Lock lock = new ReentrantLock();
 
     private final Jdbi db;
-    private final ThreadLocal<ConfigRegistry> localConfig;
-    private final ThreadLocal<ExtensionMethod> localExtensionMethod = new ThreadLocal<>();
+    private final ContextValue<ConfigRegistry> localConfig;
+    private final ContextValue<ExtensionMethod> localExtensionMethod;
 
     private volatile Handle handle;
     private volatile boolean closed = false;
 
-    LazyHandleSupplier(Jdbi db, ConfigRegistry config) {
+    LazyHandleSupplier(Jdbi db, ConfigRegistry config, boolean threadLocalContext) {
         this.db = db;
-        localConfig = ThreadLocal.withInitial(() -> config);
+        localConfig = ContextValue.create(threadLocalContext, config);
+        localExtensionMethod = ContextValue.create(threadLocalContext, null);
     }
 
     @Override
@@ -56,38 +60,45 @@ class LazyHandleSupplier implements HandleSupplier, AutoCloseable, OnDemandHandl
     }
 
     private void initHandle() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (handle == null) {
                 if (closed) {
                     throw new IllegalStateException("Handle is closed");
                 }
 
-                handle = db.open();
-                // share extension method thread local with handle,
+                Handle h = db.open();
+                // share extension method context with handle,
                 // so extension methods set in other threads are preserved
-                handle.setExtensionMethodThreadLocal(localExtensionMethod);
-                handle.setLocalConfig(localConfig);
+                h.setLocalExtensionMethod(localExtensionMethod);
+                h.setLocalConfig(localConfig);
+                handle = h;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public <V> V invokeInContext(ExtensionMethod extensionMethod, ConfigRegistry config, Callable<V> task) throws Exception {
-        return invokeWith(localExtensionMethod, extensionMethod,
-                () -> invokeWith(localConfig, config, task));
+        return invokeWith(localExtensionMethod::get, localExtensionMethod::set, extensionMethod,
+                () -> invokeWith(localConfig::get, localConfig::set, config, task));
     }
 
     @Override
     public void close() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             closed = true;
-            // once created, the handle owns cleanup of the threadlocals
+            // once created, the handle owns cleanup of the context
             if (handle == null) {
                 localConfig.remove();
                 localExtensionMethod.remove();
             } else {
                 handle.close();
             }
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -27,6 +27,7 @@ import org.jdbi.v3.core.array.SqlArrayArgumentFactory;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.internal.JdbiOptionals;
+import org.jdbi.v3.core.internal.ResolutionCache;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.meta.Beta;
 
@@ -40,6 +41,8 @@ import org.jdbi.v3.meta.Beta;
 public class Arguments implements JdbiConfig<Arguments> {
     private final List<QualifiedArgumentFactory> factories = new CopyOnWriteArrayList<>();
     private final Map<QualifiedType<?>, Function<Object, Argument>> preparedFactories = new ConcurrentHashMap<>();
+    // prepared arguments hold on to the registry they were prepared with, so copies prepare their own
+    private ResolutionCache<QualifiedType<?>, Function<Object, Argument>> preparers = new ResolutionCache<>();
 
     private ConfigRegistry registry;
     private Argument untypedNullArgument = new NullArgument(Types.OTHER);
@@ -102,6 +105,7 @@ public class Arguments implements JdbiConfig<Arguments> {
     @Beta
     public Arguments register(QualifiedArgumentFactory factory) {
         factories.add(0, factory);
+        preparers = new ResolutionCache<>();
         prePrepareTypes(factory);
         return this;
     }
@@ -168,11 +172,11 @@ public class Arguments implements JdbiConfig<Arguments> {
         if (prepared != null) {
             return Optional.of(prepared);
         }
-        return factories.stream()
+        return preparers.get(type, t -> factories.stream()
             .filter(QualifiedArgumentFactory.Preparable.class::isInstance)
             .map(QualifiedArgumentFactory.Preparable.class::cast)
-            .flatMap(factory -> JdbiOptionals.stream(factory.prepare(type, registry)))
-            .findFirst();
+            .flatMap(factory -> JdbiOptionals.stream(factory.prepare(t, registry)))
+            .findFirst());
     }
 
     @Beta
@@ -190,6 +194,7 @@ public class Arguments implements JdbiConfig<Arguments> {
             throw new IllegalArgumentException("the Argument itself may not be null");
         }
         this.untypedNullArgument = untypedNullArgument;
+        preparers = new ResolutionCache<>();
     }
 
     /**
@@ -211,6 +216,7 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     public void setBindingNullToPrimitivesPermitted(boolean bindingNullToPrimitivesPermitted) {
         this.bindingNullToPrimitivesPermitted = bindingNullToPrimitivesPermitted;
+        preparers = new ResolutionCache<>();
     }
 
     @Override
@@ -38,7 +38,7 @@ import org.jdbi.v3.core.statement.StatementContext;
 @Deprecated
 public class ObjectFieldArguments extends ObjectPropertyNamedArgumentFinder {
     private static final JdbiCache<Class<?>, Map<String, Function<Object, TypedValue>>> FIELD_CACHE =
-            JdbiCaches.declare((config, beanClass) ->
+            JdbiCaches.declare("ObjectFieldArguments.fields", (config, beanClass) ->
                 Stream.of(beanClass.getFields())
                     .collect(Collectors.toMap(Field::getName, f -> {
                         QualifiedType<?> qualifiedType = QualifiedType.of(f.getType())
@@ -41,7 +41,7 @@ import org.jdbi.v3.core.statement.StatementContext;
 @Deprecated
 public class ObjectMethodArguments extends ObjectPropertyNamedArgumentFinder {
     private static final JdbiCache<Class<?>, Map<String, Function<Object, TypedValue>>> NULLARY_METHOD_CACHE =
-            JdbiCaches.declare(ObjectMethodArguments::load);
+            JdbiCaches.declare("ObjectMethodArguments.methods", ObjectMethodArguments::load);
     /**
      * @param prefix an optional prefix (we insert a '.' as a separator)
      * @param object the object to bind functions on
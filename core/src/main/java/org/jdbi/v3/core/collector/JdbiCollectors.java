@@ -20,13 +20,18 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collector;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Registry of collector factories.
  * Contains a set of collector factories, registered by the application.
  */
 public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
+    // the version of every instance holding only the built-in factories
+    private static final Object UNMODIFIED = new Object();
+
     private final List<CollectorFactory> factories = new CopyOnWriteArrayList<>();
+    private Object version = UNMODIFIED;
 
     public JdbiCollectors() {
         // TODO move to BuiltInSupportPlugin
@@ -37,14 +42,17 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
         register(new OptionalPrimitiveCollectorFactory());
         register(new ArrayCollectorFactory());
         register(new EnumSetCollectorFactory());
+        version = UNMODIFIED;
     }
 
     private JdbiCollectors(JdbiCollectors that) {
         factories.addAll(that.factories);
+        version = that.version;
     }
 
     public JdbiCollectors register(CollectorFactory factory) {
         factories.add(0, factory);
+        version = new Object();
         return this;
     }
 
@@ -76,6 +84,18 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
                 .findFirst();
     }
 
+    /**
+     * Returns a token identifying the current configuration, for caching values derived from
+     * the collectors it finds. A copy shares the token of its original until either of them is
+     * modified.
+     *
+     * @return the configuration version
+     */
+    @Beta
+    public Object getVersion() {
+        return version;
+    }
+
     @Override
     public JdbiCollectors createCopy() {
         return new JdbiCollectors(this);
@@ -13,8 +13,9 @@
  */
 package org.jdbi.v3.core.config;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.jdbi.v3.core.argument.Arguments;
@@ -24,17 +25,30 @@ import org.jdbi.v3.core.statement.SqlStatements;
 
 /**
  * A registry of {@link JdbiConfig} instances by type.
+ * <p>
+ * A copy of a registry sees the configs of the original as they were when the copy was made. Instead of copying
+ * every config, {@link #createCopy()} shares a snapshot of the original's configs between its copies, and a copy
+ * only calls {@link JdbiConfig#createCopy()} for a config type the first time it is requested from the copy. The
+ * snapshot is taken again, for the types requested from the original since, once the original has been used
+ * in between. Changes to a config must therefore be made on an instance obtained from {@link #get(Class)} after
+ * the last copy was made; an instance held across a copy may already be part of the snapshot.
  *
  * @see Configurable
  */
 public final class ConfigRegistry {
     private final Object createLock = new Object();
-    private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs = new ConcurrentHashMap<>();
+    private final Map<Class<? extends JdbiConfig<?>>, Slot> configs = new ConcurrentHashMap<>();
+    // snapshot of the registry this one was copied from, never changed
+    private final Map<Class<?>, JdbiConfig<?>> inherited;
+    // snapshot shared by copies of this registry, guarded by createLock
+    private Map<Class<?>, JdbiConfig<?>> snapshot;
+    private volatile boolean changed;
 
     /**
      * Creates a new config registry.
      */
     public ConfigRegistry() {
+        inherited = Collections.emptyMap();
         get(JdbiCaches.class);
         get(SqlStatements.class);
         get(Arguments.class);
@@ -42,12 +56,8 @@ public final class ConfigRegistry {
         get(ColumnMappers.class);
     }
 
-    private ConfigRegistry(ConfigRegistry that) {
-        that.configs.forEach((type, config) -> {
-            JdbiConfig<?> copy = config.createCopy();
-            configs.put(type, copy);
-        });
-        configs.values().forEach(c -> c.setRegistry(this));
+    private ConfigRegistry(Map<Class<?>, JdbiConfig<?>> inherited) {
+        this.inherited = inherited;
     }
 
     /**
@@ -60,24 +70,48 @@ public final class ConfigRegistry {
      */
     public <C extends JdbiConfig<C>> C get(Class<C> configClass) {
         // we would computeIfAbsent if not for JDK-8062841 >:(
-        final JdbiConfig<?> lookup = configs.get(configClass);
+        final Slot lookup = configs.get(configClass);
         if (lookup != null) {
-            return configClass.cast(lookup);
+            // the caller may change the config, so later copies must not reuse its snapshot
+            if (lookup.snapshotted) {
+                lookup.snapshotted = false;
+                changed = true;
+            }
+            return configClass.cast(lookup.config);
         }
         synchronized (createLock) {
+            final Slot existing = configs.get(configClass);
+            if (existing != null) {
+                existing.snapshotted = false;
+                changed = true;
+                return configClass.cast(existing.config);
+            }
+            final JdbiConfig<?> original = inherited.get(configClass);
+            final C config = original == null ? instantiate(configClass) : copyOf(configClass, original);
+            configs.put(configClass, new Slot(config));
+            changed = true;
+            return config;
+        }
+    }
+
+    private <C extends JdbiConfig<C>> C copyOf(Class<C> configClass, JdbiConfig<?> original) {
+        final C config = configClass.cast(original.createCopy());
+        config.setRegistry(this);
+        return config;
+    }
+
+    private <C extends JdbiConfig<C>> C instantiate(Class<C> configClass) {
+        try {
             try {
-                C config;
-                try {
-                    config = configClass.getDeclaredConstructor(ConfigRegistry.class).newInstance(this);
-                } catch (NoSuchMethodException e) {
-                    config = configClass.getDeclaredConstructor().newInstance();
-                    config.setRegistry(this);
-                }
-                return Optional.ofNullable(configClass.cast(configs.putIfAbsent(configClass, config))).orElse(config);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Unable to instantiate config class " + configClass
-                    + ". Is there a public no-arg constructor?", e);
+                return configClass.getDeclaredConstructor(ConfigRegistry.class).newInstance(this);
+            } catch (NoSuchMethodException e) {
+                C config = configClass.getDeclaredConstructor().newInstance();
+                config.setRegistry(this);
+                return config;
             }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to instantiate config class " + configClass
+                + ". Is there a public no-arg constructor?", e);
         }
     }
 
@@ -86,9 +120,40 @@ public final class ConfigRegistry {
      *
      * @return a copy of this config registry
      * @see JdbiConfig#createCopy() config objects in the returned registry are copies of the corresponding
-     * config objects from this registry.
+     * config objects from this registry as they are now, created when first requested.
      */
     public ConfigRegistry createCopy() {
-        return new ConfigRegistry(this);
+        return new ConfigRegistry(snapshot());
+    }
+
+    private Map<Class<?>, JdbiConfig<?>> snapshot() {
+        synchronized (createLock) {
+            if (snapshot == null || changed) {
+                changed = false;
+                final Map<Class<?>, JdbiConfig<?>> previous = snapshot;
+                final Map<Class<?>, JdbiConfig<?>> next = new HashMap<>(inherited);
+                configs.forEach((type, slot) -> {
+                    if (slot.snapshotted) {
+                        next.put(type, previous.get(type));
+                    } else {
+                        // marked first, so that a request racing with the copy takes the next snapshot again
+                        slot.snapshotted = true;
+                        next.put(type, slot.config.createCopy());
+                    }
+                });
+                snapshot = Collections.unmodifiableMap(next);
+            }
+            return snapshot;
+        }
+    }
+
+    private static final class Slot {
+        private final JdbiConfig<?> config;
+        // whether the current snapshot holds a copy of the config, and it was not requested since
+        private volatile boolean snapshotted;
+
+        private Slot(JdbiConfig<?> config) {
+            this.config = config;
+        }
     }
 }
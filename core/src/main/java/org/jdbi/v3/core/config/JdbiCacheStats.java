@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import java.util.Objects;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A snapshot of the statistics of a cache declared through {@link JdbiCaches}.
+ */
+@Beta
+public final class JdbiCacheStats {
+    private static final JdbiCacheStats EMPTY = new JdbiCacheStats(0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long evictionCount;
+
+    JdbiCacheStats(long hitCount, long missCount, long loadCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * @return statistics with all counts zero
+     */
+    public static JdbiCacheStats empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the number of lookups which found a cached value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups which did not find a cached value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of lookups
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return the number of values computed, whether successfully or not
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * @return the number of values evicted by the cache bound
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @param other statistics to add
+     * @return the sum of these and the other statistics
+     */
+    public JdbiCacheStats plus(JdbiCacheStats other) {
+        return new JdbiCacheStats(
+            hitCount + other.hitCount,
+            missCount + other.missCount,
+            loadCount + other.loadCount,
+            evictionCount + other.evictionCount);
+    }
+
+    /**
+     * @param other earlier statistics of the same cache
+     * @return the statistics recorded since the other statistics, never negative
+     */
+    public JdbiCacheStats minus(JdbiCacheStats other) {
+        return new JdbiCacheStats(
+            Math.max(0, hitCount - other.hitCount),
+            Math.max(0, missCount - other.missCount),
+            Math.max(0, loadCount - other.loadCount),
+            Math.max(0, evictionCount - other.evictionCount));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JdbiCacheStats)) {
+            return false;
+        }
+        JdbiCacheStats that = (JdbiCacheStats) o;
+        return hitCount == that.hitCount
+            && missCount == that.missCount
+            && loadCount == that.loadCount
+            && evictionCount == that.evictionCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hitCount, missCount, loadCount, evictionCount);
+    }
+
+    @Override
+    public String toString() {
+        return "JdbiCacheStats[hits=" + hitCount + ", misses=" + missCount
+            + ", loads=" + loadCount + ", evictions=" + evictionCount + "]";
+    }
+}
@@ -13,11 +13,20 @@
  */
 package org.jdbi.v3.core.config;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.jdbi.v3.meta.Beta;
 
 /**
@@ -25,13 +34,19 @@ import org.jdbi.v3.meta.Beta;
  * For example, bean property accessors, or normalized enum constants.
  * Note that unlike most JdbiConfig types, this cache is Jdbi level and shared,
  * so it should not hold data that needs to respect reconfiguration.
- * Additionally, currently there is no expiration policy, as nearly all keys are
- * references to JVM constant pool entries.
- * <b>This makes it unsuitable as a general-purpose shared cache.</b>
+ * <p>
+ * Caches are unbounded by default, as nearly all keys are references to JVM
+ * constant pool entries. Caches declared with a name may be given a size,
+ * weight or expiry bound through {@link #configure(String, String)}, and report
+ * their statistics through {@link #stats()}. Caches backed by dynamic keys,
+ * such as rendered templates, should be bounded in long running applications,
+ * and may be declared with a default bound.
+ * <b>This still makes it unsuitable as a general-purpose shared cache.</b>
  */
 @Beta
 public final class JdbiCaches implements JdbiConfig<JdbiCaches> {
-    private final Map<JdbiCache<?, ?>, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+    private final Map<DeclaredCache<?, ?>, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<Caffeine<Object, Object>>> specs = new ConcurrentHashMap<>();
 
     /**
      * Does not actually create a copy!!
@@ -54,14 +69,240 @@ public final class JdbiCaches implements JdbiConfig<JdbiCaches> {
     }
 
     public static <K, V> JdbiCache<K, V> declare(Function<K, ?> keyNormalizer, BiFunction<ConfigRegistry, K, V> computer) {
-        return new JdbiCache<K, V>() {
-            @SuppressWarnings("unchecked")
-            @Override
-            public V get(K key, ConfigRegistry config) {
-                return (V) config.get(JdbiCaches.class).caches
-                        .computeIfAbsent(this, x -> new ConcurrentHashMap<>())
-                        .computeIfAbsent(keyNormalizer.apply(key), x -> computer.apply(config, key));
-            }
+        return new DeclaredCache<>(null, null, keyNormalizer, computer);
+    }
+
+    /**
+     * Declare a named cache.
+     *
+     * @param name the cache name
+     * @param computer computes a value for a missing key
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the declared cache
+     * @see #declare(String, Function, BiFunction)
+     */
+    public static <K, V> JdbiCache<K, V> declare(String name, Function<K, V> computer) {
+        return declare(name, Function.identity(), (config, k) -> computer.apply(k));
+    }
+
+    /**
+     * Declare a named cache.
+     *
+     * @param name the cache name
+     * @param computer computes a value for a missing key
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the declared cache
+     * @see #declare(String, Function, BiFunction)
+     */
+    public static <K, V> JdbiCache<K, V> declare(String name, BiFunction<ConfigRegistry, K, V> computer) {
+        return declare(name, Function.identity(), computer);
+    }
+
+    /**
+     * Declare a named cache. The name identifies the cache for {@link #configure(String, String)}
+     * and {@link #stats()}.
+     *
+     * @param name the cache name
+     * @param keyNormalizer maps keys to the value actually used for lookup
+     * @param computer computes a value for a missing key
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the declared cache
+     */
+    public static <K, V> JdbiCache<K, V> declare(String name, Function<K, ?> keyNormalizer, BiFunction<ConfigRegistry, K, V> computer) {
+        return new DeclaredCache<>(Objects.requireNonNull(name, "name"), null, keyNormalizer, computer);
+    }
+
+    /**
+     * Declare a named cache which is bounded by default. Use this for caches keyed by
+     * dynamic values. A bound given through {@link #configure(String, String)} replaces
+     * the default one.
+     *
+     * @param name the cache name
+     * @param defaultSpec the default Caffeine specification, for example {@code "maximumSize=1000"}
+     * @param computer computes a value for a missing key
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the declared cache
+     */
+    public static <K, V> JdbiCache<K, V> declare(String name, String defaultSpec, BiFunction<ConfigRegistry, K, V> computer) {
+        return new DeclaredCache<>(Objects.requireNonNull(name, "name"), spec(defaultSpec), Function.identity(), computer);
+    }
+
+    /**
+     * Bound the named cache according to a Caffeine specification, for example
+     * {@code "maximumSize=1000,expireAfterAccess=10m"}. Any entries already cached
+     * under this name are discarded.
+     *
+     * @param name the cache name
+     * @param spec the cache specification
+     * @return this
+     * @see com.github.benmanes.caffeine.cache.CaffeineSpec
+     */
+    public JdbiCaches configure(String name, String spec) {
+        return configure(name, spec(spec));
+    }
+
+    /**
+     * Bound the named cache by customizing a Caffeine builder, for example to set
+     * a {@link Caffeine#weigher(com.github.benmanes.caffeine.cache.Weigher) weigher}.
+     * Statistics are always recorded, so the customizer must not call
+     * {@link Caffeine#recordStats()}. Any entries already cached under this name
+     * are discarded.
+     *
+     * @param name the cache name
+     * @param customizer customizes the cache builder
+     * @return this
+     */
+    public JdbiCaches configure(String name, Consumer<Caffeine<Object, Object>> customizer) {
+        return configure(name, () -> {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+            customizer.accept(builder);
+            return builder;
+        });
+    }
+
+    private static Supplier<Caffeine<Object, Object>> spec(String spec) {
+        CaffeineSpec parsed = CaffeineSpec.parse(spec);
+        boolean statsInSpec = Arrays.asList(parsed.toParsableString().split(",")).contains("recordStats");
+        return () -> {
+            Caffeine<Object, Object> builder = Caffeine.from(parsed);
+            return statsInSpec ? builder : builder.recordStats();
         };
     }
+
+    private JdbiCaches configure(String name, Supplier<Caffeine<Object, Object>> spec) {
+        specs.put(Objects.requireNonNull(name, "name"), spec);
+        caches.keySet().removeIf(cache -> name.equals(cache.name));
+        return this;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of all named caches in use. Caches declared
+     * more than once under the same name report their combined statistics.
+     *
+     * @return cache statistics by cache name
+     */
+    public Map<String, JdbiCacheStats> stats() {
+        Map<String, JdbiCacheStats> result = new TreeMap<>();
+        caches.forEach((cache, impl) -> {
+            if (cache.name != null) {
+                result.merge(cache.name, stats(impl), JdbiCacheStats::plus);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @param cache the cache
+     * @return the statistics of the given cache
+     */
+    public JdbiCacheStats stats(JdbiCache<?, ?> cache) {
+        Cache<Object, Object> impl = caches.get(declared(cache));
+        return impl == null ? JdbiCacheStats.empty() : stats(impl);
+    }
+
+    private static JdbiCacheStats stats(Cache<Object, Object> impl) {
+        CacheStats stats = impl.stats();
+        return new JdbiCacheStats(stats.hitCount(), stats.missCount(), stats.loadCount(), stats.evictionCount());
+    }
+
+    /**
+     * Discard a single cached entry, for example after reloading the class it describes.
+     *
+     * @param cache the cache
+     * @param key the key to discard
+     * @param <K> the key type
+     */
+    public <K> void invalidate(JdbiCache<K, ?> cache, K key) {
+        DeclaredCache<K, ?> declared = declared(cache);
+        Cache<Object, Object> impl = caches.get(declared);
+        if (impl != null) {
+            impl.invalidate(declared.keyNormalizer.apply(key));
+        }
+    }
+
+    /**
+     * Discard a single cached entry from every cache declared under the given name.
+     * This is how entries of caches private to Jdbi or a plugin are invalidated.
+     *
+     * @param name the cache name
+     * @param key the key to discard, of the key type of the named cache
+     */
+    @SuppressWarnings("unchecked")
+    public void invalidate(String name, Object key) {
+        caches.forEach((cache, impl) -> {
+            if (name.equals(cache.name)) {
+                impl.invalidate(((Function<Object, ?>) cache.keyNormalizer).apply(key));
+            }
+        });
+    }
+
+    /**
+     * Discard all entries of a cache.
+     *
+     * @param cache the cache
+     */
+    public void invalidateAll(JdbiCache<?, ?> cache) {
+        Cache<Object, Object> impl = caches.get(declared(cache));
+        if (impl != null) {
+            impl.invalidateAll();
+        }
+    }
+
+    /**
+     * Discard all entries of all caches.
+     */
+    public void invalidateAll() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+
+    private Cache<Object, Object> cacheFor(DeclaredCache<?, ?> cache) {
+        Cache<Object, Object> impl = caches.get(cache);
+        if (impl != null) {
+            return impl;
+        }
+        return caches.computeIfAbsent(cache, c -> {
+            Supplier<Caffeine<Object, Object>> spec = c.name == null ? null : specs.getOrDefault(c.name, c.defaultSpec);
+            return spec == null
+                ? Caffeine.newBuilder().recordStats().build()
+                : spec.get().build();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> DeclaredCache<K, ?> declared(JdbiCache<K, ?> cache) {
+        if (cache instanceof DeclaredCache) {
+            return (DeclaredCache<K, ?>) cache;
+        }
+        throw new IllegalArgumentException("Cache was not declared through JdbiCaches: " + cache);
+    }
+
+    private static final class DeclaredCache<K, V> implements JdbiCache<K, V> {
+        private final String name;
+        private final Supplier<Caffeine<Object, Object>> defaultSpec;
+        private final Function<K, ?> keyNormalizer;
+        private final BiFunction<ConfigRegistry, K, V> computer;
+
+        DeclaredCache(String name, Supplier<Caffeine<Object, Object>> defaultSpec, Function<K, ?> keyNormalizer, BiFunction<ConfigRegistry, K, V> computer) {
+            this.name = name;
+            this.defaultSpec = defaultSpec;
+            this.keyNormalizer = keyNormalizer;
+            this.computer = computer;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V get(K key, ConfigRegistry config) {
+            return (V) config.get(JdbiCaches.class).cacheFor(this)
+                    .get(keyNormalizer.apply(key), x -> computer.apply(config, key));
+        }
+
+        @Override
+        public String toString() {
+            return name == null ? super.toString() : "JdbiCache[" + name + "]";
+        }
+    }
 }
@@ -13,6 +13,9 @@
  */
 package org.jdbi.v3.core.extension;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.meta.Beta;
+
 /**
  * Factory interface used to produce Jdbi extension objects.
  */
@@ -36,4 +39,15 @@ public interface ExtensionFactory {
      * @see org.jdbi.v3.core.Jdbi#onDemand(Class)
      */
     <E> E attach(Class<E> extensionType, HandleSupplier handle);
+
+    /**
+     * Prepare everything the factory needs to attach extensions of the given type, so that the first
+     * extension attached does not pay for it. The default implementation does nothing.
+     *
+     * @param extensionType the extension type
+     * @param config        the configuration extensions will be attached with
+     * @see org.jdbi.v3.core.Jdbi#warmUp(Class[])
+     */
+    @Beta
+    default void warmUp(Class<?> extensionType, ConfigRegistry config) {}
 }
@@ -17,7 +17,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.internal.ResolutionCache;
 import org.jdbi.v3.meta.Beta;
 
 /**
@@ -26,6 +28,7 @@ import org.jdbi.v3.meta.Beta;
  */
 public class Extensions implements JdbiConfig<Extensions> {
     private final List<ExtensionFactory> factories = new CopyOnWriteArrayList<>();
+    private ResolutionCache<Class<?>, ExtensionFactory> cache = new ResolutionCache<>();
     private boolean allowProxy = true;
 
     /**
@@ -40,6 +43,7 @@ public class Extensions implements JdbiConfig<Extensions> {
     private Extensions(Extensions that) {
         allowProxy = that.allowProxy;
         factories.addAll(that.factories);
+        cache = that.cache.copy();
     }
 
     /**
@@ -49,6 +53,7 @@ public class Extensions implements JdbiConfig<Extensions> {
      */
     public Extensions register(ExtensionFactory factory) {
         factories.add(0, factory);
+        cache = new ResolutionCache<>();
         return this;
     }
 
@@ -73,10 +78,24 @@ public class Extensions implements JdbiConfig<Extensions> {
                 .map(factory -> factory.attach(extensionType, handle));
     }
 
+    /**
+     * Have the factory for the given extension type prepare to attach it.
+     * @param extensionType the extension type to prepare
+     * @param config the configuration extensions will be attached with
+     * @throws NoSuchExtensionException if no registered factory handles the type
+     * @see ExtensionFactory#warmUp(Class, ConfigRegistry)
+     */
+    @Beta
+    public void warmUp(Class<?> extensionType, ConfigRegistry config) {
+        findFactoryFor(extensionType)
+                .orElseThrow(() -> new NoSuchExtensionException(extensionType))
+                .warmUp(extensionType, config);
+    }
+
     private Optional<ExtensionFactory> findFactoryFor(Class<?> extensionType) {
-        return factories.stream()
-                .filter(factory -> factory.accepts(extensionType))
-                .findFirst();
+        return cache.get(extensionType, type -> factories.stream()
+                .filter(factory -> factory.accepts(type))
+                .findFirst());
     }
 
     /**
@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Memoizes the factory lookups of a registry config, such as the column mapper for a type,
+ * including negative results.
+ * <p>
+ * The results are shared by the config and all of its copies, so that a result resolved
+ * through any copy, such as the one of a statement, serves every later copy. Results may also
+ * depend on other configs, which a copy may have changed: lookups pass the versions of those,
+ * and results are shared for the first few combinations of versions looked up. A copy looking
+ * up with yet other versions resolves its results apart, sharing them only with its own copies.
+ * <p>
+ * Owners must replace their cache whenever a factory is registered, either with a new one or with the one
+ * {@link #register(Object)} returns. The latter is shared by the copies registering equal factories in the same
+ * order, so that configs configured the same way over and over, such as those of SQL Objects, resolve each
+ * lookup once.
+ *
+ * @param <K> the looked up type
+ * @param <V> the resolved value
+ */
+public final class ResolutionCache<K, V> {
+    private static final Object[] NO_DEPENDENCIES = new Object[0];
+    private static final int MAX_SHARED = 4;
+    private static final int MAX_REGISTRATIONS = 16;
+
+    private final Lineage<K, V> lineage;
+    private volatile Environment<K, V> local;
+
+    public ResolutionCache() {
+        this(new Lineage<>(), null);
+    }
+
+    private ResolutionCache(Lineage<K, V> lineage, Environment<K, V> local) {
+        this.lineage = lineage;
+        this.local = local;
+    }
+
+    /**
+     * @return a cache for a copy of the owning config
+     */
+    public ResolutionCache<K, V> copy() {
+        return new ResolutionCache<>(lineage, local);
+    }
+
+    /**
+     * Returns the cache to use once a factory is registered, shared with the other copies which registered an
+     * equal factory, up to a limit.
+     *
+     * @param factory the registered factory
+     * @return a cache for the owning config with the factory registered
+     */
+    public ResolutionCache<K, V> register(Object factory) {
+        Lineage<K, V> registered = lineage.registrations.get(factory);
+        if (registered == null && lineage.registrations.size() < MAX_REGISTRATIONS) {
+            registered = lineage.registrations.computeIfAbsent(factory, f -> new Lineage<>());
+        }
+        return new ResolutionCache<>(registered == null ? new Lineage<>() : registered, null);
+    }
+
+    /**
+     * Returns the memoized result for the key, resolving it if missing.
+     *
+     * @param key the key
+     * @param resolver resolves a missing key, without reading other configs
+     * @return the result
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> resolver) {
+        return get(key, resolver, NO_DEPENDENCIES);
+    }
+
+    /**
+     * Returns the memoized result for the key, resolving it if missing.
+     * ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls, and since
+     * factories can decorate the results of other lookups, the map is populated the old fashioned way.
+     * See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
+     *
+     * @param key the key
+     * @param resolver resolves a missing key
+     * @param dependencies the versions of the other configs the resolver reads
+     * @return the result
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> resolver, Object... dependencies) {
+        final ConcurrentHashMap<K, Optional<V>> results = resultsFor(dependencies);
+        final Optional<V> result = results.get(key);
+        if (result != null) {
+            return result;
+        }
+        final Optional<V> resolved = resolver.apply(key);
+        results.put(key, resolved);
+        return resolved;
+    }
+
+    private ConcurrentHashMap<K, Optional<V>> resultsFor(Object[] dependencies) {
+        while (true) {
+            final Environment<K, V>[] current = lineage.environments.get();
+            for (Environment<K, V> environment : current) {
+                if (Arrays.equals(environment.dependencies, dependencies)) {
+                    return environment.results;
+                }
+            }
+            if (current.length == MAX_SHARED) {
+                break;
+            }
+            final Environment<K, V>[] added = Arrays.copyOf(current, current.length + 1);
+            added[current.length] = new Environment<>(dependencies);
+            if (lineage.environments.compareAndSet(current, added)) {
+                return added[current.length].results;
+            }
+        }
+        Environment<K, V> environment = local;
+        if (environment == null || !Arrays.equals(environment.dependencies, dependencies)) {
+            environment = new Environment<>(dependencies);
+            local = environment;
+        }
+        return environment.results;
+    }
+
+    /**
+     * The results shared by the caches of configs with the same factories registered.
+     */
+    private static final class Lineage<K, V> {
+        @SuppressWarnings("unchecked")
+        private final AtomicReference<Environment<K, V>[]> environments = new AtomicReference<>(new Environment[0]);
+        private final ConcurrentHashMap<Object, Lineage<K, V>> registrations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The results resolved with one combination of dependency versions.
+     */
+    private static final class Environment<K, V> {
+        private final Object[] dependencies;
+        private final ConcurrentHashMap<K, Optional<V>> results = new ConcurrentHashMap<>();
+
+        Environment(Object[] dependencies) {
+            this.dependencies = dependencies.clone();
+        }
+    }
+}
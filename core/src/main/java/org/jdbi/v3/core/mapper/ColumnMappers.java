@@ -16,15 +16,17 @@ package org.jdbi.v3.core.mapper;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.jdbi.v3.core.array.SqlArrayMapperFactory;
+import org.jdbi.v3.core.collector.JdbiCollectors;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.enums.Enums;
 import org.jdbi.v3.core.enums.internal.EnumMapperFactory;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.internal.JdbiOptionals;
+import org.jdbi.v3.core.internal.ResolutionCache;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.meta.Beta;
 
@@ -32,9 +34,13 @@ import org.jdbi.v3.meta.Beta;
  * Configuration registry for {@link ColumnMapperFactory} instances.
  */
 public class ColumnMappers implements JdbiConfig<ColumnMappers> {
+    // new instances are all configured alike, so they share a version
+    private static final Object UNMODIFIED = new Object();
+
     private final List<QualifiedColumnMapperFactory> factories = new CopyOnWriteArrayList<>();
-    private final ConcurrentHashMap<QualifiedType<?>, ColumnMapper<?>> cache = new ConcurrentHashMap<>();
+    private ResolutionCache<QualifiedType<?>, ColumnMapper<?>> cache = new ResolutionCache<>();
     private boolean coalesceNullPrimitivesToDefaults = true;
+    private Object version = UNMODIFIED;
     private ConfigRegistry registry;
 
     public ColumnMappers() {
@@ -49,6 +55,7 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         register(new OptionalMapperFactory());
         register(new EnumMapperFactory());
         register(new NVarcharMapper());
+        version = UNMODIFIED;
     }
 
     @Override
@@ -58,8 +65,9 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
 
     private ColumnMappers(ColumnMappers that) {
         factories.addAll(that.factories);
-        cache.putAll(that.cache);
+        cache = that.cache.copy();
         coalesceNullPrimitivesToDefaults = that.coalesceNullPrimitivesToDefaults;
+        version = that.version;
     }
 
     /**
@@ -138,7 +146,8 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     @Beta
     public ColumnMappers register(QualifiedColumnMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        cache = new ResolutionCache<>();
+        version = new Object();
         return this;
     }
 
@@ -186,23 +195,13 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
      */
     @Beta
     public <T> Optional<ColumnMapper<T>> findFor(QualifiedType<T> type) {
-        // ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls.
-        // Since column mappers can decorate other column mappers, we have to populate the cache the old fashioned way.
-        // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
-        @SuppressWarnings("unchecked")
-        ColumnMapper<T> cached = (ColumnMapper<T>) cache.get(type);
-
-        if (cached != null) {
-            return Optional.of(cached);
-        }
-
-        Optional<ColumnMapper<T>> mapper = factories.stream()
-                .flatMap(factory -> JdbiOptionals.stream(factory.build(type, registry)))
-                .findFirst()
-                .map(m -> (ColumnMapper<T>) m);
-
-        mapper.ifPresent(m -> cache.put(type, m));
-
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Optional<ColumnMapper<T>> mapper = (Optional) cache.get(type, t -> factories.stream()
+                .flatMap(factory -> JdbiOptionals.stream(factory.build(t, registry)))
+                .findFirst(),
+            // read by the built-in enum and array mapper factories
+            registry.get(Enums.class).getDefaultStrategy(),
+            registry.get(JdbiCollectors.class).getVersion());
         return mapper;
     }
 
@@ -217,6 +216,20 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
 
     public void setCoalesceNullPrimitivesToDefaults(boolean coalesceNullPrimitivesToDefaults) {
         this.coalesceNullPrimitivesToDefaults = coalesceNullPrimitivesToDefaults;
+        cache = new ResolutionCache<>();
+        version = new Object();
+    }
+
+    /**
+     * Returns a token identifying the current configuration, for caching values derived from
+     * the mappers it finds. A copy shares the token of its original until either of them is
+     * modified.
+     *
+     * @return the configuration version
+     */
+    @Beta
+    public Object getVersion() {
+        return version;
     }
 
     @Override
@@ -63,8 +63,8 @@ public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
 
     static class EnumByNameColumnMapper<E extends Enum<E>> implements ColumnMapper<E> {
         private static final JdbiCache<Class<? extends Enum<?>>, JdbiCache<String, Enum<?>>> BY_NAME_CACHE =
-                JdbiCaches.declare(e -> JdbiCaches.declare(
-                        name -> e.cast(getValueByName(e, name))));
+                JdbiCaches.declare("EnumMapper.byName", e -> JdbiCaches.declare("EnumMapper.byName.values",
+                        "maximumSize=1000", (config, name) -> e.cast(getValueByName(e, name))));
         private final Class<E> enumClass;
 
         private EnumByNameColumnMapper(Class<E> enumClass) {
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Decorate a bean, a type mapped through its constructor, or an Immutables value type to
+ * instruct the {@code jdbi3-generator} annotation processor to create a compiled
+ * {@link RowMapper} named after the type, for example {@code UserRowMapper} for {@code User}.
+ * <p>
+ * The generated mapper matches columns to properties like
+ * {@link org.jdbi.v3.core.mapper.reflect.BeanMapper} and
+ * {@link org.jdbi.v3.core.mapper.reflect.ConstructorMapper} do, but calls the setters,
+ * constructor or builder directly, without introspecting the type at runtime.
+ * Register it through its static {@code factory()} method:
+ * <pre>
+ * jdbi.registerRowMapper(UserRowMapper.factory());
+ * </pre>
+ * Primitive properties are set to their default value when their column is {@code NULL}. Immutables
+ * builders are named following the {@code @Value.Style} of the type, its enclosing types or its package.
+ * Nested properties and qualified column mappers are not supported.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Beta
+public @interface GenerateRowMapper {}
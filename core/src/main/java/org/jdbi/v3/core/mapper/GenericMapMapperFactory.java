@@ -19,7 +19,6 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -102,14 +101,14 @@ public class GenericMapMapperFactory implements RowMapperFactory {
 
         @Override
         public RowMapper<Map<String, T>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-            List<String> keyNames = getMapKeys(rs.getMetaData(), ctx.getConfig(MapMappers.class).getCaseChange());
+            RowMap.Keys keys = new RowMap.Keys(getMapKeys(rs.getMetaData(), ctx.getConfig(MapMappers.class).getCaseChange()));
+            int columnCount = keys.size();
 
             return (r, c) -> {
-                Map<String, T> row = new HashMap<>();
+                RowMap<T> row = new RowMap<>(keys);
 
-                for (int i = 0; i < keyNames.size(); i++) {
-                    T value = mapper.map(r, i + 1, ctx);
-                    row.put(keyNames.get(i), value);
+                for (int i = 0; i < columnCount; i++) {
+                    row.setValue(i, mapper.map(r, i + 1, c));
                 }
 
                 return row;
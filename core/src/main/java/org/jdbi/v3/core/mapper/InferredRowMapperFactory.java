@@ -14,6 +14,7 @@
 package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -43,4 +44,22 @@ class InferredRowMapperFactory implements RowMapperFactory {
                 ? Optional.of(mapper)
                 : Optional.empty();
     }
+
+    // equal for the same mapper, so that configs registering it share the mappers they resolve
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        InferredRowMapperFactory that = (InferredRowMapperFactory) o;
+        return mapper.equals(that.mapper);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(mapper);
+    }
 }
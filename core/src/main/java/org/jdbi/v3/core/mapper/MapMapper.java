@@ -17,7 +17,6 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +30,9 @@ import org.jdbi.v3.core.statement.StatementContext;
  * Yo dawg, I heard you like maps, so I made you a mapper that maps rows into {@code Map<String,Object>}. Map
  * keys are column names, while map values are the values in those columns. Map keys are converted to lowercase by
  * default.
+ * <p>
+ * Rows mapped from the same result set share their column names, and each row stores its values in a single array.
+ * The maps are mutable and iterate in column order.
  *
  * @see GenericMapMapperFactory
  */
@@ -64,13 +66,14 @@ public class MapMapper implements RowMapper<Map<String, Object>> {
 
     @Override
     public RowMapper<Map<String, Object>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final List<String> columnNames = getColumnNames(rs, caseStrategy.apply(ctx));
+        final RowMap.Keys keys = new RowMap.Keys(getColumnNames(rs, caseStrategy.apply(ctx)));
+        final int columnCount = keys.size();
 
         return (r, c) -> {
-            Map<String, Object> row = new LinkedHashMap<>(columnNames.size());
+            RowMap<Object> row = new RowMap<>(keys);
 
-            for (int i = 0; i < columnNames.size(); i++) {
-                row.put(columnNames.get(i), rs.getObject(i + 1));
+            for (int i = 0; i < columnCount; i++) {
+                row.setValue(i, r.getObject(i + 1));
             }
 
             return row;
@@ -0,0 +1,277 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A mutable {@link Map} holding one row of a result set. The column names and their positions are shared by
+ * all rows of the result set, so each row only stores its values in a single array instead of one entry per column.
+ * Keys which are not column names, and removed columns, are kept apart so that the full {@link Map} contract holds.
+ * Iteration follows column order, followed by any added keys in insertion order.
+ */
+final class RowMap<V> extends AbstractMap<String, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final Object ABSENT = new Object();
+
+    private final transient Keys keys;
+    private final Object[] values;
+    private int absent;
+    private Map<String, V> added;
+
+    RowMap(Keys keys) {
+        this.keys = keys;
+        this.values = new Object[keys.size()];
+    }
+
+    // fills in the value of a column while the row is mapped
+    void setValue(int index, V value) {
+        values[index] = value;
+    }
+
+    @Override
+    public int size() {
+        return values.length - absent + (added == null ? 0 : added.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            return !ABSENT.equals(values[index]);
+        }
+        return added != null && added.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            return valueAt(index);
+        }
+        return added == null ? null : added.get(key);
+    }
+
+    @Override
+    public V put(String key, V value) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            V old = valueAt(index);
+            if (ABSENT.equals(values[index])) {
+                absent--;
+            }
+            values[index] = value;
+            return old;
+        }
+        if (added == null) {
+            added = new LinkedHashMap<>();
+        }
+        return added.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            V old = valueAt(index);
+            removeAt(index);
+            return old;
+        }
+        return added == null ? null : added.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ABSENT;
+        }
+        absent = values.length;
+        added = null;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        Object value = values[index];
+        return ABSENT.equals(value) ? null : (V) value;
+    }
+
+    private void removeAt(int index) {
+        if (!ABSENT.equals(values[index])) {
+            values[index] = ABSENT;
+            absent++;
+        }
+    }
+
+    // rows are serialized as plain maps, so readers do not need the shared key table
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    /**
+     * The column names of a result set, and their positions, shared by all rows mapped from it.
+     */
+    static final class Keys {
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+
+        Keys(List<String> names) {
+            this.names = names.toArray(new String[0]);
+            this.indexes = new HashMap<>(names.size() * 4 / 3 + 1);
+            for (int i = 0; i < this.names.length; i++) {
+                indexes.put(this.names[i], i);
+            }
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        int indexOf(Object name) {
+            Integer index = indexes.get(name);
+            return index == null ? -1 : index;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, V>> {
+        @Override
+        public int size() {
+            return RowMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            RowMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+        private int next = skipAbsent(0);
+        private int last = -1;
+        private boolean lastAdded;
+        private Iterator<Entry<String, V>> addedIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (next < values.length) {
+                return true;
+            }
+            if (addedIterator == null) {
+                if (added == null) {
+                    return false;
+                }
+                addedIterator = added.entrySet().iterator();
+            }
+            return addedIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if (next < values.length) {
+                last = next;
+                next = skipAbsent(next + 1);
+                return new ColumnEntry(last);
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = -1;
+            lastAdded = true;
+            return addedIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastAdded) {
+                addedIterator.remove();
+                return;
+            }
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            last = -1;
+        }
+
+        private int skipAbsent(int from) {
+            int index = from;
+            while (index < values.length && ABSENT.equals(values[index])) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    private final class ColumnEntry implements Entry<String, V> {
+        private final int index;
+
+        private ColumnEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys.names[index];
+        }
+
+        @Override
+        public V getValue() {
+            return valueAt(index);
+        }
+
+        @Override
+        public V setValue(V value) {
+            return put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> that = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -16,14 +16,17 @@ package org.jdbi.v3.core.mapper;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.jdbi.v3.core.collector.JdbiCollectors;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.enums.Enums;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.internal.JdbiOptionals;
+import org.jdbi.v3.core.internal.ResolutionCache;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoMapperFactory;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoTypes;
 import org.jdbi.v3.core.statement.Query;
 
 /**
@@ -31,7 +34,7 @@ import org.jdbi.v3.core.statement.Query;
  */
 public class RowMappers implements JdbiConfig<RowMappers> {
     private final List<RowMapperFactory> factories = new CopyOnWriteArrayList<>();
-    private final ConcurrentHashMap<Type, RowMapper<?>> cache = new ConcurrentHashMap<>();
+    private ResolutionCache<Type, RowMapper<?>> cache = new ResolutionCache<>();
     private ConfigRegistry registry;
 
     public RowMappers() {
@@ -41,7 +44,7 @@ public class RowMappers implements JdbiConfig<RowMappers> {
 
     private RowMappers(RowMappers that) {
         factories.addAll(that.factories);
-        cache.putAll(that.cache);
+        cache = that.cache.copy();
     }
 
     @Override
@@ -97,7 +100,7 @@ public class RowMappers implements JdbiConfig<RowMappers> {
      */
     public RowMappers register(RowMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        cache = cache.register(factory);
         return this;
     }
 
@@ -134,22 +137,17 @@ public class RowMappers implements JdbiConfig<RowMappers> {
      * @return a RowMapper for the given type, or empty if no row mapper is registered for the given type.
      */
     public Optional<RowMapper<?>> findFor(Type type) {
-        // ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls.
-        // Since row mappers can decorate other row mappers, we have to populate the cache the old fashioned way.
-        // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
-        RowMapper<?> cached = cache.get(type);
-
-        if (cached != null) {
-            return Optional.of(cached);
-        }
-
-        Optional<RowMapper<?>> mapper = factories.stream()
-                .flatMap(factory -> JdbiOptionals.stream(factory.build(type, registry)))
-                .findFirst();
-
-        mapper.ifPresent(m -> cache.put(type, m));
-
-        return mapper;
+        final MapEntryMappers mapEntryMappers = registry.get(MapEntryMappers.class);
+        return cache.get(type, t -> factories.stream()
+                .flatMap(factory -> JdbiOptionals.stream(factory.build(t, registry)))
+                .findFirst(),
+            // read by the built-in map entry and pojo mapper factories, and the column mappers they use
+            mapEntryMappers.getKeyColumn(),
+            mapEntryMappers.getValueColumn(),
+            registry.get(PojoTypes.class).getVersion(),
+            registry.get(ColumnMappers.class).getVersion(),
+            registry.get(Enums.class).getDefaultStrategy(),
+            registry.get(JdbiCollectors.class).getVersion());
     }
 
     @Override
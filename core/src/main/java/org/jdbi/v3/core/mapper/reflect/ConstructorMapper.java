@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.mapper.Nested;
@@ -271,6 +272,11 @@ public class ConstructorMapper<T> implements RowMapper<T> {
         final Optional<String> nullMarkerColumn =
                 Optional.ofNullable(factory.getAnnotationIncludingType(PropagateNull.class))
                     .map(PropagateNull::value);
+
+        if (ctx.getConfig(ReflectionMappers.class).isGeneratedAccessors()) {
+            return Optional.of(directMapper(ctx, count, paramData, nullMarkerColumn.orElse(null)));
+        }
+
         return Optional.of((r, c) -> {
             if (PojoMapper.propagateNull(r, nullMarkerColumn)) {
                 return null;
@@ -288,6 +294,43 @@ public class ConstructorMapper<T> implements RowMapper<T> {
         });
     }
 
+    /**
+     * Maps rows calling the instance factory through an exactly typed method handle, rather than reflection.
+     */
+    private RowMapper<T> directMapper(StatementContext ctx, int count, List<ParameterData> paramData, String nullMarkerColumn) {
+        final Function<Object[], T> newInstance = factory.directInstantiator(ctx.getConfig());
+        final int mapped = paramData.size();
+        final int[] indexes = new int[mapped];
+        final RowMapper<?>[] mappers = new RowMapper<?>[mapped];
+        final boolean[] propagateNull = new boolean[mapped];
+        final boolean[] primitive = new boolean[mapped];
+        for (int i = 0; i < mapped; i++) {
+            ParameterData p = paramData.get(i);
+            indexes[i] = p.index;
+            mappers[i] = p.mapper;
+            propagateNull[i] = p.propagateNull;
+            primitive[i] = p.isPrimitive;
+        }
+
+        return (r, c) -> {
+            if (nullMarkerColumn != null) {
+                r.getObject(nullMarkerColumn);
+                if (r.wasNull()) {
+                    return null;
+                }
+            }
+            final Object[] params = new Object[count];
+            for (int i = 0; i < mapped; i++) {
+                Object value = mappers[i].map(r, c);
+                if (propagateNull[i] && (value == null || primitive[i] && r.wasNull())) {
+                    return null;
+                }
+                params[indexes[i]] = value;
+            }
+            return newInstance.apply(params);
+        };
+    }
+
     private boolean isNullable(Parameter parameter) {
         // Any annotation named @Nullable is honored. We're nice that way.
         return Stream.of(parameter.getAnnotations())
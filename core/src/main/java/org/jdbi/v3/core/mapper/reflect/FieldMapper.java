@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.jdbi.v3.core.mapper.ColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
@@ -30,6 +32,7 @@ import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMapperFactory;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedAccessors;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
@@ -181,6 +184,11 @@ public class FieldMapper<T> implements RowMapper<T> {
         final Optional<String> nullMarkerColumn =
                 Optional.ofNullable(type.getAnnotation(PropagateNull.class))
                     .map(PropagateNull::value);
+
+        if (ctx.getConfig(ReflectionMappers.class).isGeneratedAccessors()) {
+            return Optional.of(directMapper(ctx, fields, nullMarkerColumn.orElse(null)));
+        }
+
         return Optional.of((r, c) -> {
             if (PojoMapper.propagateNull(r, nullMarkerColumn)) {
                 return null;
@@ -199,6 +207,45 @@ public class FieldMapper<T> implements RowMapper<T> {
         });
     }
 
+    /**
+     * Maps rows writing fields through exactly typed method handles, rather than reflection.
+     */
+    private RowMapper<T> directMapper(StatementContext ctx, List<FieldData> fields, String nullMarkerColumn) {
+        final Supplier<T> constructor = GeneratedAccessors.noArgsConstructor(type, ctx.getConfig()).orElse(this::construct);
+        final int count = fields.size();
+        final RowMapper<?>[] mappers = new RowMapper<?>[count];
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Object, Object>[] writers = new BiConsumer[count];
+        final boolean[] propagateNull = new boolean[count];
+        final boolean[] primitive = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            FieldData f = fields.get(i);
+            mappers[i] = f.mapper;
+            writers[i] = GeneratedAccessors.fieldWriter(f.field, ctx.getConfig())
+                .orElse((obj, value) -> writeField(type.cast(obj), f.field, value));
+            propagateNull[i] = f.propagateNull;
+            primitive[i] = f.isPrimitive;
+        }
+
+        return (r, c) -> {
+            if (nullMarkerColumn != null) {
+                r.getObject(nullMarkerColumn);
+                if (r.wasNull()) {
+                    return null;
+                }
+            }
+            final T obj = constructor.get();
+            for (int i = 0; i < count; i++) {
+                Object value = mappers[i].map(r, ctx);
+                if (propagateNull[i] && (value == null || primitive[i] && r.wasNull())) {
+                    return null;
+                }
+                writers[i].accept(obj, value);
+            }
+            return obj;
+        };
+    }
+
     private static String paramName(Field field) {
         return Optional.ofNullable(field.getAnnotation(ColumnName.class))
                 .map(ColumnName::value)
@@ -17,10 +17,14 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedAccessors;
+
 import static java.util.Objects.requireNonNull;
 
 abstract class InstanceFactory<T> {
@@ -59,6 +63,17 @@ abstract class InstanceFactory<T> {
 
     abstract T newInstance(Object... params);
 
+    /**
+     * @return a function creating instances through an exactly typed method handle, if possible
+     * @see GeneratedAccessors
+     */
+    @SuppressWarnings("unchecked")
+    Function<Object[], T> directInstantiator(ConfigRegistry config) {
+        return GeneratedAccessors.instantiator(executable, config)
+            .map(f -> (Function<Object[], T>) (Function<Object[], ?>) f)
+            .orElse(this::newInstance);
+    }
+
     @Override
     public abstract String toString();
 }
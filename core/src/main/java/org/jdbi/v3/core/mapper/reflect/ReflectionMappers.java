@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration class for reflective mappers.
@@ -26,6 +27,8 @@ import org.jdbi.v3.core.config.JdbiConfig;
 public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
     private List<ColumnNameMatcher> columnNameMatchers;
     private boolean strictMatching;
+    private boolean generatedAccessors;
+    private boolean specializedMapperCache;
 
     /**
      * Create a default configuration that attempts case insensitive and
@@ -41,6 +44,8 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
     private ReflectionMappers(ReflectionMappers that) {
         columnNameMatchers = new ArrayList<>(that.columnNameMatchers);
         strictMatching = that.strictMatching;
+        generatedAccessors = that.generatedAccessors;
+        specializedMapperCache = that.specializedMapperCache;
     }
 
     /**
@@ -82,6 +87,55 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         return this;
     }
 
+    /**
+     * @return whether reflection mappers call setters and constructors through generated accessors
+     */
+    @Beta
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    /**
+     * Have {@link BeanMapper}, {@link ConstructorMapper} and {@link FieldMapper} resolve every
+     * setter, field and constructor once per result set layout, and call them through accessors
+     * generated with {@link java.lang.invoke.LambdaMetafactory} or exactly typed method handles,
+     * rather than looking them up and invoking them reflectively for every row. Members which are
+     * not public, or not visible to Jdbi's class loader, are still accessed reflectively.
+     *
+     * @param generatedAccessors whether to use generated accessors
+     * @return this
+     */
+    @Beta
+    public ReflectionMappers setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+        return this;
+    }
+
+    /**
+     * @return whether bean and pojo mappers share their specialized mappers across executions
+     */
+    @Beta
+    public boolean isSpecializedMapperCache() {
+        return specializedMapperCache;
+    }
+
+    /**
+     * Have {@link BeanMapper} and the other property based mappers keep the mapper they specialize
+     * for a result set layout in the {@code PojoMapper.specialized} cache of
+     * {@link org.jdbi.v3.core.config.JdbiCaches}, and reuse it for later executions returning the same
+     * column labels and types. The cache is keyed by this configuration, the registered column
+     * mappers and Immutables types; column mapper factories which depend on other configuration,
+     * such as the enum strategy, must not be reconfigured per statement while this is enabled.
+     *
+     * @param specializedMapperCache whether to cache specialized mappers
+     * @return this
+     */
+    @Beta
+    public ReflectionMappers setSpecializedMapperCache(boolean specializedMapperCache) {
+        this.specializedMapperCache = specializedMapperCache;
+        return this;
+    }
+
     @Override
     public ReflectionMappers createCopy() {
         return new ReflectionMappers(this);
@@ -49,7 +49,7 @@ import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 
 public class BeanPropertiesFactory {
     private static final JdbiCache<Type, PropertiesHolder<?>> PROPERTY_CACHE =
-            JdbiCaches.declare(PropertiesHolder::new);
+            JdbiCaches.declare("BeanPropertiesFactory.properties", PropertiesHolder::new);
 
     private BeanPropertiesFactory() {}
 
@@ -100,6 +100,16 @@ public class BeanPropertiesFactory {
             };
         }
 
+        /**
+         * @return a supplier of new instances, generated if possible
+         * @see GeneratedAccessors
+         */
+        @SuppressWarnings("unchecked")
+        Supplier<T> directConstructor() {
+            final PropertiesHolder<T> holder = (PropertiesHolder<T>) PROPERTY_CACHE.get(getType(), config);
+            return GeneratedAccessors.noArgsConstructor(holder.clazz, config).orElse(holder.constructor);
+        }
+
         static class BeanPojoProperty<T> implements PojoProperty<T> {
             final PropertyDescriptor descriptor;
             final QualifiedType<?> qualifiedType;
@@ -140,6 +150,16 @@ public class BeanPropertiesFactory {
                 return setter;
             }
 
+            /**
+             * @return the setter, generated if possible
+             * @see GeneratedAccessors
+             */
+            BiConsumer<Object, Object> directSetter(ConfigRegistry config) {
+                return Optional.ofNullable(descriptor.getWriteMethod())
+                    .flatMap(method -> GeneratedAccessors.setter(method, config))
+                    .orElseGet(this::setter);
+            }
+
             @Override
             public String getName() {
                 return descriptor.getName();
@@ -182,10 +202,13 @@ public class BeanPropertiesFactory {
         }
 
         static class PropertiesHolder<T> {
+            final Class<T> clazz;
             final Supplier<T> constructor;
             final Map<String, BeanPojoProperty<?>> properties;
+
+            @SuppressWarnings("unchecked")
             PropertiesHolder(Type type) {
-                final Class<?> clazz = GenericTypes.getErasedType(type);
+                clazz = (Class<T>) GenericTypes.getErasedType(type);
                 try {
                     properties = Arrays.stream(Introspector.getBeanInfo(clazz).getPropertyDescriptors())
                             .filter(BeanPropertiesFactory::shouldSeeProperty)
@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spins classes which call constructors and setters directly, through {@link LambdaMetafactory},
+ * and adapts field writes and constructor calls to exactly typed method handles where a direct
+ * call can not be spun. Each accessor is empty when the member is not accessible from here, in
+ * which case callers fall back to reflection.
+ *
+ * @see org.jdbi.v3.core.mapper.reflect.ReflectionMappers#setGeneratedAccessors(boolean)
+ */
+public final class GeneratedAccessors {
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedAccessors.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final JdbiCache<Class<?>, Optional<Supplier<?>>> CONSTRUCTORS =
+        JdbiCaches.declare("GeneratedAccessors.constructors", GeneratedAccessors::generateNoArgsConstructor);
+    private static final JdbiCache<Method, Optional<BiConsumer<Object, Object>>> SETTERS =
+        JdbiCaches.declare("GeneratedAccessors.setters", GeneratedAccessors::generateSetter);
+    private static final JdbiCache<Field, Optional<BiConsumer<Object, Object>>> FIELD_WRITERS =
+        JdbiCaches.declare("GeneratedAccessors.fieldWriters", GeneratedAccessors::generateFieldWriter);
+    private static final JdbiCache<Executable, Optional<Function<Object[], Object>>> INSTANTIATORS =
+        JdbiCaches.declare("GeneratedAccessors.instantiators", GeneratedAccessors::generateInstantiator);
+
+    private GeneratedAccessors() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * @param type the type to construct
+     * @param config the config holding the accessor caches
+     * @param <T> the type to construct
+     * @return a supplier calling the public no-argument constructor of the type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Optional<Supplier<T>> noArgsConstructor(Class<T> type, ConfigRegistry config) {
+        return (Optional) CONSTRUCTORS.get(type, config);
+    }
+
+    /**
+     * @param setter a single-argument instance method
+     * @param config the config holding the accessor caches
+     * @return a consumer calling the method on its first argument with its second argument
+     */
+    public static Optional<BiConsumer<Object, Object>> setter(Method setter, ConfigRegistry config) {
+        return SETTERS.get(setter, config);
+    }
+
+    /**
+     * @param field an instance field, of any visibility
+     * @param config the config holding the accessor caches
+     * @return a consumer writing its second argument to the field of its first argument
+     */
+    public static Optional<BiConsumer<Object, Object>> fieldWriter(Field field, ConfigRegistry config) {
+        return FIELD_WRITERS.get(field, config);
+    }
+
+    /**
+     * @param executable a constructor, or a static factory method
+     * @param config the config holding the accessor caches
+     * @return a function calling the executable with the given arguments
+     */
+    public static Optional<Function<Object[], Object>> instantiator(Executable executable, ConfigRegistry config) {
+        return INSTANTIATORS.get(executable, config);
+    }
+
+    private static Optional<Supplier<?>> generateNoArgsConstructor(Class<?> type) {
+        final Constructor<?> ctor;
+        try {
+            ctor = type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+        if (!isAccessible(ctor) || Modifier.isAbstract(type.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                LOOKUP.unreflectConstructor(ctor),
+                MethodType.methodType(type));
+            return Optional.of((Supplier<?>) site.getTarget().invokeExact());
+        } catch (Throwable e) {
+            LOG.debug("Unable to generate constructor accessor for {}", type, e);
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<BiConsumer<Object, Object>> generateSetter(Method setter) {
+        if (setter.getParameterCount() != 1
+            || Modifier.isStatic(setter.getModifiers())
+            || !isAccessible(setter)
+            || !isVisible(setter.getParameterTypes()[0])) {
+            return Optional.empty();
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                LOOKUP.unreflect(setter),
+                MethodType.methodType(void.class, setter.getDeclaringClass(), MethodType.methodType(setter.getParameterTypes()[0]).wrap().returnType()));
+            return Optional.of((BiConsumer<Object, Object>) site.getTarget().invokeExact());
+        } catch (Throwable e) {
+            LOG.debug("Unable to generate setter accessor for {}", setter, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<BiConsumer<Object, Object>> generateFieldWriter(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return Optional.empty();
+        }
+        final MethodHandle writer;
+        try {
+            field.setAccessible(true);
+            writer = LOOKUP.unreflectSetter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Unable to generate field accessor for {}", field, e);
+            return Optional.empty();
+        }
+        final boolean primitive = field.getType().isPrimitive();
+        return Optional.of((pojo, value) -> {
+            if (primitive && value == null) {
+                throw new IllegalArgumentException("Can not set primitive field " + field + " to null");
+            }
+            try {
+                writer.invokeExact(pojo, value);
+            } catch (Throwable e) {
+                throw Sneaky.throwAnyway(e);
+            }
+        });
+    }
+
+    private static Optional<Function<Object[], Object>> generateInstantiator(Executable executable) {
+        final MethodHandle invoker;
+        try {
+            ((AccessibleObject) executable).setAccessible(true);
+            MethodHandle handle = executable instanceof Constructor
+                ? LOOKUP.unreflectConstructor((Constructor<?>) executable)
+                : LOOKUP.unreflect((Method) executable);
+            invoker = handle
+                .asSpreader(Object[].class, executable.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Unable to generate instantiator for {}", executable, e);
+            return Optional.empty();
+        }
+        return Optional.of(args -> {
+            try {
+                return invoker.invokeExact(args);
+            } catch (Throwable e) {
+                throw Sneaky.throwAnyway(e);
+            }
+        });
+    }
+
+    // a spun class links against the member by name, from the class loader of Jdbi
+    private static boolean isAccessible(Member member) {
+        return Modifier.isPublic(member.getModifiers()) && isVisible(member.getDeclaringClass());
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.isArray()) {
+            return isVisible(type.getComponentType());
+        }
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, GeneratedAccessors.class.getClassLoader()) == type; // NOPMD
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
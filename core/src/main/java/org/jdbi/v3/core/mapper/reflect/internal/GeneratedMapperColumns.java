@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames;
+
+/**
+ * Resolves the columns of a result set for a row mapper generated through
+ * {@link org.jdbi.v3.core.mapper.GenerateRowMapper}. Not intended for direct use.
+ */
+public final class GeneratedMapperColumns {
+    private static final String NO_MATCHING_COLUMNS =
+        "Mapping %s didn't find any matching columns in result set";
+
+    private static final String UNMATCHED_COLUMNS_STRICT =
+        "Mapping %s could not match properties for columns: %s";
+
+    private static final String MISSING_COLUMN =
+        "%s has no column in the result set. Verify that your result set has the columns expected, "
+            + "annotate the names explicitly with @ColumnName, or annotate nullable parameters as @Nullable";
+
+    private final Class<?> type;
+    private final StatementContext ctx;
+    private final List<String> columnNames;
+    private final List<ColumnNameMatcher> columnNameMatchers;
+    private final boolean[] matched;
+    private boolean anyMatched;
+
+    public GeneratedMapperColumns(Class<?> type, ResultSet rs, StatementContext ctx) throws SQLException {
+        this.type = type;
+        this.ctx = ctx;
+        this.columnNames = getColumnNames(rs);
+        this.columnNameMatchers = ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+        this.matched = new boolean[columnNames.size()];
+    }
+
+    /**
+     * @param name the property name
+     * @param debugName the property name to report in errors
+     * @return the 1-based index of the matching column, or 0 if no column matches
+     */
+    public int find(String name, String debugName) {
+        OptionalInt index = findColumnIndex(name, columnNames, columnNameMatchers, () -> debugName);
+        if (!index.isPresent()) {
+            return 0;
+        }
+        matched[index.getAsInt()] = true;
+        anyMatched = true;
+        return index.getAsInt() + 1;
+    }
+
+    /**
+     * @param name the property name
+     * @param debugName the property name to report in errors
+     * @return the 1-based index of the matching column
+     * @throws IllegalArgumentException if no column matches
+     */
+    public int require(String name, String debugName) {
+        int index = find(name, debugName);
+        if (index == 0) {
+            throw new IllegalArgumentException(String.format(MISSING_COLUMN, debugName));
+        }
+        return index;
+    }
+
+    public <T> ColumnMapper<T> mapper(Class<T> propertyType, String debugName) {
+        return ctx.findColumnMapperFor(propertyType)
+            .orElseThrow(() -> noMapper(propertyType, debugName));
+    }
+
+    public <T> ColumnMapper<T> mapper(GenericType<T> propertyType, String debugName) {
+        return ctx.findColumnMapperFor(propertyType)
+            .orElseThrow(() -> noMapper(propertyType, debugName));
+    }
+
+    /**
+     * Verifies that some column was matched, and that all of them were in strict mode.
+     */
+    public void validate() {
+        if (!anyMatched && !columnNames.isEmpty()) {
+            throw new IllegalArgumentException(String.format(NO_MATCHING_COLUMNS, type));
+        }
+        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()) {
+            List<String> unmatched = new ArrayList<>();
+            for (int i = 0; i < matched.length; i++) {
+                if (!matched[i]) {
+                    unmatched.add(columnNames.get(i));
+                }
+            }
+            if (!unmatched.isEmpty()) {
+                throw new IllegalArgumentException(String.format(UNMATCHED_COLUMNS_STRICT, type, unmatched));
+            }
+        }
+    }
+
+    private static NoSuchMapperException noMapper(Object propertyType, String debugName) {
+        return new NoSuchMapperException(String.format("Couldn't find mapper for %s of type '%s'", debugName, propertyType));
+    }
+}
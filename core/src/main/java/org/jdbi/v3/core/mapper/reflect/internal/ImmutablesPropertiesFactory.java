@@ -45,10 +45,10 @@ import org.jdbi.v3.core.qualifier.Qualifiers;
 public interface ImmutablesPropertiesFactory {
 
     JdbiCache<ImmutableSpec<?, ?>, ImmutablePojoProperties<?, ?>> IMMUTABLE_CACHE =
-            JdbiCaches.declare(s -> s.type, ImmutablePojoProperties::new);
+            JdbiCaches.declare("ImmutablesPropertiesFactory.immutable", s -> s.type, (config, s) -> new ImmutablePojoProperties<>(s));
 
     JdbiCache<ModifiableSpec<?, ?>, ModifiablePojoProperties<?, ?>> MODIFIABLE_CACHE =
-            JdbiCaches.declare(s -> s.type, ModifiablePojoProperties::new);
+            JdbiCaches.declare("ImmutablesPropertiesFactory.modifiable", s -> s.type, (config, s) -> new ModifiablePojoProperties<>(s));
 
     PojoProperties<?> create(Type type, ConfigRegistry config);
 
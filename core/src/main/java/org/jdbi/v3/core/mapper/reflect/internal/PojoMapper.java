@@ -15,20 +15,30 @@ package org.jdbi.v3.core.mapper.reflect.internal;
 
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.jdbi.v3.core.annotation.Unmappable;
+import org.jdbi.v3.core.collector.JdbiCollectors;
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.enums.Enums;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.NoSuchMapperException;
 import org.jdbi.v3.core.mapper.PropagateNull;
@@ -37,6 +47,8 @@ import org.jdbi.v3.core.mapper.SingleColumnMapper;
 import org.jdbi.v3.core.mapper.reflect.ColumnName;
 import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
 import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory.BeanPojoProperties;
+import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory.BeanPojoProperties.BeanPojoProperty;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoProperties.PojoBuilder;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoProperties.PojoProperty;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
@@ -55,6 +67,9 @@ public class PojoMapper<T> implements RowMapper<T> {
     private static final String UNMATCHED_COLUMNS_STRICT =
         "Mapping bean %s could not match properties for columns: %s";
 
+    private static final JdbiCache<SpecializationKey, RowMapper<?>> SPECIALIZED =
+        JdbiCaches.declare("PojoMapper.specialized", "maximumSize=1000", (config, key) -> key.specialize());
+
     protected boolean strictColumnTypeMapping = true; // this should be default (only?) behavior but that's a breaking change
     protected final Type type;
     protected final String prefix;
@@ -73,6 +88,20 @@ public class PojoMapper<T> implements RowMapper<T> {
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final List<String> columnNames = getColumnNames(rs);
+        if (!ctx.getConfig(ReflectionMappers.class).isSpecializedMapperCache()) {
+            return specialize(columnNames, ctx);
+        }
+        final SpecializationKey key = new SpecializationKey(this, columnNames, rs.getMetaData(), ctx);
+        try {
+            @SuppressWarnings("unchecked")
+            final RowMapper<T> mapper = (RowMapper<T>) SPECIALIZED.get(key, ctx);
+            return mapper;
+        } finally {
+            key.release();
+        }
+    }
+
+    private RowMapper<T> specialize(List<String> columnNames, StatementContext ctx) {
         final List<ColumnNameMatcher> columnNameMatchers =
                 ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
@@ -134,6 +163,12 @@ public class PojoMapper<T> implements RowMapper<T> {
         final Optional<String> nullMarkerColumn =
                 Optional.ofNullable(GenericTypes.getErasedType(type).getAnnotation(PropagateNull.class))
                     .map(PropagateNull::value);
+
+        final PojoProperties<T> properties = getProperties(ctx.getConfig());
+        if (ctx.getConfig(ReflectionMappers.class).isGeneratedAccessors() && properties instanceof BeanPojoProperties) {
+            return Optional.of(directBeanMapper(ctx, (BeanPojoProperties<T>) properties, propList, nullMarkerColumn.orElse(null)));
+        }
+
         return Optional.of((r, c) -> {
             if (propagateNull(r, nullMarkerColumn)) {
                 return null;
@@ -141,7 +176,7 @@ public class PojoMapper<T> implements RowMapper<T> {
             final PojoBuilder<T> pojo = getProperties(c.getConfig()).create();
 
             for (PropertyData<T> p : propList) {
-                Object value = p.mapper.map(r, ctx);
+                Object value = p.mapper.map(r, c);
                 if (p.propagateNull && (value == null || p.isPrimitive && r.wasNull())) {
                     return null;
                 }
@@ -155,6 +190,50 @@ public class PojoMapper<T> implements RowMapper<T> {
         });
     }
 
+    /**
+     * Maps rows without looking up properties by name, calling the constructor and setters
+     * through generated accessors.
+     */
+    private static <T> RowMapper<T> directBeanMapper(StatementContext ctx,
+                                                     BeanPojoProperties<T> properties,
+                                                     List<PropertyData<T>> propList,
+                                                     String nullMarkerColumn) {
+        final Supplier<T> constructor = properties.directConstructor();
+        final int count = propList.size();
+        final RowMapper<?>[] mappers = new RowMapper<?>[count];
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Object, Object>[] setters = new BiConsumer[count];
+        final boolean[] propagateNull = new boolean[count];
+        final boolean[] primitive = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            PropertyData<T> p = propList.get(i);
+            mappers[i] = p.mapper;
+            setters[i] = ((BeanPojoProperty<T>) p.property).directSetter(ctx.getConfig());
+            propagateNull[i] = p.propagateNull;
+            primitive[i] = p.isPrimitive;
+        }
+
+        return (r, c) -> {
+            if (nullMarkerColumn != null) {
+                r.getObject(nullMarkerColumn);
+                if (r.wasNull()) {
+                    return null;
+                }
+            }
+            final T bean = constructor.get();
+            for (int i = 0; i < count; i++) {
+                Object value = mappers[i].map(r, c);
+                if (propagateNull[i] && (value == null || primitive[i] && r.wasNull())) {
+                    return null;
+                }
+                if (value != null) {
+                    setters[i].accept(bean, value);
+                }
+            }
+            return bean;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     protected PojoProperties<T> getProperties(ConfigRegistry config) {
         return (PojoProperties<T>) config.get(PojoTypes.class).findFor(type)
@@ -196,6 +275,91 @@ public class PojoMapper<T> implements RowMapper<T> {
         return String.format("%s.%s", type, p.getName());
     }
 
+    /**
+     * Identifies a specialized mapper by the mapper, the result set layout, and the configuration
+     * it was specialized with, down to the configs read by the column mappers of its properties. Holds on to the mapper and context only until it is released, so
+     * that the cache retains neither.
+     */
+    private static final class SpecializationKey {
+        private final Class<?> mapperClass;
+        private final Type type;
+        private final String prefix;
+        private final boolean strictColumnTypeMapping;
+        private final List<String> columnNames;
+        private final int[] columnTypes;
+        private final List<ColumnNameMatcher> columnNameMatchers;
+        private final boolean strictMatching;
+        private final boolean generatedAccessors;
+        private final Object[] configVersions;
+        private final int hashCode;
+
+        private PojoMapper<?> mapper;
+        private StatementContext ctx;
+
+        SpecializationKey(PojoMapper<?> mapper, List<String> columnNames, ResultSetMetaData metadata, StatementContext ctx) throws SQLException {
+            final ReflectionMappers reflectionMappers = ctx.getConfig(ReflectionMappers.class);
+            this.mapperClass = mapper.getClass();
+            this.type = mapper.type;
+            this.prefix = mapper.prefix;
+            this.strictColumnTypeMapping = mapper.strictColumnTypeMapping;
+            this.columnNames = columnNames;
+            this.columnTypes = new int[columnNames.size()];
+            for (int i = 0; i < columnTypes.length; i++) {
+                columnTypes[i] = metadata.getColumnType(i + 1);
+            }
+            this.columnNameMatchers = reflectionMappers.getColumnNameMatchers();
+            this.strictMatching = reflectionMappers.isStrictMatching();
+            this.generatedAccessors = reflectionMappers.isGeneratedAccessors();
+            this.configVersions = new Object[] {
+                ctx.getConfig(ColumnMappers.class).getVersion(),
+                ctx.getConfig(PojoTypes.class).getVersion(),
+                // read by the column mappers of enum and collection properties
+                ctx.getConfig(Enums.class).getDefaultStrategy(),
+                ctx.getConfig(JdbiCollectors.class).getVersion()
+            };
+            this.hashCode = Objects.hash(mapperClass, type, prefix, columnNames, Arrays.hashCode(columnTypes),
+                Arrays.hashCode(configVersions));
+            this.mapper = mapper;
+            this.ctx = ctx;
+        }
+
+        RowMapper<?> specialize() {
+            return mapper.specialize(columnNames, ctx);
+        }
+
+        void release() {
+            mapper = null;
+            ctx = null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SpecializationKey)) {
+                return false;
+            }
+            SpecializationKey other = (SpecializationKey) obj;
+            return hashCode == other.hashCode
+                && mapperClass == other.mapperClass
+                && type.equals(other.type)
+                && prefix.equals(other.prefix)
+                && strictColumnTypeMapping == other.strictColumnTypeMapping
+                && columnNames.equals(other.columnNames)
+                && Arrays.equals(columnTypes, other.columnTypes)
+                && columnNameMatchers.equals(other.columnNameMatchers)
+                && strictMatching == other.strictMatching
+                && generatedAccessors == other.generatedAccessors
+                && Arrays.equals(configVersions, other.configVersions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     private static class PropertyData<T> {
         PropertyData(PojoProperty<T> property, RowMapper<?> mapper) {
             this.property = property;
@@ -23,13 +23,18 @@ import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.generic.GenericTypes;
 
 public class PojoTypes implements JdbiConfig<PojoTypes> {
+    // registries which never requested this config create a fresh one for each copy
+    private static final Object UNMODIFIED = new Object();
+
     private final Map<Class<?>, ImmutablesPropertiesFactory> factories = new HashMap<>();
+    private Object version = UNMODIFIED;
     private ConfigRegistry registry;
 
     public PojoTypes() {}
 
     private PojoTypes(PojoTypes other) {
         factories.putAll(other.factories);
+        version = other.version;
     }
 
     @Override
@@ -39,9 +44,17 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
 
     public PojoTypes register(Class<?> key, ImmutablesPropertiesFactory factory) {
         factories.put(key, factory);
+        version = new Object();
         return this;
     }
 
+    /**
+     * @return a token which changes whenever a type is registered, and is shared by copies until then
+     */
+    public Object getVersion() {
+        return version;
+    }
+
     public Optional<PojoProperties<?>> findFor(Type type) {
         return Optional.ofNullable(factories.get(GenericTypes.getErasedType(type)))
                 .map(ppf -> ppf.create(type, registry));
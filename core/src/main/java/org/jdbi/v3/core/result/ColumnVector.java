@@ -0,0 +1,373 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * One column of a {@link ColumnarBatch}, stored off heap in direct {@link ByteBuffer}s in native byte order.
+ * Fixed width values are stored at {@code row * width} in {@link #getValues()}; strings are stored as UTF-8
+ * bytes in {@link #getValues()}, from {@code getOffsets().getInt(row * 4)} up to the offset of the next row.
+ * Null values are flagged by a set bit in {@link #getNulls()}, bit {@code row % 8} of byte {@code row / 8},
+ * and stored as 0 or an empty string.
+ */
+@Beta
+public final class ColumnVector {
+    /**
+     * The storage type of a column, derived from its JDBC type.
+     */
+    public enum Type {
+        /** {@link Types#BIT} and {@link Types#BOOLEAN}, one byte per row. */
+        BOOLEAN(1),
+        /** {@link Types#TINYINT}, {@link Types#SMALLINT} and {@link Types#INTEGER}, four bytes per row. */
+        INT(4),
+        /** {@link Types#BIGINT}, eight bytes per row. */
+        LONG(8),
+        /** {@link Types#REAL}, {@link Types#FLOAT} and {@link Types#DOUBLE}, eight bytes per row. */
+        DOUBLE(8),
+        /** Any other type, read with {@link ResultSet#getString(int)} and stored as UTF-8 bytes. */
+        STRING(0);
+
+        private final int width;
+
+        Type(int width) {
+            this.width = width;
+        }
+
+        static Type forSqlType(int sqlType) {
+            switch (sqlType) {
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    return BOOLEAN;
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return INT;
+                case Types.BIGINT:
+                    return LONG;
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    return DOUBLE;
+                default:
+                    return STRING;
+            }
+        }
+    }
+
+    private final String name;
+    private final Type type;
+    private final int size;
+    private final ByteBuffer values;
+    private final ByteBuffer offsets;
+    private final ByteBuffer nulls;
+
+    private ColumnVector(String name, Type type, int size, ByteBuffer values, ByteBuffer offsets, ByteBuffer nulls) {
+        this.name = name;
+        this.type = type;
+        this.size = size;
+        this.values = values;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    /**
+     * @return the column name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the storage type of the column
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param row the row index
+     * @return whether the value of the row is null
+     */
+    public boolean isNull(int row) {
+        checkRow(row);
+        return (nulls.get(row >>> 3) & (1 << (row & 7))) != 0;
+    }
+
+    /**
+     * @param row the row index
+     * @return the value of a {@link Type#BOOLEAN} column
+     */
+    public boolean getBoolean(int row) {
+        checkRow(row);
+        checkType(Type.BOOLEAN);
+        return values.get(row) != 0;
+    }
+
+    /**
+     * @param row the row index
+     * @return the value of an {@link Type#INT} column
+     */
+    public int getInt(int row) {
+        checkRow(row);
+        checkType(Type.INT);
+        return values.getInt(row * 4);
+    }
+
+    /**
+     * @param row the row index
+     * @return the value of a {@link Type#LONG} or {@link Type#INT} column
+     */
+    public long getLong(int row) {
+        checkRow(row);
+        if (type == Type.INT) {
+            return values.getInt(row * 4);
+        }
+        checkType(Type.LONG);
+        return values.getLong(row * 8);
+    }
+
+    /**
+     * @param row the row index
+     * @return the value of a {@link Type#DOUBLE}, {@link Type#LONG} or {@link Type#INT} column
+     */
+    public double getDouble(int row) {
+        checkRow(row);
+        if (type == Type.DOUBLE) {
+            return values.getDouble(row * 8);
+        }
+        return getLong(row);
+    }
+
+    /**
+     * @param row the row index
+     * @return the value of a {@link Type#STRING} column, or null
+     */
+    public String getString(int row) {
+        checkRow(row);
+        checkType(Type.STRING);
+        if (isNull(row)) {
+            return null;
+        }
+        int start = offsets.getInt(row * 4);
+        byte[] bytes = new byte[offsets.getInt(row * 4 + 4) - start];
+        ByteBuffer value = values.duplicate();
+        value.position(start);
+        value.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param row the row index
+     * @return the value of the row, boxed, or null
+     */
+    public Object getObject(int row) {
+        if (isNull(row)) {
+            return null;
+        }
+        switch (type) {
+            case BOOLEAN:
+                return getBoolean(row);
+            case INT:
+                return getInt(row);
+            case LONG:
+                return getLong(row);
+            case DOUBLE:
+                return getDouble(row);
+            default:
+                return getString(row);
+        }
+    }
+
+    /**
+     * @return a read-only view of the values, from position 0 to the limit
+     */
+    public ByteBuffer getValues() {
+        return view(values);
+    }
+
+    /**
+     * @return a read-only view of the {@code size() + 1} string offsets of a {@link Type#STRING} column
+     * @throws IllegalStateException if the column is not a {@link Type#STRING} column
+     */
+    public ByteBuffer getOffsets() {
+        checkType(Type.STRING);
+        return view(offsets);
+    }
+
+    /**
+     * @return a read-only view of the null bitmap
+     */
+    public ByteBuffer getNulls() {
+        return view(nulls);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnVector[" + name + " " + type + ", " + size + " rows]";
+    }
+
+    private static ByteBuffer view(ByteBuffer buffer) {
+        return buffer.asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " of " + size);
+        }
+    }
+
+    private void checkType(Type expected) {
+        if (type != expected) {
+            throw new IllegalStateException("column " + name + " is " + type + ", not " + expected);
+        }
+    }
+
+    /**
+     * Appends the values of a result set column to growing heap buffers, sized from the fetch size, and copies
+     * them into direct buffers of the exact size when built. Only the built vector holds off-heap memory, so
+     * growing a column does not leave direct buffers behind for the garbage collector to free.
+     */
+    static final class Builder {
+        private static final int DEFAULT_ROWS = 1024;
+        private static final int MAX_INITIAL_ROWS = 1 << 16;
+
+        private final String name;
+        private final Type type;
+        private final int column;
+        private ByteBuffer values;
+        private ByteBuffer offsets;
+        private ByteBuffer nulls;
+        private int size;
+
+        Builder(String name, int sqlType, int column, int fetchSize) {
+            this.name = name;
+            this.type = Type.forSqlType(sqlType);
+            this.column = column;
+            int initialRows = fetchSize > 0 ? Math.min(fetchSize, MAX_INITIAL_ROWS) : DEFAULT_ROWS;
+            this.nulls = allocate((initialRows + 7) >>> 3);
+            if (type == Type.STRING) {
+                this.values = allocate(initialRows * 16);
+                this.offsets = allocate((initialRows + 1) * 4);
+                offsets.putInt(0, 0);
+            } else {
+                this.values = allocate(initialRows * type.width);
+            }
+        }
+
+        void read(ResultSet rs) throws SQLException {
+            int row = size;
+            if ((row >>> 3) >= nulls.capacity()) {
+                nulls = grow(nulls, nulls.capacity() * 2);
+            }
+
+            boolean isNull;
+            switch (type) {
+                case BOOLEAN:
+                    ensureValues((row + 1) * type.width);
+                    values.put(row, rs.getBoolean(column) ? (byte) 1 : (byte) 0);
+                    isNull = rs.wasNull();
+                    break;
+                case INT:
+                    ensureValues((row + 1) * type.width);
+                    values.putInt(row * 4, rs.getInt(column));
+                    isNull = rs.wasNull();
+                    break;
+                case LONG:
+                    ensureValues((row + 1) * type.width);
+                    values.putLong(row * 8, rs.getLong(column));
+                    isNull = rs.wasNull();
+                    break;
+                case DOUBLE:
+                    ensureValues((row + 1) * type.width);
+                    values.putDouble(row * 8, rs.getDouble(column));
+                    isNull = rs.wasNull();
+                    break;
+                default:
+                    isNull = readString(rs, row);
+                    break;
+            }
+
+            if (isNull) {
+                nulls.put(row >>> 3, (byte) (nulls.get(row >>> 3) | (1 << (row & 7))));
+            }
+            size++;
+        }
+
+        ColumnVector build() {
+            int length = type == Type.STRING ? offsets.getInt(size * 4) : size * type.width;
+            return new ColumnVector(name, type, size,
+                copyDirect(values, length),
+                type == Type.STRING ? copyDirect(offsets, (size + 1) * 4) : null,
+                copyDirect(nulls, (size + 7) >>> 3));
+        }
+
+        private boolean readString(ResultSet rs, int row) throws SQLException {
+            String value = rs.getString(column);
+            int start = offsets.getInt(row * 4);
+            int end = start;
+            if (value != null) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                end += bytes.length;
+                ensureValues(end);
+                ByteBuffer target = values.duplicate();
+                target.position(start);
+                target.put(bytes);
+            }
+            if ((row + 2) * 4 > offsets.capacity()) {
+                offsets = grow(offsets, offsets.capacity() * 2);
+            }
+            offsets.putInt((row + 1) * 4, end);
+            return value == null;
+        }
+
+        private void ensureValues(int length) {
+            if (length > values.capacity()) {
+                values = grow(values, Math.max(length, values.capacity() * 2));
+            }
+        }
+
+        private static ByteBuffer allocate(int capacity) {
+            return ByteBuffer.allocate(capacity).order(ByteOrder.nativeOrder());
+        }
+
+        private static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+            ByteBuffer source = buffer.duplicate();
+            source.clear();
+            return allocate(capacity).put(source);
+        }
+
+        private static ByteBuffer copyDirect(ByteBuffer buffer, int length) {
+            ByteBuffer source = buffer.duplicate();
+            source.position(0).limit(length);
+            ByteBuffer copy = ByteBuffer.allocateDirect(length).order(ByteOrder.nativeOrder());
+            copy.put(source).clear();
+            return copy;
+        }
+    }
+}
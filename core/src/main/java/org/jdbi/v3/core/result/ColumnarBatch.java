@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jdbi.v3.core.mapper.MapMappers;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A whole result set read column by column into {@link ColumnVector}s, whose layout follows the JDBC types
+ * of the result set metadata. The values are stored off heap, without an object per row or value, for consumers
+ * scanning columns in bulk.
+ * <p>
+ * Read a result into a batch with {@link ResultBearing#collectToColumnarBatch()}, or install
+ * {@link ColumnarBatchPlugin} to collect it with {@link ResultBearing#collectInto(Class) collectInto(ColumnarBatch.class)}
+ * or return it from a SqlObject query method. Column names follow {@link MapMappers#getCaseChange()}.
+ * An empty result set yields a batch with the columns of its metadata and no rows, except when collected through the
+ * plugin, which yields a batch without columns.
+ */
+@Beta
+public final class ColumnarBatch {
+    private final int rowCount;
+    private final List<ColumnVector> columns;
+    private final Map<String, ColumnVector> columnsByName = new HashMap<>();
+
+    ColumnarBatch(int rowCount, ColumnVector[] columns) {
+        this.rowCount = rowCount;
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+        for (ColumnVector column : columns) {
+            columnsByName.putIfAbsent(column.getName(), column);
+        }
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the columns, in result set order
+     */
+    public List<ColumnVector> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @param index the zero-based column index
+     * @return the column at the index
+     */
+    public ColumnVector getColumn(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * @param name the column name
+     * @return the first column of the given name
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public ColumnVector getColumn(String name) {
+        ColumnVector column = columnsByName.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("no column " + name + " in " + columnsByName.keySet());
+        }
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarBatch[" + rowCount + " rows, " + columns + "]";
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.mapper.MapMappers;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Reads a whole result set into a {@link ColumnarBatch}, with one column builder per column of the result set
+ * metadata, so that an empty result set still yields its columns. {@link ColumnarBatchPlugin} also appends rows
+ * to a builder from a row mapper.
+ */
+final class ColumnarBatchBuilder {
+    private final ColumnVector.Builder[] columns;
+    private int rowCount;
+
+    ColumnarBatchBuilder(ResultSet rs, StatementContext ctx) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int initialRows = rs.getFetchSize();
+        columns = new ColumnVector.Builder[meta.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            String label = meta.getColumnLabel(i + 1);
+            String name = ctx.getConfig(MapMappers.class).getCaseChange().apply(label == null ? meta.getColumnName(i + 1) : label);
+            columns[i] = new ColumnVector.Builder(name, meta.getColumnType(i + 1), i + 1, initialRows);
+        }
+    }
+
+    static ColumnarBatch build(ResultSet rs, StatementContext ctx) throws SQLException {
+        ColumnarBatchBuilder builder = new ColumnarBatchBuilder(rs, ctx);
+        while (rs.next()) {
+            builder.read(rs);
+        }
+        return builder.build();
+    }
+
+    void read(ResultSet rs) throws SQLException {
+        for (ColumnVector.Builder column : columns) {
+            column.read(rs);
+        }
+        rowCount++;
+    }
+
+    ColumnarBatch build() {
+        ColumnVector[] vectors = new ColumnVector[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            vectors[i] = columns[i].build();
+        }
+        return new ColumnarBatch(rowCount, vectors);
+    }
+}
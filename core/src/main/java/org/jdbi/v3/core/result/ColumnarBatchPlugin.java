@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.collector.CollectorFactory;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Registers a collector for {@link ColumnarBatch}, so that results can be collected with
+ * {@link ResultBearing#collectInto(Class) collectInto(ColumnarBatch.class)} and SqlObject query methods can
+ * return a batch.
+ * <p>
+ * The collector's element type is internal: its row mapper, specialized for the result set, appends each row to one
+ * builder and returns it, and the collector builds the batch from that builder. Since the collector never sees the
+ * builder of an empty result set, it yields a batch without columns; use
+ * {@link ResultBearing#collectToColumnarBatch()} to keep them.
+ */
+@Beta
+public class ColumnarBatchPlugin extends JdbiPlugin.Singleton {
+    private static final ColumnarBatch EMPTY = new ColumnarBatch(0, new ColumnVector[0]);
+
+    @Override
+    public void customizeJdbi(Jdbi jdbi) {
+        jdbi.registerCollector(new BatchCollectorFactory());
+        jdbi.registerRowMapper(ColumnarBatchBuilder.class, new BuilderMapper());
+    }
+
+    private static final class BatchCollectorFactory implements CollectorFactory {
+        @Override
+        public boolean accepts(Type containerType) {
+            return ColumnarBatch.class.equals(containerType);
+        }
+
+        @Override
+        public Optional<Type> elementType(Type containerType) {
+            return Optional.of(ColumnarBatchBuilder.class);
+        }
+
+        @Override
+        public Collector<?, ?, ?> build(Type containerType) {
+            return Collector.<ColumnarBatchBuilder, ColumnarBatchBuilder[], ColumnarBatch>of(
+                () -> new ColumnarBatchBuilder[1],
+                (holder, builder) -> holder[0] = builder,
+                (a, b) -> {
+                    throw new UnsupportedOperationException("columnar batches cannot be collected in parallel");
+                },
+                holder -> holder[0] == null ? EMPTY : holder[0].build());
+        }
+    }
+
+    private static final class BuilderMapper implements RowMapper<ColumnarBatchBuilder> {
+        @Override
+        public ColumnarBatchBuilder map(ResultSet rs, StatementContext ctx) throws SQLException {
+            return specialize(rs, ctx).map(rs, ctx);
+        }
+
+        @Override
+        public RowMapper<ColumnarBatchBuilder> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+            ColumnarBatchBuilder builder = new ColumnarBatchBuilder(rs, ctx);
+            return (r, c) -> {
+                builder.read(r);
+                return builder;
+            };
+        }
+    }
+}
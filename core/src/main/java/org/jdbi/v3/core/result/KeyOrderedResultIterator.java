@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import org.jdbi.v3.core.result.internal.RowViewImpl;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reduces a result set ordered by key while iterating it. Every value but the one added last
+ * to the reducer's container is complete, and is moved out of the container to be returned.
+ */
+class KeyOrderedResultIterator<K, V> implements ResultIterator<V> {
+    private final ResultSet results;
+    private final KeyOrderedRowReducer<K, V> reducer;
+    private final StatementContext context;
+    private final RowView rowView;
+    private final Map<K, V> container;
+    private final Queue<V> completed = new ArrayDeque<>();
+
+    private boolean exhausted = false;
+    private boolean closed = false;
+
+    KeyOrderedResultIterator(ResultSet results,
+                             KeyOrderedRowReducer<K, V> reducer,
+                             StatementContext context) {
+        this.results = requireNonNull(results);
+        this.reducer = reducer;
+        this.context = context;
+        this.rowView = new RowViewImpl(results, context);
+        this.container = reducer.container();
+
+        this.context.addCleanable(results::close);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        context.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        while (completed.isEmpty() && !exhausted) {
+            if (safeNext()) {
+                reducer.accumulate(container, rowView);
+                complete(container.size() - 1);
+            } else {
+                exhausted = true;
+                complete(container.size());
+            }
+        }
+
+        if (completed.isEmpty()) {
+            close();
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public V next() {
+        if (closed) {
+            throw new IllegalStateException("iterator is closed");
+        }
+
+        if (!hasNext()) {
+            throw new NoSuchElementException("No element to advance to");
+        }
+
+        return completed.remove();
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return context;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Deleting from a result set iterator is not yet supported");
+    }
+
+    private void complete(int count) {
+        Iterator<V> values = container.values().iterator();
+        for (int i = 0; i < count; i++) {
+            completed.add(values.next());
+            values.remove();
+        }
+    }
+
+    private boolean safeNext() {
+        try {
+            return results.next();
+        } catch (SQLException e) {
+            throw new ResultSetException("Unable to advance result set", e, context);
+        }
+    }
+}
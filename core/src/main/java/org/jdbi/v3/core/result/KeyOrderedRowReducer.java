@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A {@link LinkedHashMapRowReducer} for results ordered by the map key, e.g. a one-to-many join
+ * ordered by the primary key of the "master" table. Since all rows of a key are adjacent, a value
+ * is complete as soon as a row adds the next key to the map. {@link ResultBearing#reduceRows(RowReducer)}
+ * uses this to emit each value at that point and drop it from the map, so the result is reduced lazily
+ * while the stream is consumed, keeping only the value under construction in memory.
+ *
+ * <p>Implementors need only implement the {@link #accumulate(Object, RowView)} method, exactly as for
+ * {@link LinkedHashMapRowReducer}. If the rows are not ordered by key, a key whose value was already emitted
+ * is reduced into a new value, and emitted again.
+ *
+ * @param <K> the map key type--often the primary key type of {@code <V>}.
+ * @param <V> the map value type, and the result element type--often the "master" object in a
+ *            master/detail relation.
+ * @see ResultBearing#reduceOrderedRows(KeyOrderedRowReducer)
+ */
+@Beta
+@FunctionalInterface
+public interface KeyOrderedRowReducer<K, V> extends LinkedHashMapRowReducer<K, V> {}
@@ -0,0 +1,207 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Reads the first column of a result set as primitive values, without boxing them or going through
+ * a column mapper. Like {@link ResultSetResultIterator}, it closes the statement context once the
+ * rows are exhausted.
+ */
+abstract class PrimitiveColumnSpliterator {
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    final ResultSet results;
+    final StatementContext context;
+    private boolean closed = false;
+
+    private PrimitiveColumnSpliterator(ResultSet results, StatementContext context) {
+        this.results = results;
+        this.context = context;
+
+        this.context.addCleanable(results::close);
+    }
+
+    static LongStream longs(ResultSet results, StatementContext context, long nullValue) {
+        return StreamSupport.longStream(new OfLong(results, context, nullValue), false)
+            .onClose(context::close);
+    }
+
+    static IntStream ints(ResultSet results, StatementContext context, int nullValue) {
+        return StreamSupport.intStream(new OfInt(results, context, nullValue), false)
+            .onClose(context::close);
+    }
+
+    static DoubleStream doubles(ResultSet results, StatementContext context, double nullValue) {
+        return StreamSupport.doubleStream(new OfDouble(results, context, nullValue), false)
+            .onClose(context::close);
+    }
+
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    boolean advance() {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (results.next()) {
+                return true;
+            }
+        } catch (SQLException e) {
+            throw new ResultSetException("Unable to advance result set", e, context);
+        }
+        closed = true;
+        context.close();
+        return false;
+    }
+
+    ResultSetException readFailed(SQLException e) {
+        return new ResultSetException("Unable to read primitive column", e, context);
+    }
+
+    private static final class OfLong extends PrimitiveColumnSpliterator implements Spliterator.OfLong {
+        private final long nullValue;
+
+        private OfLong(ResultSet results, StatementContext context, long nullValue) {
+            super(results, context);
+            this.nullValue = nullValue;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (!advance()) {
+                return false;
+            }
+            action.accept(read());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while (advance()) {
+                action.accept(read());
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            return null;
+        }
+
+        private long read() {
+            try {
+                long value = results.getLong(1);
+                return value == 0 && results.wasNull() ? nullValue : value;
+            } catch (SQLException e) {
+                throw readFailed(e);
+            }
+        }
+    }
+
+    private static final class OfInt extends PrimitiveColumnSpliterator implements Spliterator.OfInt {
+        private final int nullValue;
+
+        private OfInt(ResultSet results, StatementContext context, int nullValue) {
+            super(results, context);
+            this.nullValue = nullValue;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (!advance()) {
+                return false;
+            }
+            action.accept(read());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (advance()) {
+                action.accept(read());
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            return null;
+        }
+
+        private int read() {
+            try {
+                int value = results.getInt(1);
+                return value == 0 && results.wasNull() ? nullValue : value;
+            } catch (SQLException e) {
+                throw readFailed(e);
+            }
+        }
+    }
+
+    private static final class OfDouble extends PrimitiveColumnSpliterator implements Spliterator.OfDouble {
+        private final double nullValue;
+
+        private OfDouble(ResultSet results, StatementContext context, double nullValue) {
+            super(results, context);
+            this.nullValue = nullValue;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (!advance()) {
+                return false;
+            }
+            action.accept(read());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            while (advance()) {
+                action.accept(read());
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            return null;
+        }
+
+        private double read() {
+            try {
+                double value = results.getDouble(1);
+                return value == 0 && results.wasNull() ? nullValue : value;
+            } catch (SQLException e) {
+                throw readFailed(e);
+            }
+        }
+    }
+}
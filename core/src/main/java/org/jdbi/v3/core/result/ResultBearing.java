@@ -21,6 +21,9 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.collector.ElementTypeNotFoundException;
@@ -183,6 +186,78 @@ public interface ResultBearing {
         return scanResultSet((supplier, ctx) -> ResultIterable.of(supplier, GenericMapMapperFactory.getMapperForValueType(valueType, ctx.getConfig()), ctx));
     }
 
+    /**
+     * Returns the first column of this result set as a stream of {@code long}s, read with
+     * {@link ResultSet#getLong(int)} without boxing, and with {@code null} read as 0. Close the stream
+     * if it is not consumed entirely. {@link LongStream#toArray()} collects it into a {@code long[]}.
+     *
+     * @return the stream of column values
+     */
+    @Beta
+    default LongStream mapToLongs() {
+        return mapToLongs(0L);
+    }
+
+    /**
+     * Returns the first column of this result set as a stream of {@code long}s, read with
+     * {@link ResultSet#getLong(int)} without boxing. Close the stream if it is not consumed entirely.
+     *
+     * @param nullValue the value to return for {@code null}
+     * @return the stream of column values
+     */
+    @Beta
+    default LongStream mapToLongs(long nullValue) {
+        return scanResultSet((supplier, ctx) -> PrimitiveColumnSpliterator.longs(supplier.get(), ctx, nullValue));
+    }
+
+    /**
+     * Returns the first column of this result set as a stream of {@code int}s, read with
+     * {@link ResultSet#getInt(int)} without boxing, and with {@code null} read as 0. Close the stream
+     * if it is not consumed entirely. {@link IntStream#toArray()} collects it into an {@code int[]}.
+     *
+     * @return the stream of column values
+     */
+    @Beta
+    default IntStream mapToInts() {
+        return mapToInts(0);
+    }
+
+    /**
+     * Returns the first column of this result set as a stream of {@code int}s, read with
+     * {@link ResultSet#getInt(int)} without boxing. Close the stream if it is not consumed entirely.
+     *
+     * @param nullValue the value to return for {@code null}
+     * @return the stream of column values
+     */
+    @Beta
+    default IntStream mapToInts(int nullValue) {
+        return scanResultSet((supplier, ctx) -> PrimitiveColumnSpliterator.ints(supplier.get(), ctx, nullValue));
+    }
+
+    /**
+     * Returns the first column of this result set as a stream of {@code double}s, read with
+     * {@link ResultSet#getDouble(int)} without boxing, and with {@code null} read as 0. Close the stream
+     * if it is not consumed entirely. {@link DoubleStream#toArray()} collects it into a {@code double[]}.
+     *
+     * @return the stream of column values
+     */
+    @Beta
+    default DoubleStream mapToDoubles() {
+        return mapToDoubles(0.0);
+    }
+
+    /**
+     * Returns the first column of this result set as a stream of {@code double}s, read with
+     * {@link ResultSet#getDouble(int)} without boxing. Close the stream if it is not consumed entirely.
+     *
+     * @param nullValue the value to return for {@code null}, e.g. {@link Double#NaN}
+     * @return the stream of column values
+     */
+    @Beta
+    default DoubleStream mapToDoubles(double nullValue) {
+        return scanResultSet((supplier, ctx) -> PrimitiveColumnSpliterator.doubles(supplier.get(), ctx, nullValue));
+    }
+
     /**
      * Maps this result set to a {@link ResultIterable}, using the given column mapper.
      *
@@ -218,7 +293,8 @@ public interface ResultBearing {
     }
 
     /**
-     * Reduce the result rows using the given row reducer.
+     * Reduce the result rows using the given row reducer. A {@link KeyOrderedRowReducer} is
+     * reduced lazily, as by {@link #reduceOrderedRows(KeyOrderedRowReducer)}.
      *
      * @param reducer the row reducer.
      * @param <C> Mutable result container type
@@ -226,14 +302,31 @@ public interface ResultBearing {
      * @return the stream of result elements
      * @see RowReducer
      */
+    @SuppressWarnings("unchecked")
     default <C, R> Stream<R> reduceRows(RowReducer<C, R> reducer) {
+        if (reducer instanceof KeyOrderedRowReducer) {
+            return reduceOrderedRows((KeyOrderedRowReducer<?, R>) reducer).stream();
+        }
+
         return scanResultSet((supplier, ctx) -> {
             try (ResultSet rs = supplier.get()) {
                 RowView rowView = new RowViewImpl(rs, ctx);
 
                 C container = reducer.container();
-                while (rs.next()) {
-                    reducer.accumulate(container, rowView);
+                try {
+                    while (rs.next()) {
+                        reducer.accumulate(container, rowView);
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    // release containers holding resources, e.g. spill files
+                    if (container instanceof AutoCloseable) {
+                        try {
+                            ((AutoCloseable) container).close();
+                        } catch (Exception e1) {
+                            e.addSuppressed(e1);
+                        }
+                    }
+                    throw e;
                 }
                 return reducer.stream(container);
             } catch (SQLException e) {
@@ -259,6 +352,24 @@ public interface ResultBearing {
         return reduceRows((LinkedHashMapRowReducer<K, V>) accumulator::accept);
     }
 
+    /**
+     * Reduce result rows ordered by key using a {@link Map Map&lt;K, V&gt;} as the
+     * result container. Each value is returned as soon as the rows of the next key
+     * are reached, so the result set is reduced while it is iterated, and only the
+     * value being reduced is held in memory. Close the returned stream or iterator
+     * if it is not consumed entirely.
+     *
+     * @param reducer the row reducer, accumulating rows ordered by its map key.
+     * @param <K>     map key type
+     * @param <V>     map value type
+     * @return the values of the container, in key order
+     * @see KeyOrderedRowReducer
+     */
+    @Beta
+    default <K, V> ResultIterable<V> reduceOrderedRows(KeyOrderedRowReducer<K, V> reducer) {
+        return scanResultSet((supplier, ctx) -> () -> new KeyOrderedResultIterator<>(supplier.get(), reducer, ctx));
+    }
+
     /**
      * Reduce the results.  Using a {@code BiFunction<U, RowView, U>}, repeatedly
      * combine query results until only a single value remains.
@@ -310,6 +421,25 @@ public interface ResultBearing {
         });
     }
 
+    /**
+     * Reads the whole result set into a {@link ColumnarBatch} of off-heap column vectors, typed by the
+     * result set metadata. The columns are present even if there are no rows.
+     *
+     * @return the columnar batch
+     */
+    @Beta
+    default ColumnarBatch collectToColumnarBatch() {
+        return scanResultSet((supplier, ctx) -> {
+            try (ResultSet rs = supplier.get()) {
+                return ColumnarBatchBuilder.build(rs, ctx);
+            } catch (SQLException e) {
+                throw new UnableToProduceResultException(e, ctx);
+            } finally {
+                ctx.close();
+            }
+        });
+    }
+
     /**
      * Collect the results using the given collector. Do not attempt to accumulate the
      * {@link RowView} objects into the result--they are only valid within the
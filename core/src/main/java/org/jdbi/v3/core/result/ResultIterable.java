@@ -14,7 +14,6 @@
 package org.jdbi.v3.core.result;
 
 import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -28,6 +27,7 @@ import java.util.stream.StreamSupport;
 
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 import static java.util.Spliterators.spliteratorUnknownSize;
 
@@ -49,18 +49,7 @@ public interface ResultIterable<T> extends Iterable<T> {
      * @return the result iterable
      */
     static <T> ResultIterable<T> of(Supplier<ResultSet> supplier, RowMapper<T> mapper, StatementContext ctx) {
-        return () -> {
-            try {
-                return new ResultSetResultIterator<>(supplier.get(), mapper, ctx);
-            } catch (SQLException e) {
-                try {
-                    ctx.close();
-                } catch (Exception e1) {
-                    e.addSuppressed(e1);
-                }
-                throw new ResultSetException("Unable to iterator result set", e, ctx);
-            }
-        };
+        return new ResultSetResultIterable<>(supplier, mapper, ctx);
     }
 
     /**
@@ -104,6 +93,11 @@ public interface ResultIterable<T> extends Iterable<T> {
                 return mapper.apply(delegate.next());
             }
 
+            @Override
+            public void forEachRemaining(Consumer<? super U> action) {
+                delegate.forEachRemaining(t -> action.accept(mapper.apply(t)));
+            }
+
             @Override
             public StatementContext getContext() {
                 return delegate.getContext();
@@ -230,6 +224,25 @@ public interface ResultIterable<T> extends Iterable<T> {
                 .onClose(iterator::close);
     }
 
+    /**
+     * Returns a publisher of the results, which produces them only as its subscriber requests them.
+     * The statement executes upon the first request, and each request hints the driver to fetch
+     * no more rows than requested, up to 1000 at a time.
+     * Database resources are released once the results are exhausted, fail, or the subscription is
+     * cancelled.
+     * <p>
+     * Results are emitted on the thread which requests them, and reading them blocks that thread
+     * on the database; subscribers on an event loop should request them from another thread.
+     * Note that some drivers only honor the fetch size in a transaction, and otherwise read all
+     * rows into memory.
+     *
+     * @return a publisher of the results
+     */
+    @Beta
+    default ResultPublisher<T> publisher() {
+        return new ResultIterablePublisher<>(this);
+    }
+
     /**
      * Passes the stream of results to the consumer. Database resources owned by the query are
      * released before this method returns.
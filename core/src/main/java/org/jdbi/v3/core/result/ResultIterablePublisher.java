@@ -0,0 +1,172 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementCustomizers;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publishes the results of a {@link ResultIterable}, executing its statement upon the first
+ * request. Results are emitted on whichever thread calls {@link Subscription#request(long)};
+ * a request made while another thread is emitting is served by that thread, so the
+ * underlying iterator is never used concurrently.
+ */
+class ResultIterablePublisher<T> implements ResultPublisher<T> {
+    static final int MAX_FETCH_SIZE = 1000;
+
+    private final ResultIterable<T> iterable;
+
+    ResultIterablePublisher(ResultIterable<T> iterable) {
+        this.iterable = iterable;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new IterableSubscription<>(iterable, subscriber));
+    }
+
+    private static final class IterableSubscription<T> implements Subscription {
+        private final ResultIterable<T> iterable;
+        private final Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile IllegalArgumentException invalidRequest;
+
+        // only touched by the draining thread
+        private ResultIterator<T> iterator;
+        private int fetchSize;
+        private boolean done;
+
+        IterableSubscription(ResultIterable<T> iterable, Subscriber<? super T> subscriber) {
+            this.iterable = iterable;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " results, must request a positive number");
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (pendingDrains.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emit();
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            final long requested = demand.get();
+            if (requested == 0) {
+                return;
+            }
+
+            long emitted = 0;
+            try {
+                if (iterator == null) {
+                    prepareFetchSize(requested);
+                    iterator = iterable.iterator();
+                }
+                adjustFetchSize(requested);
+                while (emitted < requested && !cancelled && iterator.hasNext()) {
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+                if (!iterator.hasNext()) {
+                    finish();
+                    subscriber.onComplete();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                finish();
+                subscriber.onError(e);
+                return;
+            }
+            if (requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+        }
+
+        /**
+         * Has the statement fetch the first request, when executing. Only possible when the iterable
+         * maps a statement which has not executed yet; other iterables can only adjust their result set.
+         */
+        private void prepareFetchSize(long requested) {
+            if (iterable instanceof ResultSetResultIterable) {
+                final int size = fetchSizeFor(requested);
+                ((ResultSetResultIterable<T>) iterable).getContext()
+                    .getConfig(SqlStatements.class)
+                    .addCustomizer(StatementCustomizers.fetchSize(size));
+                fetchSize = size;
+            }
+        }
+
+        private void adjustFetchSize(long requested) {
+            final int size = fetchSizeFor(requested);
+            if (size != fetchSize && iterator instanceof ResultSetResultIterator) {
+                ((ResultSetResultIterator<T>) iterator).setFetchSize(size);
+                fetchSize = size;
+            }
+        }
+
+        private static int fetchSizeFor(long requested) {
+            return (int) Math.min(requested, MAX_FETCH_SIZE);
+        }
+
+        private void finish() {
+            done = true;
+            if (iterator != null) {
+                iterator.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Publishes results to subscribers as they signal demand, following the Reactive Streams
+ * protocol. The interfaces mirror {@code java.util.concurrent.Flow} and
+ * {@code org.reactivestreams}, so adapting to either is a matter of delegating method calls.
+ *
+ * @param <T> the result type
+ * @see ResultIterable#publisher()
+ */
+@Beta
+@FunctionalInterface
+public interface ResultPublisher<T> {
+    /**
+     * Subscribe to the results. Every subscription executes the statement anew.
+     *
+     * @param subscriber the subscriber
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+
+    /**
+     * Receives results from a {@link ResultPublisher}.
+     *
+     * @param <T> the result type
+     */
+    interface Subscriber<T> {
+        /**
+         * Called once, before any other method.
+         *
+         * @param subscription the subscription, used to request results
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called for each requested result.
+         *
+         * @param item the result
+         */
+        void onNext(T item);
+
+        /**
+         * Called at most once, when the results can not be produced. No further calls follow.
+         *
+         * @param failure the failure
+         */
+        void onError(Throwable failure);
+
+        /**
+         * Called at most once, after the last result. No further calls follow.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Links a {@link Subscriber} to a {@link ResultPublisher}.
+     */
+    interface Subscription {
+        /**
+         * Request more results.
+         *
+         * @param n the number of results to add to the outstanding demand; must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stop receiving results and release the database resources held for them.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Maps each row of a result set, which is only obtained, and its statement executed, upon iteration.
+ */
+final class ResultSetResultIterable<T> implements ResultIterable<T> {
+    private final Supplier<ResultSet> supplier;
+    private final RowMapper<T> mapper;
+    private final StatementContext ctx;
+
+    ResultSetResultIterable(Supplier<ResultSet> supplier, RowMapper<T> mapper, StatementContext ctx) {
+        this.supplier = supplier;
+        this.mapper = mapper;
+        this.ctx = ctx;
+    }
+
+    @Override
+    public ResultIterator<T> iterator() {
+        try {
+            return new ResultSetResultIterator<>(supplier.get(), mapper, ctx);
+        } catch (SQLException e) {
+            try {
+                ctx.close();
+            } catch (Exception e1) {
+                e.addSuppressed(e1);
+            }
+            throw new ResultSetException("Unable to iterator result set", e, ctx);
+        }
+    }
+
+    /**
+     * @return the context of the statement, which has not executed before the first iteration
+     */
+    StatementContext getContext() {
+        return ctx;
+    }
+}
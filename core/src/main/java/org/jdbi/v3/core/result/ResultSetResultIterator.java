@@ -16,20 +16,25 @@ package org.jdbi.v3.core.result;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Iterates a result set, mapping each row. Like the {@link ResultSet} it wraps, this
+ * iterator is confined to a single thread, so its state is kept in plain fields.
+ */
 class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final ResultSet results;
     private final RowMapper<T> mapper;
     private final StatementContext context;
 
-    private volatile boolean alreadyAdvanced = false;
-    private volatile boolean hasNext = false;
-    private volatile boolean closed = false;
+    /** The cursor is positioned on a row that has not been returned yet. */
+    private boolean alreadyAdvanced = false;
+    private boolean closed = false;
 
     ResultSetResultIterator(ResultSet results,
                             RowMapper<T> mapper,
@@ -54,18 +59,16 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         }
 
         if (alreadyAdvanced) {
-            return hasNext;
+            return true;
         }
 
-        hasNext = safeNext();
+        alreadyAdvanced = safeNext();
 
-        if (hasNext) {
-            alreadyAdvanced = true;
-        } else {
+        if (!alreadyAdvanced) {
             close();
         }
 
-        return hasNext;
+        return alreadyAdvanced;
     }
 
     @Override
@@ -79,16 +82,36 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
             throw new NoSuchElementException("No element to advance to");
         }
 
-        try {
-            return mapper.map(results, context);
-        } catch (SQLException e) {
-            throw new ResultSetException("Error thrown mapping result set into return type", e, context);
-        } finally {
-            alreadyAdvanced = safeNext();
-            if (!alreadyAdvanced) {
-                close();
-            }
+        alreadyAdvanced = false;
+        final T row = mapRow();
+
+        alreadyAdvanced = safeNext();
+        if (!alreadyAdvanced) {
+            close();
         }
+
+        return row;
+    }
+
+    /**
+     * Maps the remaining rows in a tight loop straight off the result set,
+     * without the per-row bookkeeping of {@link #hasNext()} and {@link #next()}.
+     * Streams and {@link ResultIterable#forEach(Consumer)} end up here.
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        requireNonNull(action);
+
+        if (!hasNext()) {
+            return;
+        }
+
+        do {
+            alreadyAdvanced = false;
+            action.accept(mapRow());
+        } while (!closed && safeNext());
+
+        close();
     }
 
     @Override
@@ -96,11 +119,33 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         return context;
     }
 
+    /**
+     * Hint how many rows to fetch from the database at a time, from now on.
+     */
+    void setFetchSize(int rows) {
+        if (closed) {
+            return;
+        }
+        try {
+            results.setFetchSize(rows);
+        } catch (SQLException e) {
+            throw new ResultSetException("Unable to set fetch size", e, context);
+        }
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException("Deleting from a result set iterator is not yet supported");
     }
 
+    private T mapRow() {
+        try {
+            return mapper.map(results, context);
+        } catch (SQLException e) {
+            throw new ResultSetException("Error thrown mapping result set into return type", e, context);
+        }
+    }
+
     private boolean safeNext() {
         try {
             return results.next();
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Writes the keys or values of a {@link SpillingContainer} to its spill files, and reads them back.
+ *
+ * @param <T> the type of the keys or values
+ * @see SpillingRowReducer
+ */
+@Beta
+public interface SpillSerializer<T> {
+    /**
+     * Writes a value.
+     *
+     * @param out the spill file
+     * @param value the value to write
+     * @throws IOException if the value could not be written
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * Reads a value written by {@link #write(DataOutput, Object)}.
+     *
+     * @param in the spill file
+     * @return the value read
+     * @throws IOException if the value could not be read
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Returns a serializer using Java serialization, for {@link java.io.Serializable} types.
+     *
+     * @param <T> the type of the keys or values
+     * @return a serializer using Java serialization
+     */
+    static <T> SpillSerializer<T> java() {
+        return new SpillSerializer<T>() {
+            @Override
+            public void write(DataOutput out, T value) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream objects = new ObjectOutputStream(bytes)) {
+                    objects.writeObject(value);
+                }
+                out.writeInt(bytes.size());
+                out.write(bytes.toByteArray());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T read(DataInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return (T) objects.readObject();
+                } catch (ClassNotFoundException e) {
+                    InvalidObjectException ex = new InvalidObjectException("Unable to read spilled value");
+                    ex.initCause(e);
+                    throw ex;
+                }
+            }
+        };
+    }
+}
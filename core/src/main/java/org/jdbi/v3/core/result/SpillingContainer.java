@@ -0,0 +1,385 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.meta.Beta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The result container of a {@link SpillingRowReducer}. It holds values by key in memory until their total
+ * weight exceeds the reducer's heap budget, then writes them to a spill file sorted by key. Streaming the
+ * container merges the spill files and the values still in memory in key order, reading one value per file
+ * at a time. Spill files are deleted when the stream is exhausted or closed, or when the container is closed.
+ * The spill files of a container dropped before either are deleted once it was garbage collected, when any
+ * container is next created, spills or is closed.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@Beta
+public final class SpillingContainer<K, V> implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SpillingContainer.class);
+
+    // spill files of containers which were collected without being closed
+    private static final ReferenceQueue<SpillingContainer<?, ?>> ABANDONED = new ReferenceQueue<>();
+    // keeps the spill files of open containers reachable, so that they are enqueued
+    private static final Set<SpillFiles> OPEN = ConcurrentHashMap.newKeySet();
+
+    private final SpillingRowReducer<K, V> reducer;
+    private final Comparator<? super K> keyOrder;
+    private final Map<K, Group<V>> groups = new HashMap<>();
+    private final List<Source<K, V>> sources = new ArrayList<>();
+
+    private SpillFiles files;
+    private int spillCount;
+    private Group<V> lastGroup;
+    private long weight;
+
+    SpillingContainer(SpillingRowReducer<K, V> reducer) {
+        this.reducer = reducer;
+        this.keyOrder = reducer.keyOrder();
+        deleteAbandoned();
+    }
+
+    /**
+     * Returns the value of the given key, creating it if there is none in memory. The value may be modified until
+     * the next call of this method, which may spill it. Any earlier value of the key which was spilled is merged
+     * with this one when the container is streamed.
+     *
+     * @param key the key of the current row
+     * @param create creates the value of a key
+     * @return the value of the key
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> create) {
+        if (lastGroup != null) {
+            long lastWeight = reducer.weigh(lastGroup.value);
+            weight += lastWeight - lastGroup.weight;
+            lastGroup.weight = lastWeight;
+        }
+
+        if (weight > reducer.heapBudget() && !groups.containsKey(key)) {
+            spill();
+        }
+
+        Group<V> group = groups.get(key);
+        if (group == null) {
+            group = new Group<>(create.apply(key));
+            groups.put(key, group);
+        }
+        lastGroup = group;
+        return group.value;
+    }
+
+    /**
+     * Returns the number of spill files written so far.
+     *
+     * @return the number of spill files
+     */
+    public int getSpillCount() {
+        return spillCount;
+    }
+
+    /**
+     * Returns the reduced values in key order. Values of a key which was spilled are merged with
+     * {@link SpillingRowReducer#merge(Object, Object)}. The container may only be streamed once.
+     *
+     * @return the stream of reduced values
+     */
+    public Stream<V> stream() {
+        if (!sources.isEmpty()) {
+            throw new IllegalStateException("container was already streamed");
+        }
+        try {
+            if (files != null) {
+                for (Path spill : files.paths) {
+                    sources.add(new SpillSource<>(sources.size(), spill, files, reducer));
+                }
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        sources.add(new MemorySource<>(sources.size(), sortedGroups()));
+        groups.clear();
+        lastGroup = null;
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Merge(), Spliterator.ORDERED), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * Deletes the spill files of this container.
+     */
+    @Override
+    public void close() {
+        if (files != null) {
+            files.delete();
+            files = null;
+        }
+        deleteAbandoned();
+    }
+
+    private void spill() {
+        deleteAbandoned();
+        if (files == null) {
+            files = new SpillFiles(this);
+        }
+        Path spill;
+        try {
+            spill = Files.createTempFile(reducer.spillDirectory(), "jdbi-spill", ".tmp");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create spill file", e);
+        }
+        files.paths.add(spill);
+        spillCount++;
+
+        SpillSerializer<K> keys = reducer.keySerializer();
+        SpillSerializer<V> values = reducer.valueSerializer();
+        List<Map.Entry<K, Group<V>>> sorted = sortedGroups();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spill)))) {
+            out.writeInt(sorted.size());
+            for (Map.Entry<K, Group<V>> entry : sorted) {
+                keys.write(out, entry.getKey());
+                values.write(out, entry.getValue().value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write spill file", e);
+        }
+
+        groups.clear();
+        lastGroup = null;
+        weight = 0;
+    }
+
+    private static void deleteAbandoned() {
+        Reference<?> abandoned = ABANDONED.poll();
+        while (abandoned != null) {
+            try {
+                ((SpillFiles) abandoned).delete();
+            } catch (UncheckedIOException e) {
+                LOG.warn("Unable to delete abandoned spill files", e);
+            }
+            abandoned = ABANDONED.poll();
+        }
+    }
+
+    private List<Map.Entry<K, Group<V>>> sortedGroups() {
+        List<Map.Entry<K, Group<V>>> sorted = new ArrayList<>(groups.entrySet());
+        sorted.sort(Map.Entry.comparingByKey(keyOrder));
+        return sorted;
+    }
+
+    private static final class Group<V> {
+        private final V value;
+        private long weight;
+
+        private Group(V value) {
+            this.value = value;
+        }
+    }
+
+    /** The spill files of a container and their open readers, deleted on close or once the container was collected. */
+    private static final class SpillFiles extends PhantomReference<SpillingContainer<?, ?>> {
+        private final List<Path> paths = new ArrayList<>();
+        private final List<Closeable> readers = new ArrayList<>();
+
+        private SpillFiles(SpillingContainer<?, ?> container) {
+            super(container, ABANDONED);
+            OPEN.add(this);
+        }
+
+        private void delete() {
+            OPEN.remove(this);
+            clear();
+            UncheckedIOException failure = null;
+            for (Closeable reader : readers) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    failure = addFailure(failure, "Unable to close spill file", e);
+                }
+            }
+            for (Path path : paths) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    failure = addFailure(failure, "Unable to delete spill file", e);
+                }
+            }
+            readers.clear();
+            paths.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private static UncheckedIOException addFailure(UncheckedIOException failure, String message, IOException e) {
+            if (failure == null) {
+                return new UncheckedIOException(message, e);
+            }
+            failure.addSuppressed(e);
+            return failure;
+        }
+    }
+
+    /** A sorted run of keys and values, positioned on its current entry. */
+    private abstract static class Source<K, V> {
+        private final int index;
+        K key;
+        V value;
+
+        Source(int index) {
+            this.index = index;
+        }
+
+        /** Moves to the next entry, returning false at the end of the run. */
+        abstract boolean advance();
+    }
+
+    private static final class SpillSource<K, V> extends Source<K, V> {
+        private final DataInputStream in;
+        private final SpillSerializer<K> keys;
+        private final SpillSerializer<V> values;
+        private int remaining;
+
+        private SpillSource(int index, Path spill, SpillFiles files, SpillingRowReducer<K, V> reducer) {
+            super(index);
+            this.keys = reducer.keySerializer();
+            this.values = reducer.valueSerializer();
+            try {
+                this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spill)));
+                files.readers.add(in);
+                this.remaining = in.readInt();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read spill file", e);
+            }
+        }
+
+        @Override
+        boolean advance() {
+            try {
+                if (remaining == 0) {
+                    return false;
+                }
+                remaining--;
+                key = keys.read(in);
+                value = values.read(in);
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read spill file", e);
+            }
+        }
+    }
+
+    private static final class MemorySource<K, V> extends Source<K, V> {
+        private final Iterator<Map.Entry<K, Group<V>>> entries;
+
+        private MemorySource(int index, List<Map.Entry<K, Group<V>>> entries) {
+            super(index);
+            this.entries = entries.iterator();
+        }
+
+        @Override
+        boolean advance() {
+            if (!entries.hasNext()) {
+                return false;
+            }
+            Map.Entry<K, Group<V>> entry = entries.next();
+            key = entry.getKey();
+            value = entry.getValue().value;
+            return true;
+        }
+    }
+
+    private final class Merge implements Iterator<V> {
+        // equal keys are merged in the order their values were reduced
+        private final PriorityQueue<Source<K, V>> heads = new PriorityQueue<>(sources.size(), (a, b) -> {
+            int byKey = keyOrder.compare(a.key, b.key);
+            return byKey == 0 ? Integer.compare(a.index, b.index) : byKey;
+        });
+        private boolean started;
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                for (Source<K, V> source : sources) {
+                    if (source.advance()) {
+                        heads.add(source);
+                    }
+                }
+            }
+            if (heads.isEmpty()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Source<K, V> source = heads.remove();
+            K key = source.key;
+            V value = source.value;
+            requeue(source);
+
+            while (!heads.isEmpty() && keyOrder.compare(heads.peek().key, key) == 0) {
+                source = heads.remove();
+                value = reducer.merge(value, source.value);
+                requeue(source);
+            }
+
+            return value;
+        }
+
+        private void requeue(Source<K, V> source) {
+            if (source.advance()) {
+                heads.add(source);
+            }
+        }
+    }
+}
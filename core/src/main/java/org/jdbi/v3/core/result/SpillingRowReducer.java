@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A row reducer for results too large to reduce in memory, whose rows cannot be ordered by key
+ * (otherwise, see {@link KeyOrderedRowReducer}). Its {@link SpillingContainer} holds values up to a
+ * total weight of {@link #heapBudget()}; beyond that, it writes the values it holds to a temporary
+ * file sorted by key, and starts over. Values of the same key in several files are combined with
+ * {@link #merge(Object, Object)} when the container is streamed, in key order.
+ *
+ * <p>Implementors need to implement {@link #accumulate(Object, RowView)}, calling
+ * {@link SpillingContainer#computeIfAbsent(Object, java.util.function.Function)} for the value of each
+ * row, and {@link #merge(Object, Object)}. Keys and values are spilled using Java serialization unless
+ * {@link #keySerializer()} and {@link #valueSerializer()} are overridden.
+ *
+ * @param <K> the key type--often the primary key type of {@code <V>}.
+ * @param <V> the value type, and the result element type--often the "master" object in a
+ *            master/detail relation.
+ */
+@Beta
+public interface SpillingRowReducer<K, V> extends RowReducer<SpillingContainer<K, V>, V> {
+    /**
+     * Combines two values reduced from rows of the same key. The first value was reduced from rows preceding
+     * those of the second one.
+     *
+     * @param first the value reduced from earlier rows
+     * @param second the value reduced from later rows
+     * @return the combined value
+     */
+    V merge(V first, V second);
+
+    /**
+     * Returns the total weight of values to hold in memory before spilling them.
+     *
+     * @return the heap budget, in units of {@link #weigh(Object)}
+     */
+    default long heapBudget() {
+        return 100_000;
+    }
+
+    /**
+     * Estimates the heap size of a value, in any unit consistent with {@link #heapBudget()}. A value is
+     * weighed again whenever a later row is accumulated, so the estimate should be cheap.
+     *
+     * @param value the value to weigh
+     * @return the weight of the value; by default, 1, so that the budget is a number of values
+     */
+    default long weigh(V value) {
+        return 1;
+    }
+
+    /**
+     * Returns the order of keys in spill files and in the result.
+     *
+     * @return the key order; by default the natural order of keys
+     */
+    @SuppressWarnings("unchecked")
+    default Comparator<? super K> keyOrder() {
+        return (Comparator<? super K>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Returns the serializer for spilled keys.
+     *
+     * @return the key serializer; by default, Java serialization
+     */
+    default SpillSerializer<K> keySerializer() {
+        return SpillSerializer.java();
+    }
+
+    /**
+     * Returns the serializer for spilled values.
+     *
+     * @return the value serializer; by default, Java serialization
+     */
+    default SpillSerializer<V> valueSerializer() {
+        return SpillSerializer.java();
+    }
+
+    /**
+     * Returns the directory in which to create spill files.
+     *
+     * @return the spill directory; by default, {@code java.io.tmpdir}
+     */
+    default Path spillDirectory() {
+        return Paths.get(System.getProperty("java.io.tmpdir"));
+    }
+
+    @Override
+    default SpillingContainer<K, V> container() {
+        return new SpillingContainer<>(this);
+    }
+
+    @Override
+    default Stream<V> stream(SpillingContainer<K, V> container) {
+        return container.stream();
+    }
+
+    /**
+     * Returns a collector reducing rows with this reducer, for {@link ResultBearing#collectRows(Collector)}.
+     *
+     * @return a collector returning the stream of result elements
+     */
+    default Collector<RowView, SpillingContainer<K, V>, Stream<V>> collector() {
+        return Collector.of(this::container, this::accumulate, (a, b) -> {
+            throw new UnsupportedOperationException("row reduction cannot be parallel");
+        }, this::stream);
+    }
+}
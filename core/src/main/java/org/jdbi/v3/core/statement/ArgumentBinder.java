@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -34,6 +35,8 @@ import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory.PrepareKey;
 import org.jdbi.v3.core.argument.internal.TypedValue;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.internal.JdbiOptionals;
 import org.jdbi.v3.core.internal.exceptions.CheckedConsumer;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
@@ -42,15 +45,28 @@ import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.jdbi.v3.core.statement.internal.PreparedBinding;
 
 class ArgumentBinder<Stmt extends SqlStatement<?>> {
+    private static final JdbiCache<ParsedSql, BindingPlans> BINDING_PLANS =
+        JdbiCaches.declare("ArgumentBinder.plans", "maximumSize=1000", (config, sql) -> new BindingPlans());
+
     final PreparedStatement stmt;
     final StatementContext ctx;
     final ParsedParameters params;
+    final ParsedSql parsedSql;
     final Map<QualifiedType<?>, Function<Object, Argument>> argumentFactoryByType = new HashMap<>();
 
     ArgumentBinder(PreparedStatement stmt, StatementContext ctx, ParsedParameters params) {
+        this(stmt, ctx, params, null);
+    }
+
+    ArgumentBinder(PreparedStatement stmt, StatementContext ctx, ParsedSql parsedSql) {
+        this(stmt, ctx, parsedSql.getParameters(), parsedSql);
+    }
+
+    private ArgumentBinder(PreparedStatement stmt, StatementContext ctx, ParsedParameters params, ParsedSql parsedSql) {
         this.stmt = stmt;
         this.ctx = ctx;
         this.params = params;
+        this.parsedSql = parsedSql;
     }
 
     void bind(Binding binding) {
@@ -81,29 +97,53 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
     void bindNamed(Binding binding) {
         final List<String> paramNames = params.getParameterNames();
         bindNamedCheck(binding, paramNames);
-        for (int i = 0; i < paramNames.size(); i++) { // NOPMD
-            final int index = i;
-            wrapExceptions(() -> paramNames.get(index), x -> {
-                final String name = paramNames.get(index);
-                final Object value = binding.named.get(name);
-                if (value == null && !binding.named.containsKey(name)) {
-                    for (NamedArgumentFinder naf : binding.namedArgumentFinder) {
-                        Optional<Argument> found = naf.find(name, ctx);
-                        if (found.isPresent()) {
-                            found.get().apply(index + 1, stmt, ctx);
-                            return;
-                        }
-                    }
-                    throw missingNamedParameter(name, binding);
+        if (paramNames.isEmpty()) {
+            return;
+        }
+        if (parsedSql == null) {
+            bindNamed(binding, new BindingPlan(ctx, paramNames, binding));
+            return;
+        }
+        final BindingPlans plans = BINDING_PLANS.get(parsedSql, ctx);
+        BindingPlan plan = plans.find(paramNames, binding);
+        if (plan == null) {
+            plan = new BindingPlan(ctx, paramNames, binding);
+            plans.add(plan);
+        }
+        bindNamed(binding, plan);
+    }
+
+    private void bindNamed(Binding binding, BindingPlan plan) {
+        final List<String> paramNames = params.getParameterNames();
+        for (int i = 0; i < plan.types.length; i++) {
+            final String name = paramNames.get(i);
+            final QualifiedType<?> type = plan.types[i];
+            try {
+                if (type == null) {
+                    findNamed(name, binding).apply(i + 1, stmt, ctx);
                 } else {
-                    argumentFactoryForType(typeOf(value))
-                            .apply(unwrap(value))
-                            .apply(index + 1, stmt, ctx);
+                    argumentFactoryForType(type)
+                        .apply(unwrap(binding.named.get(name)))
+                        .apply(i + 1, stmt, ctx);
                 }
-            }).accept(null);
+            } catch (SQLException e) {
+                throw new UnableToCreateStatementException(
+                        String.format("Exception while binding named parameter '%s'", name),
+                        e, ctx);
+            }
         }
     }
 
+    private Argument findNamed(String name, Binding binding) {
+        for (NamedArgumentFinder naf : binding.namedArgumentFinder) {
+            Optional<Argument> found = naf.find(name, ctx);
+            if (found.isPresent()) {
+                return found.get();
+            }
+        }
+        throw missingNamedParameter(name, binding);
+    }
+
     void bindNamedCheck(Binding binding, List<String> paramNames) {
         // best effort: compare empty to non-empty because we can't list the individual binding names (unless we expose a method to do so)
         boolean argumentsProvidedButNoneDeclared = paramNames.isEmpty() && !binding.isEmpty();
@@ -138,7 +178,7 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
             Function<Object, Argument> factory =
                 args.prepareFor(type)
                     .orElse(v -> args.findFor(type, v)
-                            .orElseThrow(() -> factoryNotFound(type, v)));
+                            .orElseThrow(() -> factoryNotFound(type, v, ctx)));
             return value -> DescribedArgument.wrap(ctx, factory.apply(value), value);
         });
     }
@@ -161,7 +201,7 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
         };
     }
 
-    private UnableToCreateStatementException factoryNotFound(QualifiedType<?> qualifiedType, Object value) {
+    private static UnableToCreateStatementException factoryNotFound(QualifiedType<?> qualifiedType, Object value, StatementContext ctx) {
         Type type = qualifiedType.getType();
         if (type instanceof Class<?>) { // not a ParameterizedType
             final TypeVariable<?>[] typeVars = ((Class<?>) type).getTypeParameters();
@@ -178,6 +218,13 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
         return maybeTypedValue instanceof TypedValue ? ((TypedValue) maybeTypedValue).getValue() : maybeTypedValue;
     }
 
+    static Object typeKeyOf(Object value) {
+        if (value instanceof TypedValue) {
+            return ((TypedValue) value).getType();
+        }
+        return value == null ? null : value.getClass();
+    }
+
     static class Prepared extends ArgumentBinder<PreparedBatch> {
         final PreparedBatch batch;
         final Consumer<PreparedBinding> preparedBinder;
@@ -240,4 +287,80 @@ class ArgumentBinder<Stmt extends SqlStatement<?>> {
             preparedBinder.accept((PreparedBinding) binding);
         }
     }
+
+    /**
+     * The binding plans of one statement, for each combination of value types bound to it.
+     * Most statements are only ever bound with one, so plans are kept in a small array,
+     * replaced as a whole when a plan is added.
+     */
+    private static final class BindingPlans {
+        private static final int MAX_PLANS = 8;
+
+        private final Object addLock = new Object();
+        private volatile BindingPlan[] plans = new BindingPlan[0];
+
+        BindingPlan find(List<String> paramNames, Binding binding) {
+            for (BindingPlan plan : plans) {
+                if (plan.matches(paramNames, binding)) {
+                    return plan;
+                }
+            }
+            return null;
+        }
+
+        void add(BindingPlan plan) {
+            synchronized (addLock) {
+                final BindingPlan[] current = plans;
+                final BindingPlan[] added = new BindingPlan[Math.min(current.length + 1, MAX_PLANS)];
+                added[0] = plan;
+                System.arraycopy(current, 0, added, 1, added.length - 1);
+                plans = added;
+            }
+        }
+    }
+
+    /**
+     * The qualified type of each named parameter of a statement, given the type of the value bound
+     * to each name, or the absence of a value for names resolved through a {@link NamedArgumentFinder}.
+     * Plans are shared by every statement executing the same SQL, so they do not hold on to argument
+     * factories: those are prepared by each statement, against its own {@link Arguments}.
+     */
+    private static final class BindingPlan {
+        private static final Object FOUND_BY_NAME = new Object();
+
+        private final Object[] typeKeys;
+        private final QualifiedType<?>[] types;
+
+        BindingPlan(StatementContext ctx, List<String> paramNames, Binding binding) {
+            final Map<Object, QualifiedType<?>> typeByTypeKey = new HashMap<>();
+            typeKeys = new Object[paramNames.size()];
+            types = new QualifiedType<?>[typeKeys.length];
+            for (int i = 0; i < typeKeys.length; i++) {
+                final Object typeKey = typeKeyOf(paramNames.get(i), binding);
+                typeKeys[i] = typeKey;
+                if (!FOUND_BY_NAME.equals(typeKey)) {
+                    types[i] = typeByTypeKey.computeIfAbsent(typeKey, k -> k instanceof QualifiedType
+                        ? (QualifiedType<?>) k
+                        : ctx.getConfig(Qualifiers.class).qualifiedTypeOf(k == null ? Object.class : (Class<?>) k));
+                }
+            }
+        }
+
+        boolean matches(List<String> paramNames, Binding binding) {
+            for (int i = 0; i < typeKeys.length; i++) {
+                if (!Objects.equals(typeKeyOf(paramNames.get(i), binding), typeKeys[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Object typeKeyOf(String name, Binding binding) {
+            final Object value = binding.named.get(name);
+            if (value == null && !binding.named.containsKey(name)) {
+                return FOUND_BY_NAME;
+            }
+            return ArgumentBinder.typeKeyOf(value);
+        }
+    }
 }
@@ -0,0 +1,273 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A StatementBuilder which keeps a bounded, least-recently-used cache of
+ * prepared statements for the connection of a single handle.
+ * <p>
+ * Statements are keyed by the translated SQL, the requested generated key
+ * columns and the result set concurrency. A cached statement is handed out
+ * to at most one SQL statement at a time; when that statement is cleaned up,
+ * the prepared statement is reset and returned to the cache instead of being
+ * closed. All cached statements are closed when the handle is closed.
+ * <p>
+ * Fetch size, max rows, max field size and query timeout are restored to
+ * the values observed when the statement was first prepared, so that
+ * {@link StatementCustomizers} applied to one execution do not leak into
+ * the next one.
+ *
+ * @see CachingStatementBuilderFactory
+ */
+@Beta
+public class CachingStatementBuilder extends DefaultStatementBuilder {
+    private final int maximumSize;
+    private final CachingStatementBuilderFactory factory;
+
+    private final LinkedHashMap<StatementKey, CachedStatement> cache;
+    private final Map<Statement, CachedStatement> checkedOut = new IdentityHashMap<>();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Create a caching statement builder which is not attached to a factory.
+     *
+     * @param maximumSize the maximum number of idle prepared statements to keep
+     */
+    public CachingStatementBuilder(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    CachingStatementBuilder(int maximumSize, CachingStatementBuilderFactory factory) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.factory = factory;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        StatementKey key = new StatementKey(sql, ctx);
+        CachedStatement cached = cache.remove(key);
+        if (cached == null) {
+            missCount++;
+            if (factory != null) {
+                factory.recordMiss();
+            }
+            cached = new CachedStatement(key, super.create(conn, sql, ctx));
+        } else {
+            hitCount++;
+            if (factory != null) {
+                factory.recordHit();
+            }
+        }
+        checkedOut.put(cached.stmt, cached);
+        return cached.stmt;
+    }
+
+    /**
+     * Return a statement created by this builder to the cache. Statements
+     * that were not created by {@link #create(Connection, String, StatementContext)},
+     * or that have been closed in the meantime, are closed and discarded.
+     */
+    @Override
+    public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+        if (stmt == null) {
+            return;
+        }
+        CachedStatement cached = checkedOut.remove(stmt);
+        if (cached == null || stmt.isClosed()) {
+            stmt.close();
+            return;
+        }
+        try {
+            cached.reset();
+        } catch (SQLException e) {
+            closeQuietly(cached, e);
+            throw e;
+        }
+        CachedStatement previous = cache.put(cached.key, cached);
+        if (previous != null) {
+            previous.stmt.close();
+        }
+        evictEldest();
+    }
+
+    /**
+     * Close all statements cached for the given connection.
+     */
+    @Override
+    public void close(Connection conn) {
+        List<CachedStatement> toClose = new ArrayList<>(cache.values());
+        cache.clear();
+        for (CachedStatement cached : toClose) {
+            closeQuietly(cached, null);
+        }
+    }
+
+    /**
+     * @return the number of prepared statements currently idle in the cache
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of times a cached statement was reused
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of times a new statement had to be prepared
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of cached statements closed to stay within the size bound
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void evictEldest() throws SQLException {
+        SQLException failure = null;
+        Iterator<CachedStatement> iter = cache.values().iterator();
+        while (cache.size() > maximumSize && iter.hasNext()) {
+            CachedStatement eldest = iter.next();
+            iter.remove();
+            evictionCount++;
+            if (factory != null) {
+                factory.recordEviction();
+            }
+            try {
+                eldest.stmt.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void closeQuietly(CachedStatement cached, SQLException cause) {
+        try {
+            cached.stmt.close();
+        } catch (SQLException e) {
+            if (cause != null) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    private static final class CachedStatement {
+        private final StatementKey key;
+        private final PreparedStatement stmt;
+        private final int fetchSize;
+        private final int maxRows;
+        private final int maxFieldSize;
+        private final int queryTimeout;
+
+        CachedStatement(StatementKey key, PreparedStatement stmt) throws SQLException {
+            this.key = key;
+            this.stmt = stmt;
+            this.fetchSize = stmt.getFetchSize();
+            this.maxRows = stmt.getMaxRows();
+            this.maxFieldSize = stmt.getMaxFieldSize();
+            this.queryTimeout = stmt.getQueryTimeout();
+        }
+
+        void reset() throws SQLException {
+            stmt.clearParameters();
+            stmt.clearBatch();
+            stmt.clearWarnings();
+            if (stmt.getFetchSize() != fetchSize) {
+                stmt.setFetchSize(fetchSize);
+            }
+            if (stmt.getMaxRows() != maxRows) {
+                stmt.setMaxRows(maxRows);
+            }
+            if (stmt.getMaxFieldSize() != maxFieldSize) {
+                stmt.setMaxFieldSize(maxFieldSize);
+            }
+            if (stmt.getQueryTimeout() != queryTimeout) {
+                stmt.setQueryTimeout(queryTimeout);
+            }
+        }
+    }
+
+    private static final class StatementKey {
+        private final String sql;
+        private final boolean returningGeneratedKeys;
+        private final String[] generatedKeysColumnNames;
+        private final boolean concurrentUpdatable;
+        private final int hashCode;
+
+        StatementKey(String sql, StatementContext ctx) {
+            this.sql = sql;
+            this.returningGeneratedKeys = ctx.isReturningGeneratedKeys();
+            this.generatedKeysColumnNames = returningGeneratedKeys ? ctx.getGeneratedKeysColumnNames() : new String[0];
+            this.concurrentUpdatable = !returningGeneratedKeys && ctx.isConcurrentUpdatable();
+            this.hashCode = Objects.hash(sql, returningGeneratedKeys, Arrays.hashCode(generatedKeysColumnNames), concurrentUpdatable);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey other = (StatementKey) obj;
+            return hashCode == other.hashCode
+                && returningGeneratedKeys == other.returningGeneratedKeys
+                && concurrentUpdatable == other.concurrentUpdatable
+                && sql.equals(other.sql)
+                && Arrays.equals(generatedKeysColumnNames, other.generatedKeysColumnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Creates a {@link CachingStatementBuilder} for every handle, and aggregates
+ * their hit, miss and eviction counters. Install with
+ * {@link org.jdbi.v3.core.Jdbi#setStatementBuilderFactory(StatementBuilderFactory)}.
+ */
+@Beta
+public class CachingStatementBuilderFactory implements StatementBuilderFactory {
+    private static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private final int maximumSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Cache up to 64 prepared statements per handle.
+     */
+    public CachingStatementBuilderFactory() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize the maximum number of idle prepared statements to keep per handle
+     */
+    public CachingStatementBuilderFactory(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public StatementBuilder createStatementBuilder(Connection conn) {
+        return new CachingStatementBuilder(maximumSize, this);
+    }
+
+    /**
+     * @return the number of times a cached statement was reused, over all handles
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of times a new statement had to be prepared, over all handles
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of cached statements closed to stay within the size bound, over all handles
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+    }
+}
@@ -14,16 +14,22 @@
 package org.jdbi.v3.core.statement;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.Token;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiCache;
 import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.internal.lexer.DefineStatementLexer;
 import org.jdbi.v3.core.statement.internal.ErrorListener;
+import org.jdbi.v3.meta.Beta;
 
 import static org.antlr.v4.runtime.Recognizer.EOF;
 import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.COMMENT;
@@ -40,17 +46,31 @@ import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.QUOTED_TEXT;
  * (<code>_</code>).
  */
 public class DefinedAttributeTemplateEngine implements TemplateEngine {
-    private static final JdbiCache<String, Function<StatementContext, String>> RENDER_CACHE =
-            JdbiCaches.declare(DefinedAttributeTemplateEngine::prepare);
+    private static final JdbiCache<String, PreparedTemplate> RENDER_CACHE =
+            JdbiCaches.declare("DefinedAttributeTemplateEngine.render", "maximumSize=1000", (config, template) -> prepare(template));
 
     @Override
     public String render(String template, StatementContext ctx) {
-        return RENDER_CACHE.get(template, ctx).apply(ctx);
+        return RENDER_CACHE.get(template, ctx).renderer.apply(ctx);
     }
 
-    private static Function<StatementContext, String> prepare(String template) {
+    /**
+     * Returns the attributes the template reads. Subclasses may render templates differently, so they
+     * declare no dependencies unless they override this method.
+     */
+    @Beta
+    @Override
+    public Optional<Set<String>> findAttributeDependencies(String template, ConfigRegistry config) {
+        if (getClass() != DefinedAttributeTemplateEngine.class) {
+            return Optional.empty();
+        }
+        return Optional.of(RENDER_CACHE.get(template, config).attributes);
+    }
+
+    private static PreparedTemplate prepare(String template) {
         StringBuilder buf = new StringBuilder();
         List<BiConsumer<StatementContext, StringBuilder>> preparation = new ArrayList<>();
+        Set<String> attributes = new LinkedHashSet<>();
         Runnable pushBuf = () -> { // NOPMD
             if (buf.length() > 0) {
                 String bit = buf.toString();
@@ -73,6 +93,7 @@ public class DefinedAttributeTemplateEngine implements TemplateEngine {
                 pushBuf.run();
                 String text = t.getText();
                 String key = text.substring(1, text.length() - 1);
+                attributes.add(key);
                 preparation.add((ctx, b) -> {
                     Object value = ctx.getAttribute(key);
                     if (value == null) {
@@ -90,7 +111,7 @@ public class DefinedAttributeTemplateEngine implements TemplateEngine {
             t = lexer.nextToken();
         }
         pushBuf.run();
-        return ctx -> {
+        return new PreparedTemplate(ctx -> {
             try {
                 StringBuilder result = new StringBuilder();
                 preparation.forEach(a -> a.accept(ctx, result));
@@ -98,6 +119,16 @@ public class DefinedAttributeTemplateEngine implements TemplateEngine {
             } catch (RuntimeException e) {
                 throw new UnableToCreateStatementException("Error rendering SQL template: '" + template + "'", e, ctx);
             }
-        };
+        }, Collections.unmodifiableSet(attributes));
+    }
+
+    private static final class PreparedTemplate {
+        private final Function<StatementContext, String> renderer;
+        private final Set<String> attributes;
+
+        PreparedTemplate(Function<StatementContext, String> renderer, Set<String> attributes) {
+            this.renderer = renderer;
+            this.attributes = attributes;
+        }
     }
 }
@@ -23,7 +23,7 @@ import org.jdbi.v3.core.config.JdbiCaches;
 
 class DescribedArgument implements Argument {
     private static final JdbiCache<Class<?>, Boolean> ARG_CLASS_HAS_TOSTRING =
-            JdbiCaches.declare(type -> {
+            JdbiCaches.declare("DescribedArgument.hasToString", type -> {
                 try {
                     return type.getMethod("toString")
                                .getDeclaringClass() != Object.class;
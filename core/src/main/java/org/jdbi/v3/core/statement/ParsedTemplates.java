@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.internal.UtilityClassException;
+
+/**
+ * Renders and parses statement templates, memoizing both steps for template engines which declare the
+ * attributes they read.
+ */
+final class ParsedTemplates {
+    private static final JdbiCache<TemplateKey, RenderedSql> CACHE =
+        JdbiCaches.declare("SqlStatements.parsedTemplates", "maximumSize=1000", (config, key) -> key.render());
+
+    private static final Object MUTABLE = new Object();
+
+    private ParsedTemplates() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * Render and parse the template, and store the results in the statement context.
+     *
+     * @param template the statement template
+     * @param ctx the statement context
+     * @return the parsed statement
+     */
+    static ParsedSql renderAndParse(String template, StatementContext ctx) {
+        final SqlStatements config = ctx.getConfig(SqlStatements.class);
+        final TemplateEngine engine = config.getTemplateEngine();
+        final SqlParser parser = config.getSqlParser();
+
+        final Optional<Object[]> values = contextFree(parser)
+            ? engine.findAttributeDependencies(template, ctx.getConfig()).flatMap(names -> attributeValues(names, ctx))
+            : Optional.empty();
+
+        final RenderedSql rendered;
+        if (values.isPresent()) {
+            final TemplateKey key = new TemplateKey(engine, parser, template, values.get(), ctx);
+            try {
+                rendered = CACHE.get(key, ctx);
+            } finally {
+                key.release();
+            }
+        } else {
+            rendered = RenderedSql.render(engine, parser, template, ctx);
+        }
+
+        ctx.setRenderedSql(rendered.sql);
+        ctx.setParsedSql(rendered.parsedSql);
+        return rendered.parsedSql;
+    }
+
+    /**
+     * Render and parse the template into the cache, if it reads no attributes.
+     *
+     * @param template the statement template
+     * @param config the configuration statements will execute with
+     * @return whether the template was parsed
+     */
+    static boolean preparse(String template, ConfigRegistry config) {
+        final SqlStatements statements = config.get(SqlStatements.class);
+        final boolean constant = contextFree(statements.getSqlParser())
+            && statements.getTemplateEngine()
+                .findAttributeDependencies(template, config)
+                .map(Set::isEmpty)
+                .orElse(false);
+        if (constant) {
+            renderAndParse(template, new StatementContext(config));
+        }
+        return constant;
+    }
+
+    /**
+     * Whether the parser reads nothing but the rendered SQL. Subclasses of the built-in parsers may
+     * override {@link SqlParser#parse(String, StatementContext)} to read the statement context.
+     */
+    private static boolean contextFree(SqlParser parser) {
+        return parser.getClass() == ColonPrefixSqlParser.class || parser.getClass() == HashPrefixSqlParser.class;
+    }
+
+    private static Optional<Object[]> attributeValues(Set<String> names, StatementContext ctx) {
+        final Object[] values = new Object[names.size()];
+        int i = 0;
+        for (String name : names) {
+            final Object value = immutableValue(ctx.getAttribute(name));
+            if (value == MUTABLE) { // NOPMD
+                return Optional.empty();
+            }
+            values[i] = value;
+            i++;
+        }
+        return Optional.of(values);
+    }
+
+    /**
+     * Returns a value which compares equal to the given one for as long as the key lives, or {@link #MUTABLE}.
+     */
+    private static Object immutableValue(Object value) {
+        if (value == null
+            || value instanceof String
+            || value instanceof Boolean
+            || value instanceof Character
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof Short
+            || value instanceof Byte
+            || value instanceof Double
+            || value instanceof Float
+            || value instanceof BigInteger && value.getClass() == BigInteger.class
+            || value instanceof BigDecimal && value.getClass() == BigDecimal.class
+            || value instanceof Enum) {
+            return value;
+        }
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            final List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                final Object immutable = immutableValue(element);
+                if (immutable == MUTABLE) { // NOPMD
+                    return MUTABLE;
+                }
+                copy.add(immutable);
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return MUTABLE;
+    }
+
+    private static final class TemplateKey {
+        private final TemplateEngine engine;
+        private final SqlParser parser;
+        private final String template;
+        private final Object[] values;
+        private final int hashCode;
+
+        private StatementContext ctx;
+
+        TemplateKey(TemplateEngine engine, SqlParser parser, String template, Object[] values, StatementContext ctx) { // NOPMD
+            this.engine = engine;
+            this.parser = parser;
+            this.template = template;
+            this.values = values;
+            this.hashCode = Objects.hash(System.identityHashCode(engine), System.identityHashCode(parser), template, Arrays.hashCode(values));
+            this.ctx = ctx;
+        }
+
+        RenderedSql render() {
+            return RenderedSql.render(engine, parser, template, ctx);
+        }
+
+        void release() {
+            ctx = null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey other = (TemplateKey) obj;
+            return hashCode == other.hashCode
+                && engine == other.engine
+                && parser == other.parser
+                && template.equals(other.template)
+                && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class RenderedSql {
+        private final String sql;
+        private final ParsedSql parsedSql;
+
+        private RenderedSql(String sql, ParsedSql parsedSql) {
+            this.sql = sql;
+            this.parsedSql = parsedSql;
+        }
+
+        static RenderedSql render(TemplateEngine engine, SqlParser parser, String template, StatementContext ctx) {
+            final String sql = engine.render(template, ctx);
+            ctx.setRenderedSql(sql);
+            return new RenderedSql(sql, parser.parse(sql, ctx));
+        }
+    }
+}
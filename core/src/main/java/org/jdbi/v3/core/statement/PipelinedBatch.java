@@ -0,0 +1,211 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Executes a large batch as a pipeline of {@link PreparedBatch} chunks on an {@link Executor}.
+ * <p>
+ * The thread calling {@link #execute(Iterator, Executor)} splits the rows into chunks, and binds
+ * each chunk into the prepared statement of a handle {@link Jdbi#open() opened} for it. It then
+ * hands the chunk to the executor, where it is executed and its handle closed, and goes on to
+ * bind the next chunk while earlier chunks execute. The calling thread blocks once
+ * {@link #setParallelism(int) parallelism} chunks are in flight, until one of them completes,
+ * so at most one handle more than the parallelism is open at a time.
+ * <p>
+ * With the default parallelism of 1, chunks execute one at a time, in order. With a higher
+ * parallelism, chunks execute concurrently over separate handles and may be applied to the
+ * database in any order. Either way, the update counts are reported in row order.
+ * <p>
+ * By default each chunk executes in its own transaction, so a failed chunk leaves no partial
+ * rows behind; chunks which completed before the failure remain committed. Executing the whole
+ * batch atomically is only possible on a single handle, with {@link PreparedBatch}.
+ *
+ * @param <T> the row type
+ */
+@Beta
+public class PipelinedBatch<T> {
+    private final Jdbi jdbi;
+    private final String sql;
+    private final BiConsumer<PreparedBatch, ? super T> binder;
+
+    private int chunkSize = 1000;
+    private int parallelism = 1;
+    private boolean transactional = true;
+
+    /**
+     * @param jdbi the Jdbi providing a handle for each chunk
+     * @param sql the batch statement
+     * @param binder binds a single row to the batch, before it is {@link PreparedBatch#add() added}
+     */
+    public PipelinedBatch(Jdbi jdbi, String sql, BiConsumer<PreparedBatch, ? super T> binder) {
+        this.jdbi = jdbi;
+        this.sql = sql;
+        this.binder = binder;
+    }
+
+    /**
+     * @param chunkSize the number of rows executed together, defaults to 1000
+     * @return this
+     */
+    public PipelinedBatch<T> setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @param parallelism the maximum number of chunks executing at the same time, each on its
+     * own handle; 1, the default, executes chunks strictly in order
+     * @return this
+     */
+    public PipelinedBatch<T> setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @param transactional whether each chunk executes in its own transaction, the default,
+     * or in the auto-commit mode of its handle
+     * @return this
+     */
+    public PipelinedBatch<T> setTransactional(boolean transactional) {
+        this.transactional = transactional;
+        return this;
+    }
+
+    /**
+     * Execute the batch for all rows. The rows are consumed and bound on the calling thread, which
+     * blocks while {@link #setParallelism(int) parallelism} chunks are in flight: this method only
+     * returns once every chunk has been handed to the executor, and the returned future completes
+     * once they have all executed. Cancelling the returned future, or a chunk failing, stops any
+     * further chunks from being submitted.
+     *
+     * @param rows the rows to insert or update
+     * @param executor executes the chunks; should not be shared with latency sensitive work,
+     * since each task blocks on the database
+     * @return the update counts of all rows, in row order
+     */
+    public CompletableFuture<int[]> execute(Iterator<? extends T> rows, Executor executor) {
+        final CompletableFuture<int[]> result = new CompletableFuture<>();
+        final List<CompletableFuture<int[]>> chunks = new ArrayList<>();
+        final Semaphore inFlight = new Semaphore(parallelism);
+        try {
+            while (rows.hasNext() && !result.isDone()) {
+                final PreparedBatch chunk = bindChunk(rows);
+                final CompletableFuture<int[]> future;
+                try {
+                    inFlight.acquire();
+                    if (result.isDone()) {
+                        inFlight.release();
+                        chunk.getHandle().close();
+                        break;
+                    }
+                    future = CompletableFuture.supplyAsync(() -> executeChunk(chunk), executor);
+                } catch (InterruptedException | RuntimeException e) {
+                    chunk.getHandle().close();
+                    throw e;
+                }
+                future.whenComplete((counts, failure) -> {
+                    if (failure != null) {
+                        result.completeExceptionally(unwrap(failure));
+                    }
+                    inFlight.release();
+                });
+                chunks.add(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+            .thenRun(() -> result.complete(concat(chunks)));
+        return result;
+    }
+
+    /**
+     * Execute the batch for all rows.
+     *
+     * @param rows the rows to insert or update
+     * @param executor executes the chunks
+     * @return the update counts of all rows, in row order
+     * @see #execute(Iterator, Executor)
+     */
+    public CompletableFuture<int[]> execute(Iterable<? extends T> rows, Executor executor) {
+        return execute(rows.iterator(), executor);
+    }
+
+    private PreparedBatch bindChunk(Iterator<? extends T> rows) {
+        final Handle handle = jdbi.open();
+        try {
+            // chunked execution binds each row into the statement as it is added; the chunk never
+            // fills up, so that the rows are only sent to the database by executeChunk
+            final PreparedBatch batch = handle.prepareBatch(sql).executeInChunks(Integer.MAX_VALUE, counts -> {});
+            for (int i = 0; i < chunkSize && rows.hasNext(); i++) {
+                binder.accept(batch, rows.next());
+                batch.add();
+            }
+            return batch;
+        } catch (RuntimeException e) {
+            handle.close();
+            throw e;
+        }
+    }
+
+    private int[] executeChunk(PreparedBatch chunk) {
+        try (Handle handle = chunk.getHandle()) {
+            return transactional ? handle.inTransaction(h -> chunk.execute()) : chunk.execute();
+        }
+    }
+
+    private static int[] concat(List<CompletableFuture<int[]>> chunks) {
+        final List<int[]> counts = new ArrayList<>(chunks.size());
+        int total = 0;
+        for (CompletableFuture<int[]> chunk : chunks) {
+            int[] chunkCounts = chunk.join();
+            counts.add(chunkCounts);
+            total += chunkCounts.length;
+        }
+        final int[] result = new int[total];
+        int position = 0;
+        for (int[] chunkCounts : counts) {
+            System.arraycopy(chunkCounts, 0, result, position, chunkCounts.length);
+            position += chunkCounts.length;
+        }
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
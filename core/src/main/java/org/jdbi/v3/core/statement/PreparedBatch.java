@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -40,6 +41,7 @@ import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.jdbi.v3.meta.Beta;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -55,11 +57,21 @@ import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
  *
  * An entire batch can be bound and added in one go with {@link PreparedBatch#add(Map)}
  * or {@link PreparedBatch#add(Object...)}.
+ *
+ * Very large batches may be executed in chunks with {@link #executeInChunks(int, Consumer)},
+ * which binds every added set of parameters straight into the JDBC statement instead of
+ * holding on to all of them until the batch is executed.
  */
 public class PreparedBatch extends SqlStatement<PreparedBatch> implements ResultBearing {
     private final List<PreparedBinding> bindings = new ArrayList<>();
     final Map<PrepareKey, Function<String, Optional<Function<Object, Argument>>>> preparedFinders = new HashMap<>();
 
+    private int rowsPerChunk;
+    private Consumer<int[]> chunkUpdateCounts;
+    private ArgumentBinder<?> chunkBinder;
+    private int chunkPending;
+    private boolean chunksExecuting;
+
     public PreparedBatch(Handle handle, String sql) {
         super(handle, sql);
         getContext().setBinding(new PreparedBinding(getContext()));
@@ -97,10 +109,40 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         return execute(ResultProducers.returningResults()).scanResultSet(mapper);
     }
 
+    /**
+     * Switch this batch to chunked execution. From now on, each {@link #add()} binds its
+     * parameters directly into the prepared statement, and every {@code chunkSize} added
+     * parameter sets are sent to the database with a single {@link PreparedStatement#executeBatch()}.
+     * The statement is prepared once and reused for all chunks. The update counts of each chunk are
+     * passed to the given consumer as soon as the chunk has been executed; {@link #execute()} executes
+     * the final, possibly partial, chunk. Statement customizers see the chunks as one execution:
+     * {@code beforeExecution} is called before the first chunk and {@code afterExecution} after the final one.
+     * <p>
+     * Chunked batches only support {@link #execute()} and {@link #executeAndGetModCount()};
+     * use a regular batch to obtain generated keys or other results.
+     *
+     * @param chunkSize the number of parameter sets to send to the database at a time
+     * @param updateCounts receives the update counts of each executed chunk
+     * @return this
+     */
+    @Beta
+    public PreparedBatch executeInChunks(int chunkSize, Consumer<int[]> updateCounts) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        if (!bindings.isEmpty() || chunkBinder != null) {
+            throw new IllegalStateException("executeInChunks must be called before adding parameters to the batch");
+        }
+        this.rowsPerChunk = chunkSize;
+        this.chunkUpdateCounts = updateCounts;
+        return this;
+    }
+
     /**
      * Execute the batch
      *
-     * @return the number of rows modified or inserted per batch part.
+     * @return the number of rows modified or inserted per batch part. When executing
+     * {@link #executeInChunks(int, Consumer) in chunks}, the update counts of the final chunk.
      */
     public int[] execute() {
         try {
@@ -152,6 +194,9 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      * @return value returned by the result producer.
      */
     public <R> R execute(ResultProducer<R> producer) {
+        if (rowsPerChunk > 0) {
+            throw new IllegalStateException("Chunked batches can only be executed for their update counts");
+        }
         try {
             return producer.produce(() -> internalBatchExecute().stmt, getContext());
         } catch (SQLException e) {
@@ -169,33 +214,14 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             add();
         }
 
-        beforeTemplating();
+        if (rowsPerChunk > 0) {
+            return executeFinalChunk();
+        }
 
         final StatementContext ctx = getContext();
-        String renderedSql = getConfig(SqlStatements.class)
-                .getTemplateEngine()
-                .render(getSql(), ctx);
-        ctx.setRenderedSql(renderedSql);
-
-        ParsedSql parsedSql = getConfig(SqlStatements.class)
-                .getSqlParser()
-                .parse(renderedSql, ctx);
-        String sql = parsedSql.getSql();
-        ParsedParameters parsedParameters = parsedSql.getParameters();
-        ctx.setParsedSql(parsedSql);
 
         try {
-            try {
-                StatementBuilder statementBuilder = getHandle().getStatementBuilder();
-                @SuppressWarnings("PMD.CloseResource")
-                Connection connection = getHandle().getConnection();
-                stmt = statementBuilder.create(connection, sql, ctx);
-
-                addCleanable(() -> statementBuilder.close(connection, sql, stmt));
-                getConfig(SqlStatements.class).customize(stmt);
-            } catch (SQLException e) {
-                throw new UnableToCreateStatementException(e, ctx);
-            }
+            ParsedParameters parsedParameters = prepareStatement();
 
             if (bindings.isEmpty()) {
                 return new ExecutedBatch(stmt, new int[0]);
@@ -232,6 +258,76 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         }
     }
 
+    private ParsedParameters prepareStatement() {
+        beforeTemplating();
+
+        final StatementContext ctx = getContext();
+        ParsedSql parsedSql = ParsedTemplates.renderAndParse(getSql(), ctx);
+        String sql = parsedSql.getSql();
+
+        try {
+            StatementBuilder statementBuilder = getHandle().getStatementBuilder();
+            @SuppressWarnings("PMD.CloseResource")
+            Connection connection = getHandle().getConnection();
+            stmt = statementBuilder.create(connection, sql, ctx);
+
+            addCleanable(() -> statementBuilder.close(connection, sql, stmt));
+            getConfig(SqlStatements.class).customize(stmt);
+        } catch (SQLException e) {
+            throw new UnableToCreateStatementException(e, ctx);
+        }
+        return parsedSql.getParameters();
+    }
+
+    private void addToChunk(PreparedBinding binding) {
+        final StatementContext ctx = getContext();
+        if (chunkBinder == null) {
+            ParsedParameters parsedParameters = prepareStatement();
+            beforeBinding();
+            chunkBinder = new ArgumentBinder.Prepared(this, parsedParameters, binding);
+        }
+        try {
+            ctx.setBinding(binding);
+            chunkBinder.bind(binding);
+            stmt.addBatch();
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
+        }
+        chunkPending++;
+        if (chunkPending >= rowsPerChunk) {
+            executeChunk();
+        }
+    }
+
+    private int[] executeChunk() {
+        final StatementContext ctx = getContext();
+        if (!chunksExecuting) {
+            chunksExecuting = true;
+            beforeExecution();
+        }
+        try {
+            final int[] rs = SqlLoggerUtil.wrap(stmt::executeBatch, ctx, getConfig(SqlStatements.class).getSqlLogger());
+            chunkPending = 0;
+            chunkUpdateCounts.accept(Arrays.copyOf(rs, rs.length));
+            return rs;
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
+        }
+    }
+
+    private ExecutedBatch executeFinalChunk() {
+        if (chunkBinder == null) {
+            prepareStatement();
+            return new ExecutedBatch(stmt, new int[0]);
+        }
+        final int[] rs = chunkPending > 0 ? executeChunk() : new int[0];
+        afterExecution();
+        chunkBinder = null;
+        chunksExecuting = false;
+        getContext().setBinding(new PreparedBinding(getContext()));
+        return new ExecutedBatch(stmt, rs);
+    }
+
     /**
      * Add the current binding as a saved batch and clear the binding.
      * @return this
@@ -242,7 +338,11 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             throw new IllegalStateException("Attempt to add() an empty batch, you probably didn't mean to do this "
                     + "- call add() *after* setting batch parameters");
         }
-        bindings.add(currentBinding);
+        if (rowsPerChunk > 0) {
+            addToChunk(currentBinding);
+        } else {
+            bindings.add(currentBinding);
+        }
         getContext().setBinding(new PreparedBinding(getContext()));
         return this;
     }
@@ -275,10 +375,11 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     /**
-     * @return the number of bindings which are in this batch
+     * @return the number of bindings which are in this batch, or, when executing in chunks,
+     * in the current chunk
      */
     public int size() {
-        return bindings.size();
+        return rowsPerChunk > 0 ? chunkPending : bindings.size();
     }
 
     private static class ExecutedBatch {
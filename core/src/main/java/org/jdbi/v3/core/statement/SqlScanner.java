@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+/**
+ * Single pass scanner for the named and positional parameters of a SQL statement.
+ * <p>
+ * Recognizes exactly the tokens of the {@code ColonStatementLexer} and {@code HashStatementLexer}
+ * grammars, including their longest match rules, without building a token stream: runs of literal
+ * text are copied into the parsed statement in one piece.
+ */
+final class SqlScanner {
+    private final char prefix;
+    private final boolean doublePrefixIsLiteral;
+
+    /**
+     * @param prefix the named parameter prefix
+     * @param doublePrefixIsLiteral whether a doubled prefix is literal text, like a {@code ::} cast
+     */
+    SqlScanner(char prefix, boolean doublePrefixIsLiteral) {
+        this.prefix = prefix;
+        this.doublePrefixIsLiteral = doublePrefixIsLiteral;
+    }
+
+    ParsedSql parse(String sql) {
+        final ParsedSql.Builder parsedSql = ParsedSql.builder();
+        final int length = sql.length();
+        int literalStart = 0;
+        // no comment opened at or after this index is closed
+        int unclosedComment = length;
+        int i = 0;
+        while (i < length) {
+            final char c = sql.charAt(i);
+            if (c == '/' && i < unclosedComment && i + 1 < length && sql.charAt(i + 1) == '*') {
+                final int end = sql.indexOf("*/", i + 2);
+                if (end < 0) {
+                    unclosedComment = i;
+                    i++;
+                } else {
+                    i = end + 2;
+                }
+            } else if (c == '\'') {
+                i = quotedTextEnd(sql, i);
+            } else if (c == '"') {
+                i = doubleQuotedTextEnd(sql, i);
+            } else if (c == '\\' && i + 1 < length) {
+                // the escape character is dropped, the escaped one starts the next literal run
+                parsedSql.append(sql, literalStart, i);
+                literalStart = i + 1;
+                i = literalStart + Character.charCount(sql.codePointAt(literalStart));
+            } else if (c == '?') {
+                if (i + 1 < length && sql.charAt(i + 1) == '?') {
+                    i += 2;
+                } else {
+                    parsedSql.append(sql, literalStart, i).appendPositionalParameter();
+                    i++;
+                    literalStart = i;
+                }
+            } else if (c == prefix) {
+                if (doublePrefixIsLiteral && i + 1 < length && sql.charAt(i + 1) == prefix) {
+                    i += 2;
+                } else {
+                    final int end = nameEnd(sql, i + 1);
+                    if (end > i + 1) {
+                        parsedSql.append(sql, literalStart, i).appendNamedParameter(sql.substring(i + 1, end));
+                        literalStart = end;
+                    }
+                    i = end;
+                }
+            } else {
+                i++;
+            }
+        }
+        return parsedSql.append(sql, literalStart, length).build();
+    }
+
+    /**
+     * A backslash followed by a quote may either escape the quote or be the last character of the text,
+     * so the text extends to the last quote reachable by treating such pairs as escapes.
+     */
+    private static int quotedTextEnd(String sql, int start) {
+        int end = start + 1;
+        boolean escape = false;
+        for (int i = start + 1; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            if (c == '\'') {
+                end = i + 1;
+                if (!escape) {
+                    break;
+                }
+                escape = false;
+            } else {
+                escape = c == '\\';
+            }
+        }
+        return end;
+    }
+
+    private static int doubleQuotedTextEnd(String sql, int start) {
+        if (start + 1 < sql.length() && sql.charAt(start + 1) != '"') {
+            final int end = sql.indexOf('"', start + 2);
+            if (end >= 0) {
+                return end + 1;
+            }
+        }
+        return start + 1;
+    }
+
+    private static int nameEnd(String sql, int start) {
+        final int length = sql.length();
+        int i = start;
+        while (i < length) {
+            final int c = sql.codePointAt(i);
+            if (c == '?' && i + 1 < length && sql.charAt(i + 1) == '.') {
+                i += 2;
+            } else if (isNameCharacter(c)) {
+                i += Character.charCount(c);
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isNameCharacter(int c) {
+        if (c < 0x80) {
+            return c >= 'a' && c <= 'z'
+                || c >= 'A' && c <= 'Z'
+                || c >= '0' && c <= '9'
+                || c == '$' || c == '_' || c == '.';
+        }
+        return c > Character.MAX_VALUE || !Character.isHighSurrogate((char) c);
+    }
+}
@@ -1634,15 +1634,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
         beforeTemplating();
 
-        String renderedSql = getConfig(SqlStatements.class)
-                .getTemplateEngine()
-                .render(sql, ctx);
-        ctx.setRenderedSql(renderedSql);
-
-        ParsedSql parsedSql = getConfig(SqlStatements.class)
-                .getSqlParser()
-                .parse(renderedSql, ctx);
-        ctx.setParsedSql(parsedSql);
+        ParsedSql parsedSql = ParsedTemplates.renderAndParse(sql, ctx);
 
         try {
             stmt = createStatement(ctx, parsedSql);
@@ -1658,7 +1650,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
         beforeBinding();
 
-        new ArgumentBinder<>(stmt, ctx, parsedSql.getParameters()).bind(getBinding());
+        new ArgumentBinder<>(stmt, ctx, parsedSql).bind(getBinding());
 
         beforeExecution();
 
@@ -24,6 +24,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nullable;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.meta.Beta;
 
@@ -39,6 +40,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     private Integer queryTimeout;
     private boolean allowUnusedBindings;
     private final Collection<StatementCustomizer> customizers = new CopyOnWriteArrayList<>();
+    private ConfigRegistry registry;
 
     public SqlStatements() {
         attributes = Collections.synchronizedMap(new HashMap<>());
@@ -230,6 +232,25 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return this;
     }
 
+    /**
+     * Render and parse a statement template ahead of its first execution, so that the execution finds it
+     * cached. Only templates which the {@link TemplateEngine#findAttributeDependencies(String, ConfigRegistry)
+     * template engine declares} to read no attributes are parsed, since the others render differently
+     * for each statement.
+     *
+     * @param template the statement template
+     * @return whether the template was parsed
+     */
+    @Beta
+    public boolean preparse(String template) {
+        return ParsedTemplates.preparse(template, registry);
+    }
+
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     void customize(Statement statement) throws SQLException {
         if (queryTimeout != null) {
             statement.setQueryTimeout(queryTimeout);
@@ -13,6 +13,12 @@
  */
 package org.jdbi.v3.core.statement;
 
+import java.util.Optional;
+import java.util.Set;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.meta.Beta;
+
 /**
  * Renders an SQL statement from a template.
  *
@@ -37,4 +43,22 @@ public interface TemplateEngine {
      * and which can bind the correct arguments to that prepared statement
      */
     String render(String template, StatementContext ctx);
+
+    /**
+     * Returns the names of the attributes rendering the given template reads, if the rendered statement
+     * depends on nothing but the template and the values of those attributes. Statements then reuse the
+     * rendered and parsed statement of an earlier execution of the same template with equal attribute
+     * values, skipping both rendering and parsing. Only values of immutable types, such as strings,
+     * numbers and enums, or lists of them, are compared; statements defining any other value are
+     * rendered on every execution.
+     *
+     * @param template the SQL template
+     * @param config the config registry of the statement
+     * @return the names of the attributes read, or empty if rendering may depend on anything else in the
+     * statement context, which is the default
+     */
+    @Beta
+    default Optional<Set<String>> findAttributeDependencies(String template, ConfigRegistry config) {
+        return Optional.empty();
+    }
 }
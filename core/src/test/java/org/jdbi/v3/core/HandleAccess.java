@@ -34,6 +34,6 @@ public class HandleAccess {
         Connection fakeConnection = Mockito.mock(Connection.class);
 
         return new Handle(null, new ConfigRegistry(), Connection::close, new LocalTransactionHandler(),
-                new DefaultStatementBuilder(), fakeConnection);
+                new DefaultStatementBuilder(), fakeConnection, true);
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jdbi.v3.core.extension.ExtensionFactory;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestExplicitContext {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule()
+        .withPlugin(new TestPlugin())
+        .withSomething();
+
+    static class TestPlugin implements JdbiPlugin {
+        @Override
+        public void customizeJdbi(Jdbi jdbi) {
+            jdbi.registerExtension(new TestExtensionFactory());
+        }
+    }
+
+    static class TestExtensionFactory implements ExtensionFactory {
+        @Override
+        public boolean accepts(Class<?> extensionType) {
+            return TestExtension.class.equals(extensionType);
+        }
+
+        @Override
+        public <E> E attach(Class<E> extensionType, HandleSupplier handle) {
+            return extensionType.cast(new TestExtensionImpl(handle));
+        }
+    }
+
+    public interface TestExtension {
+        Handle getHandle();
+
+        ExtensionMethod getExtensionMethod() throws Exception;
+
+        int insert(int id, String name);
+    }
+
+    public static class TestExtensionImpl implements TestExtension {
+        private final HandleSupplier handleSupplier;
+
+        TestExtensionImpl(HandleSupplier handleSupplier) {
+            this.handleSupplier = handleSupplier;
+        }
+
+        @Override
+        public Handle getHandle() {
+            return handleSupplier.getHandle();
+        }
+
+        @Override
+        public ExtensionMethod getExtensionMethod() throws Exception {
+            ExtensionMethod method = new ExtensionMethod(TestExtension.class, TestExtension.class.getMethod("getExtensionMethod"));
+            return handleSupplier.invokeInContext(method, handleSupplier.getConfig(),
+                () -> handleSupplier.getHandle().getExtensionMethod());
+        }
+
+        @Override
+        public int insert(int id, String name) {
+            return handleSupplier.getHandle().execute("insert into something (id, name) values (?, ?)", id, name);
+        }
+    }
+
+    private Jdbi jdbi;
+
+    @Before
+    public void setUp() {
+        jdbi = dbRule.getJdbi().setThreadLocalContext(false);
+    }
+
+    @Test
+    public void testNestedCallsOpenTheirOwnHandle() {
+        jdbi.useHandle(h1 ->
+            jdbi.useHandle(h2 ->
+                assertThat(h1).isNotSameAs(h2)));
+
+        jdbi.useExtension(TestExtension.class, e ->
+            jdbi.useHandle(h ->
+                assertThat(e.getHandle()).isNotSameAs(h)));
+    }
+
+    @Test
+    public void testOnDemandClosesHandle() {
+        TestExtension onDemand = jdbi.onDemand(TestExtension.class);
+
+        Handle handle = onDemand.getHandle();
+
+        assertThat(handle.isClosed()).isTrue();
+    }
+
+    @Test
+    public void testExtensionMethodHeldByHandle() throws Exception {
+        jdbi.useExtension(TestExtension.class, e -> {
+            assertThat(e.getExtensionMethod().getMethod().getName()).isEqualTo("getExtensionMethod");
+            assertThat(e.getHandle().getExtensionMethod()).isNull();
+        });
+    }
+
+    @Test
+    public void testOnDemandFromManyThreads() {
+        TestExtension onDemand = jdbi.onDemand(TestExtension.class);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Integer>> inserts = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final int id = i;
+                inserts.add(CompletableFuture.supplyAsync(() -> onDemand.insert(id, "name" + id), executor));
+            }
+            inserts.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+
+        int count = jdbi.withHandle(h -> h.createQuery("select count(*) from something").mapTo(int.class).one());
+        assertThat(count).isEqualTo(100);
+    }
+}
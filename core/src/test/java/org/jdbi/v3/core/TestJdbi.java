@@ -18,7 +18,10 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.List;
 
+import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.mapper.SomethingMapper;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementCustomizers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -108,5 +111,33 @@ public class TestJdbi {
                 assertThat(rs).hasSize(1);
             });
     }
-}
 
+    @Test
+    public void testChangesAfterOpenAreIsolated() {
+        Jdbi db = Jdbi.create(this.dbRule.getConnectionString());
+        try (Handle handle = db.open()) {
+            db.define("x", "jdbi");
+
+            assertThat(handle.getConfig(SqlStatements.class).getAttribute("x")).isNull();
+        }
+        try (Handle handle = db.open()) {
+            assertThat(handle.getConfig(SqlStatements.class).getAttribute("x")).isEqualTo("jdbi");
+        }
+    }
+
+    @Test
+    public void testRegisterOnSameConfigAfterOpen() {
+        Jdbi db = Jdbi.create(this.dbRule.getConnectionString());
+        RowMappers rowMappers = db.getConfig(RowMappers.class);
+        db.open().close();
+        assertThat(db.getConfig(RowMappers.class)).isSameAs(rowMappers);
+        db.getConfig(RowMappers.class).register(new SomethingMapper());
+
+        Something something = db.withHandle(handle -> {
+            handle.execute("insert into something (id, name) values (1, 'Brian')");
+            return handle.createQuery("select id, name from something").mapTo(Something.class).one();
+        });
+
+        assertThat(something).isEqualTo(new Something(1, "Brian"));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jdbi.v3.core.extension.NoSuchExtensionException;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbiAsync {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private ExecutorService pool;
+    private Jdbi jdbi;
+
+    @Before
+    public void setUp() {
+        pool = Executors.newCachedThreadPool();
+        jdbi = dbRule.getJdbi();
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testWithoutExecutor() {
+        assertThatThrownBy(() -> jdbi.withHandleAsync(h -> 1))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testWithHandleAsync() throws Exception {
+        jdbi.setAsyncExecutor(new BoundedExecutor(pool, 2, 10));
+
+        CompletableFuture<String> name = jdbi.inTransactionAsync(h -> {
+            h.execute("insert into something (id, name) values (1, 'Brian')");
+            return h.createQuery("select name from something where id = 1").mapTo(String.class).one();
+        });
+
+        assertThat(name.get(10, TimeUnit.SECONDS)).isEqualTo("Brian");
+    }
+
+    @Test
+    public void testTransactionRolledBackOnFailure() throws Exception {
+        jdbi.setAsyncExecutor(new BoundedExecutor(pool, 2, 10));
+
+        CompletableFuture<Object> failed = jdbi.inTransactionAsync(h -> {
+            h.execute("insert into something (id, name) values (1, 'Brian')");
+            throw new IllegalArgumentException("boom");
+        });
+
+        assertThatThrownBy(() -> failed.get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+        int count = jdbi.withHandle(h -> h.createQuery("select count(*) from something").mapTo(int.class).one());
+        assertThat(count).isZero();
+    }
+
+    @Test
+    public void testWithExtensionAsyncReportsMissingExtension() {
+        jdbi.setAsyncExecutor(new BoundedExecutor(pool, 2, 10));
+
+        CompletableFuture<Object> missing = jdbi.withExtensionAsync(Runnable.class, r -> null);
+
+        assertThatThrownBy(() -> missing.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(NoSuchExtensionException.class);
+    }
+
+    @Test
+    public void testQueueDepthAndRejection() throws Exception {
+        BoundedExecutor executor = new BoundedExecutor(pool, 1, 1);
+        jdbi.setAsyncExecutor(executor);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = jdbi.withHandleAsync(h -> {
+            started.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        });
+        started.await(10, TimeUnit.SECONDS);
+        CompletableFuture<Integer> queued = jdbi.withHandleAsync(h -> 2);
+        CompletableFuture<Integer> rejected = jdbi.withHandleAsync(h -> 3);
+
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+        assertThat(executor.getQueueDepth()).isEqualTo(1);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(executor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    public void testDelegateRejectionFailsFuture() {
+        BoundedExecutor executor = new BoundedExecutor(task -> {
+            throw new RejectedExecutionException("shut down");
+        }, 1, 1);
+        jdbi.setAsyncExecutor(executor);
+
+        CompletableFuture<Integer> future = jdbi.withHandleAsync(h -> 1);
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getActiveCount()).isZero();
+        assertThat(executor.getQueueDepth()).isZero();
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCancelLeavesThreadBoundHandleAlone() {
+        List<Runnable> tasks = new ArrayList<>();
+        jdbi.setAsyncExecutor(tasks::add);
+        AtomicReference<CompletableFuture<Integer>> self = new AtomicReference<>();
+        self.set(jdbi.withHandleAsync(h -> {
+            self.get().cancel(true);
+            return 1;
+        }));
+
+        int count = jdbi.withHandle(outer -> {
+            tasks.forEach(Runnable::run);
+            return outer.createQuery("select count(*) from something").mapTo(int.class).one();
+        });
+
+        assertThat(self.get().isCancelled()).isTrue();
+        assertThat(count).isZero();
+    }
+
+    @Test
+    public void testCancelBeforeStart() throws Exception {
+        jdbi.setAsyncExecutor(new BoundedExecutor(pool, 1, 1));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = jdbi.withHandleAsync(h -> release.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Integer> queued = jdbi.withHandleAsync(h -> {
+            throw new AssertionError("should not run");
+        });
+
+        queued.cancel(true);
+        release.countDown();
+
+        assertThat(running.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testCancelStopsStatements() throws Exception {
+        jdbi.setAsyncExecutor(new BoundedExecutor(pool, 1, 1));
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+
+        CompletableFuture<Long> query = jdbi.withHandleAsync(h -> {
+            started.countDown();
+            try {
+                return h.createQuery("select count(*) from system_range(1, 1000000000) a, system_range(1, 1000000000) b")
+                    .mapTo(long.class)
+                    .one();
+            } catch (RuntimeException e) {
+                outcome.complete(e);
+                throw e;
+            }
+        });
+        started.await(10, TimeUnit.SECONDS);
+        query.cancel(true);
+
+        assertThat(outcome.get(30, TimeUnit.SECONDS)).isInstanceOf(JdbiException.class);
+    }
+}
@@ -15,7 +15,11 @@ package org.jdbi.v3.core.argument;
 
 import java.lang.reflect.Type;
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleAccess;
@@ -110,8 +114,47 @@ public class TestArgumentsRegistry {
                 .hasValueSatisfying(a -> assertThat(a).isInstanceOf(NullArgument.class));
     }
 
+    @Test
+    public void testPreparedOncePerCopy() {
+        List<ConfigRegistry> preparedWith = new ArrayList<>();
+        AtomicInteger lookups = new AtomicInteger();
+        ConfigRegistry config = new ConfigRegistry();
+        config.get(Arguments.class)
+            .register(new WeirdPreparableArgumentFactory(preparedWith))
+            .register((ArgumentFactory.Preparable) (type, cfg) -> {
+                lookups.incrementAndGet();
+                return Optional.empty();
+            });
+
+        ConfigRegistry first = config.createCopy();
+        ConfigRegistry second = config.createCopy();
+        assertThat(first.get(Arguments.class).prepareFor(Weird.class)).isNotEmpty();
+        assertThat(second.get(Arguments.class).prepareFor(Weird.class)).isNotEmpty();
+        assertThat(first.get(Arguments.class).prepareFor(Weird.class)).isNotEmpty();
+
+        assertThat(lookups).hasValue(2);
+        assertThat(preparedWith).containsExactly(first, second);
+    }
+
     private static class Weird {}
 
+    private static class WeirdPreparableArgumentFactory implements ArgumentFactory.Preparable {
+        private final List<ConfigRegistry> preparedWith;
+
+        WeirdPreparableArgumentFactory(List<ConfigRegistry> preparedWith) {
+            this.preparedWith = preparedWith;
+        }
+
+        @Override
+        public Optional<Function<Object, Argument>> prepare(Type type, ConfigRegistry config) {
+            if (type != Weird.class) {
+                return Optional.empty();
+            }
+            preparedWith.add(config);
+            return Optional.of(value -> new WeirdArgument());
+        }
+    }
+
     private static class WeirdClassArgumentFactory implements ArgumentFactory {
         @Override
         public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
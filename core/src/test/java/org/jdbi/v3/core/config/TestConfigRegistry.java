@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestConfigRegistry {
+    private static final AtomicInteger COPIES = new AtomicInteger();
+
+    private ConfigRegistry parent;
+
+    @Before
+    public void setUp() {
+        COPIES.set(0);
+        parent = new ConfigRegistry();
+        parent.get(Counter.class).value = 1;
+    }
+
+    @Test
+    public void testCopiesOnlyRequestedConfigs() {
+        ConfigRegistry child = parent.createCopy();
+        assertThat(COPIES).hasValue(1);
+
+        assertThat(child.get(Counter.class).value).isEqualTo(1);
+        assertThat(child.get(Counter.class).registry).isSameAs(child);
+        child.get(Counter.class);
+        assertThat(COPIES).hasValue(2);
+    }
+
+    @Test
+    public void testChildChangesAreIsolated() {
+        ConfigRegistry child = parent.createCopy();
+        child.get(Counter.class).value = 2;
+
+        assertThat(parent.get(Counter.class).value).isEqualTo(1);
+        assertThat(parent.createCopy().get(Counter.class).value).isEqualTo(1);
+    }
+
+    @Test
+    public void testParentChangesAfterCopyAreIsolated() {
+        ConfigRegistry child = parent.createCopy();
+        parent.get(Counter.class).value = 2;
+
+        assertThat(child.get(Counter.class).value).isEqualTo(1);
+        assertThat(parent.get(Counter.class).registry).isSameAs(parent);
+        assertThat(parent.createCopy().get(Counter.class).value).isEqualTo(2);
+    }
+
+    @Test
+    public void testCopiesShareSnapshotUntilRequested() {
+        parent.createCopy();
+        parent.createCopy();
+        assertThat(COPIES).hasValue(1);
+
+        parent.get(Counter.class);
+        parent.createCopy();
+        assertThat(COPIES).hasValue(2);
+    }
+
+    @Test
+    public void testCopiesOfCopies() {
+        ConfigRegistry child = parent.createCopy();
+        ConfigRegistry grandchild = child.createCopy();
+        assertThat(grandchild.get(Counter.class).value).isEqualTo(1);
+
+        child.get(Counter.class).value = 2;
+
+        assertThat(grandchild.get(Counter.class).value).isEqualTo(1);
+        assertThat(child.createCopy().get(Counter.class).value).isEqualTo(2);
+    }
+
+    @Test
+    public void testCopiesKeepOriginalInstances() {
+        Counter held = parent.get(Counter.class);
+        parent.createCopy().get(Counter.class);
+
+        assertThat(parent.get(Counter.class)).isSameAs(held);
+        assertThat(parent.get(Counter.class).registry).isSameAs(parent);
+        held.value = 2;
+        assertThat(parent.createCopy().get(Counter.class).value).isEqualTo(2);
+    }
+
+    public static class Counter implements JdbiConfig<Counter> {
+        private int value;
+        private ConfigRegistry registry;
+
+        public Counter() {}
+
+        private Counter(Counter that) {
+            this.value = that.value;
+        }
+
+        @Override
+        public void setRegistry(ConfigRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public Counter createCopy() {
+            COPIES.incrementAndGet();
+            return new Counter(this);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbiCaches {
+    private final AtomicInteger computations = new AtomicInteger();
+    private final JdbiCache<String, Integer> lengths = JdbiCaches.declare("lengths", s -> {
+        computations.incrementAndGet();
+        return s.length();
+    });
+
+    private ConfigRegistry config;
+
+    @Before
+    public void setUp() {
+        config = new ConfigRegistry();
+    }
+
+    @Test
+    public void testCachesAndRecordsStats() {
+        assertThat(lengths.get("a", config)).isEqualTo(1);
+        assertThat(lengths.get("a", config)).isEqualTo(1);
+        assertThat(lengths.get("bb", config)).isEqualTo(2);
+
+        assertThat(computations).hasValue(2);
+        assertThat(config.get(JdbiCaches.class).stats()).containsKey("lengths");
+        assertThat(config.get(JdbiCaches.class).stats(lengths).getHitCount()).isEqualTo(1);
+        assertThat(config.get(JdbiCaches.class).stats(lengths).getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testSharedAcrossCopies() {
+        lengths.get("a", config);
+        lengths.get("a", config.createCopy());
+
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    public void testBounded() {
+        config.get(JdbiCaches.class).configure("lengths", builder -> builder
+            .maximumSize(0)
+            .executor(Runnable::run));
+
+        lengths.get("a", config);
+        lengths.get("a", config);
+
+        assertThat(computations).hasValue(2);
+        assertThat(config.get(JdbiCaches.class).stats(lengths).getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testWeighed() {
+        config.get(JdbiCaches.class).configure("lengths", builder -> builder
+            .maximumWeight(0)
+            .weigher((k, v) -> 1)
+            .executor(Runnable::run));
+
+        lengths.get("a", config);
+        lengths.get("a", config);
+
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    public void testConfigureReplacesDefaultBound() {
+        JdbiCache<String, Integer> bounded = JdbiCaches.declare("bounded", "maximumSize=0", (c, s) -> {
+            computations.incrementAndGet();
+            return s.length();
+        });
+        config.get(JdbiCaches.class).configure("bounded", "maximumSize=10");
+        bounded.get("a", config);
+        bounded.get("a", config);
+
+        assertThat(computations).hasValue(1);
+        assertThat(config.get(JdbiCaches.class).stats(bounded).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSpecMayRecordStats() {
+        JdbiCache<String, Integer> counted = JdbiCaches.declare("counted", "recordStats,maximumSize=10", (c, s) -> s.length());
+        counted.get("a", config);
+        counted.get("a", config);
+
+        assertThat(config.get(JdbiCaches.class).stats(counted)).isEqualTo(new JdbiCacheStats(1, 1, 1, 0));
+    }
+
+    @Test
+    public void testReconfigureDiscardsEntries() {
+        lengths.get("a", config);
+        config.get(JdbiCaches.class).configure("lengths", "maximumSize=10");
+        lengths.get("a", config);
+
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    public void testInvalidate() {
+        JdbiCaches caches = config.get(JdbiCaches.class);
+        lengths.get("a", config);
+        lengths.get("bb", config);
+
+        caches.invalidate(lengths, "a");
+        lengths.get("a", config);
+        lengths.get("bb", config);
+        assertThat(computations).hasValue(3);
+
+        caches.invalidate("lengths", "bb");
+        lengths.get("bb", config);
+        assertThat(computations).hasValue(4);
+
+        caches.invalidateAll();
+        lengths.get("a", config);
+        lengths.get("bb", config);
+        assertThat(computations).hasValue(6);
+    }
+
+    @Test
+    public void testInvalidateUsesKeyNormalizer() {
+        JdbiCache<String, String> normalized = JdbiCaches.declare("normalized", String::toLowerCase, (c, s) -> {
+            computations.incrementAndGet();
+            return s;
+        });
+        normalized.get("A", config);
+        config.get(JdbiCaches.class).invalidate(normalized, "a");
+        normalized.get("A", config);
+
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    public void testRejectsForeignCache() {
+        JdbiCache<String, String> foreign = (key, registry) -> key;
+        assertThatThrownBy(() -> config.get(JdbiCaches.class).invalidateAll(foreign))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testRejectsInvalidSpec() {
+        assertThatThrownBy(() -> config.get(JdbiCaches.class).configure("lengths", "bogus=1"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.enums.EnumStrategy;
+import org.jdbi.v3.core.enums.Enums;
+import org.jdbi.v3.core.generic.GenericType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestColumnMappersCache {
+    private static final ColumnMapper<Foo> FOO_MAPPER = (r, i, ctx) -> new Foo();
+    private static final ColumnMapper<Foo> OTHER_FOO_MAPPER = (r, i, ctx) -> new Foo();
+    private static final ColumnMapper<Bar> BY_NAME = (r, i, ctx) -> new Bar();
+    private static final ColumnMapper<Bar> BY_ORDINAL = (r, i, ctx) -> new Bar();
+
+    private final AtomicInteger fooLookups = new AtomicInteger();
+    private final AtomicInteger barLookups = new AtomicInteger();
+
+    private ConfigRegistry config;
+
+    @Before
+    public void setUp() {
+        config = new ConfigRegistry();
+        config.get(ColumnMappers.class)
+            .register((ColumnMapperFactory) (type, cfg) -> {
+                if (type != Foo.class) {
+                    return Optional.empty();
+                }
+                fooLookups.incrementAndGet();
+                return Optional.of(FOO_MAPPER);
+            })
+            .register((ColumnMapperFactory) (type, cfg) -> {
+                if (type != Bar.class) {
+                    return Optional.empty();
+                }
+                barLookups.incrementAndGet();
+                return Optional.of(cfg.get(Enums.class).getDefaultStrategy() == EnumStrategy.BY_NAME ? BY_NAME : BY_ORDINAL);
+            });
+    }
+
+    @Test
+    public void testInheritedByCopies() {
+        assertThat(config.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+
+        ConfigRegistry first = config.createCopy();
+        ConfigRegistry second = first.createCopy();
+        assertThat(first.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+        assertThat(second.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+
+        assertThat(fooLookups).hasValue(1);
+    }
+
+    @Test
+    public void testCopyResultsShared() {
+        ConfigRegistry first = config.createCopy();
+        ConfigRegistry second = config.createCopy();
+
+        assertThat(first.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+        assertThat(first.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+        assertThat(second.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+        assertThat(config.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+        assertThat(config.createCopy().get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+
+        assertThat(fooLookups).hasValue(1);
+    }
+
+    @Test
+    public void testNegativeResultInherited() {
+        AtomicInteger lookups = new AtomicInteger();
+        config.get(ColumnMappers.class).register((ColumnMapperFactory) (type, cfg) -> {
+            lookups.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(config.get(ColumnMappers.class).findFor(Baz.class)).isEmpty();
+        assertThat(config.get(ColumnMappers.class).findFor(Baz.class)).isEmpty();
+        assertThat(config.createCopy().get(ColumnMappers.class).findFor(Baz.class)).isEmpty();
+
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    public void testRegisterInCopyDoesNotAffectOriginal() {
+        assertThat(config.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+
+        ConfigRegistry copy = config.createCopy();
+        copy.get(ColumnMappers.class).register(Foo.class, OTHER_FOO_MAPPER);
+
+        assertThat(copy.get(ColumnMappers.class).findFor(Foo.class)).contains(OTHER_FOO_MAPPER);
+        assertThat(config.get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+        assertThat(config.createCopy().get(ColumnMappers.class).findFor(Foo.class)).contains(FOO_MAPPER);
+    }
+
+    @Test
+    public void testConfigDependentResultNotShared() {
+        ConfigRegistry byOrdinal = config.createCopy();
+        byOrdinal.get(Enums.class).setEnumStrategy(EnumStrategy.BY_ORDINAL);
+
+        assertThat(byOrdinal.get(ColumnMappers.class).findFor(Bar.class)).contains(BY_ORDINAL);
+        assertThat(config.createCopy().get(ColumnMappers.class).findFor(Bar.class)).contains(BY_NAME);
+        assertThat(config.get(ColumnMappers.class).findFor(Bar.class)).contains(BY_NAME);
+
+        // still memoized by the copy, and shared with its own copies
+        assertThat(byOrdinal.get(ColumnMappers.class).findFor(Bar.class)).contains(BY_ORDINAL);
+        assertThat(byOrdinal.createCopy().get(ColumnMappers.class).findFor(Bar.class)).contains(BY_ORDINAL);
+        assertThat(barLookups).hasValue(2);
+    }
+
+    @Test
+    public void testDecoratingResultNotShared() {
+        ConfigRegistry byOrdinal = config.createCopy();
+        byOrdinal.get(Enums.class).setEnumStrategy(EnumStrategy.BY_ORDINAL);
+
+        assertThat(byOrdinal.get(ColumnMappers.class).findFor(new GenericType<Optional<Bar>>() {})).isNotEmpty();
+        assertThat(config.get(ColumnMappers.class).findFor(new GenericType<Optional<Bar>>() {})).isNotEmpty();
+
+        assertThat(barLookups).hasValue(2);
+    }
+
+    public static class Foo {}
+
+    public static class Bar {}
+
+    public static class Baz {}
+}
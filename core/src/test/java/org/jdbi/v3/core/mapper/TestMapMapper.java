@@ -13,6 +13,9 @@
  */
 package org.jdbi.v3.core.mapper;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jdbi.v3.core.Handle;
@@ -22,6 +25,7 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 public class TestMapMapper {
     @Rule
@@ -64,4 +68,53 @@ public class TestMapMapper {
 
         assertThat(noOne).containsOnlyKeys("ID", "FIRSTNAME");
     }
+
+    @Test
+    public void testRowsShareColumns() {
+        h.execute("insert into Foo(Id, FirstName) values(2, null)");
+        h.getConfig(MapMappers.class).setCaseChange(CaseStrategy.LOCALE_LOWER);
+
+        List<Map<String, Object>> rows = h.createQuery("select * from Foo order by Id").mapToMap().list();
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsExactly(entry("id", 1), entry("firstname", "No one"));
+        assertThat(rows.get(1)).containsExactly(entry("id", 2), entry("firstname", null));
+        assertThat(rows.get(1)).containsKey("firstname").doesNotContainKey("lastname");
+    }
+
+    @Test
+    public void testRowIsMutableMap() {
+        h.getConfig(MapMappers.class).setCaseChange(CaseStrategy.LOCALE_LOWER);
+
+        Map<String, Object> row = h.createQuery("select * from Foo").mapToMap().one();
+        Map<String, Object> expected = new LinkedHashMap<>(row);
+
+        assertThat(row).isEqualTo(expected).hasSameHashCodeAs(expected).hasToString(expected.toString());
+
+        assertThat(row.put("firstname", "Someone")).isEqualTo("No one");
+        assertThat(row.put("lastname", "Else")).isNull();
+        assertThat(row.remove("id")).isEqualTo(1);
+        assertThat(row.remove("id")).isNull();
+        assertThat(row).containsExactly(entry("firstname", "Someone"), entry("lastname", "Else"));
+
+        assertThat(row.put("id", 3)).isNull();
+        Iterator<Map.Entry<String, Object>> entries = row.entrySet().iterator();
+        entries.next().setValue(4);
+        entries.next();
+        entries.remove();
+        assertThat(row).containsExactly(entry("id", 4), entry("lastname", "Else"));
+
+        row.clear();
+        assertThat(row).isEmpty();
+    }
+
+    @Test
+    public void testGenericMapRows() {
+        h.getConfig(MapMappers.class).setCaseChange(CaseStrategy.LOCALE_LOWER);
+
+        List<Map<String, Integer>> rows = h.createQuery("select Id, Id + 1 as Next from Foo").mapToMap(Integer.class).list();
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsExactly(entry("id", 1), entry("next", 2));
+    }
 }
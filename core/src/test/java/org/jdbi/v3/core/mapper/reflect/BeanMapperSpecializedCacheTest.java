@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.util.Collections;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.config.JdbiCacheStats;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.enums.EnumStrategy;
+import org.jdbi.v3.core.enums.Enums;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link BeanMapper} tests with specialized mappers cached across executions.
+ */
+public class BeanMapperSpecializedCacheTest extends BeanMapperTest {
+    private Handle h;
+
+    @Before
+    public void enableSpecializedMapperCache() {
+        h = dbRule.getSharedHandle();
+        h.getConfig(ReflectionMappers.class).setSpecializedMapperCache(true);
+    }
+
+    private void insertSomething() {
+        h.registerRowMapper(BeanMapper.factory(Something.class));
+        h.execute("insert into something (id, name, intValue) values (1, 'foo', 2)");
+    }
+
+    @Test
+    public void reusesSpecializedMapper() {
+        insertSomething();
+        for (int i = 0; i < 3; i++) {
+            assertThat(h.createQuery("select id, name from something").mapTo(Something.class).one())
+                .isEqualTo(new Something(1, "foo"));
+        }
+
+        JdbiCacheStats stats = h.getConfig(JdbiCaches.class).stats().get("PojoMapper.specialized");
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void specializesEachColumnLayout() {
+        insertSomething();
+        assertThat(h.createQuery("select id, name from something").mapTo(Something.class).one().getIntValue())
+            .isZero();
+        assertThat(h.createQuery("select id, name, intValue from something").mapTo(Something.class).one().getIntValue())
+            .isEqualTo(2);
+        assertThat(h.createQuery("select id as intValue from something").mapTo(Something.class).one().getIntValue())
+            .isEqualTo(1);
+
+        assertThat(h.getConfig(JdbiCaches.class).stats().get("PojoMapper.specialized").getMissCount())
+            .isEqualTo(3);
+    }
+
+    @Test
+    public void respecializesForRegisteredColumnMapper() {
+        insertSomething();
+        assertThat(h.createQuery("select id, name from something").mapTo(Something.class).one().getName())
+            .isEqualTo("foo");
+        assertThat(h.createQuery("select id, name from something")
+                .registerColumnMapper(String.class, (r, i, c) -> r.getString(i).toUpperCase())
+                .mapTo(Something.class)
+                .one()
+                .getName())
+            .isEqualTo("FOO");
+        assertThat(h.createQuery("select id, name from something").mapTo(Something.class).one().getName())
+            .isEqualTo("foo");
+    }
+
+    @Test
+    public void respecializesForConfiguration() {
+        insertSomething();
+        assertThat(h.createQuery("select id, name, intValue as int_value from something").mapTo(Something.class).one().getIntValue())
+            .isEqualTo(2);
+        assertThat(h.createQuery("select id, name, intValue as int_value from something")
+                .configure(ReflectionMappers.class, c -> c.setColumnNameMatchers(Collections.singletonList(new CaseInsensitiveColumnNameMatcher())))
+                .mapTo(Something.class)
+                .one()
+                .getIntValue())
+            .isZero();
+    }
+
+    @Test
+    public void respecializesForEnumStrategy() {
+        assertThat(h.createQuery("select 'TAILS' as side").mapToBean(Coin.class).one().getSide())
+            .isEqualTo(Side.TAILS);
+        assertThat(h.createQuery("select '0' as side")
+                .configure(Enums.class, c -> c.setEnumStrategy(EnumStrategy.BY_ORDINAL))
+                .mapToBean(Coin.class)
+                .one()
+                .getSide())
+            .isEqualTo(Side.HEADS);
+    }
+
+    public enum Side {
+        HEADS, TAILS
+    }
+
+    public static class Coin {
+        private Side side;
+
+        public Side getSide() {
+            return side;
+        }
+
+        public void setSide(Side side) {
+            this.side = side;
+        }
+    }
+}
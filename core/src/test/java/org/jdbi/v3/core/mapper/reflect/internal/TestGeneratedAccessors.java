@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+
+import org.jdbi.v3.core.SampleBean;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestGeneratedAccessors {
+    private final ConfigRegistry config = new ConfigRegistry();
+
+    @Test
+    public void testPublicBean() throws Exception {
+        SampleBean bean = GeneratedAccessors.noArgsConstructor(SampleBean.class, config).get().get();
+        BiConsumer<Object, Object> setLongField = GeneratedAccessors.setter(SampleBean.class.getMethod("setLongField", Long.class), config).get();
+
+        setLongField.accept(bean, 3L);
+
+        assertThat(bean.getLongField()).isEqualTo(3L);
+    }
+
+    @Test
+    public void testPrimitiveSetter() throws Exception {
+        Primitive bean = new Primitive();
+        GeneratedAccessors.setter(Primitive.class.getMethod("setValue", int.class), config).get().accept(bean, 7);
+
+        assertThat(bean.value).isEqualTo(7);
+    }
+
+    @Test
+    public void testHiddenBean() throws Exception {
+        assertThat(GeneratedAccessors.noArgsConstructor(Hidden.class, config)).isEmpty();
+        assertThat(GeneratedAccessors.setter(Hidden.class.getMethod("setValue", int.class), config)).isEmpty();
+    }
+
+    @Test
+    public void testFieldWriter() throws Exception {
+        Field field = Hidden.class.getDeclaredField("value");
+        Hidden hidden = new Hidden();
+
+        BiConsumer<Object, Object> writer = GeneratedAccessors.fieldWriter(field, config).get();
+        writer.accept(hidden, 5);
+
+        assertThat(hidden.value).isEqualTo(5);
+        assertThatThrownBy(() -> writer.accept(hidden, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInstantiator() throws Exception {
+        Object created = GeneratedAccessors.instantiator(Pair.class.getDeclaredConstructor(String.class, int.class), config)
+            .get()
+            .apply(new Object[] {"a", 1});
+
+        assertThat(created).isEqualToComparingFieldByField(new Pair("a", 1));
+    }
+
+    public static class Primitive {
+        private int value;
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+
+    static class Hidden {
+        private int value;
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+
+    static class Pair {
+        private final String left;
+        private final int right;
+
+        Pair(String left, int right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
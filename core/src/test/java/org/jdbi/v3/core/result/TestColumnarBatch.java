@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestColumnarBatch {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withPlugin(new ColumnarBatchPlugin());
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = dbRule.getSharedHandle();
+        h.execute("CREATE TABLE measure (id INT, total BIGINT, ratio DOUBLE, valid BOOLEAN, label VARCHAR, amount DECIMAL(10, 2))");
+        h.execute("INSERT INTO measure VALUES (1, 10000000000, 0.5, TRUE, 'one', 1.25)");
+        h.execute("INSERT INTO measure VALUES (2, NULL, NULL, NULL, NULL, NULL)");
+        h.execute("INSERT INTO measure VALUES (3, 30, 1.5, FALSE, 'dreí', 3.00)");
+    }
+
+    @Test
+    public void testCollectToColumnarBatch() {
+        ColumnarBatch batch = h.createQuery("SELECT * FROM measure ORDER BY id").collectToColumnarBatch();
+
+        assertThat(batch.getRowCount()).isEqualTo(3);
+        assertThat(batch.getColumns()).extracting(ColumnVector::getName)
+            .containsExactly("id", "total", "ratio", "valid", "label", "amount");
+        assertThat(batch.getColumns()).extracting(ColumnVector::getType)
+            .containsExactly(ColumnVector.Type.INT, ColumnVector.Type.LONG, ColumnVector.Type.DOUBLE,
+                ColumnVector.Type.BOOLEAN, ColumnVector.Type.STRING, ColumnVector.Type.STRING);
+
+        ColumnVector total = batch.getColumn("total");
+        assertThat(total.getLong(0)).isEqualTo(10000000000L);
+        assertThat(total.isNull(1)).isTrue();
+        assertThat(total.getObject(1)).isNull();
+        assertThat(total.getLong(2)).isEqualTo(30L);
+
+        assertThat(batch.getColumn("ratio").getDouble(2)).isEqualTo(1.5);
+        assertThat(batch.getColumn("valid").getBoolean(0)).isTrue();
+        assertThat(batch.getColumn("valid").isNull(1)).isTrue();
+
+        ColumnVector label = batch.getColumn("label");
+        assertThat(label.getString(0)).isEqualTo("one");
+        assertThat(label.getString(1)).isNull();
+        assertThat(label.getString(2)).isEqualTo("dreí");
+        assertThat(batch.getColumn("amount").getString(0)).isEqualTo("1.25");
+
+        assertThatThrownBy(() -> label.getInt(0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> batch.getColumn("missing")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testBuffers() {
+        h.execute("INSERT INTO measure (id, label) SELECT x, 'label' || x FROM system_range(4, 3000)");
+
+        ColumnarBatch batch = h.createQuery("SELECT id, label FROM measure ORDER BY id")
+            .setFetchSize(100)
+            .collectToColumnarBatch();
+
+        assertThat(batch.getRowCount()).isEqualTo(3000);
+
+        ByteBuffer ids = batch.getColumn("id").getValues();
+        assertThat(ids.isDirect()).isTrue();
+        assertThat(ids.isReadOnly()).isTrue();
+        assertThat(ids.order()).isEqualTo(ByteOrder.nativeOrder());
+        assertThat(ids.limit()).isEqualTo(3000 * 4);
+        for (int row = 0; row < 3000; row++) {
+            assertThat(ids.getInt(row * 4)).isEqualTo(row + 1);
+        }
+
+        ColumnVector label = batch.getColumn("label");
+        assertThat(label.getOffsets().limit()).isEqualTo(3001 * 4);
+        assertThat(label.getString(2999)).isEqualTo("label3000");
+        assertThat(label.getNulls().get(1 >>> 3) & (1 << 1)).isNotZero();
+    }
+
+    @Test
+    public void testCollectIntoWithPlugin() {
+        ColumnarBatch batch = h.createQuery("SELECT id, label FROM measure ORDER BY id").collectInto(ColumnarBatch.class);
+
+        assertThat(batch.getRowCount()).isEqualTo(3);
+        assertThat(batch.getColumns()).extracting(ColumnVector::getName).containsExactly("id", "label");
+        assertThat(batch.getColumn("id").getInt(2)).isEqualTo(3);
+        assertThat(batch.getColumn("label").getString(2)).isEqualTo("dreí");
+
+        ColumnarBatch empty = h.createQuery("SELECT id FROM measure WHERE id < 0").collectInto(ColumnarBatch.class);
+        assertThat(empty.getRowCount()).isZero();
+        assertThat(empty.getColumns()).isEmpty();
+    }
+
+    @Test
+    public void testEmpty() {
+        ColumnarBatch batch = h.createQuery("SELECT * FROM measure WHERE id < 0").collectToColumnarBatch();
+
+        assertThat(batch.getRowCount()).isZero();
+        assertThat(batch.getColumns()).extracting(ColumnVector::getName)
+            .containsExactly("id", "total", "ratio", "valid", "label", "amount");
+        assertThat(batch.getColumn("id").getType()).isEqualTo(ColumnVector.Type.INT);
+        assertThat(batch.getColumn("id").size()).isZero();
+        assertThat(batch.getColumn("label").getOffsets().limit()).isEqualTo(4);
+    }
+}
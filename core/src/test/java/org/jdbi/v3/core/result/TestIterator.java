@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.result;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
@@ -264,4 +266,54 @@ public class TestIterator {
             assertThat(h.isClosed()).isFalse();
         }
     }
+
+    @Test
+    public void testForEachRemaining() {
+        h.createUpdate("insert into something (id, name) values (1, 'eric')").execute();
+        h.createUpdate("insert into something (id, name) values (2, 'brian')").execute();
+        h.createUpdate("insert into something (id, name) values (3, 'john')").execute();
+
+        ResultIterator<String> it = h.createQuery("select name from something order by id")
+            .cleanupHandleRollback()
+            .mapTo(String.class)
+            .iterator();
+
+        assertThat(it.next()).isEqualTo("eric");
+        assertThat(it.hasNext()).isTrue();
+
+        List<String> rest = new ArrayList<>();
+        it.forEachRemaining(rest::add);
+
+        assertThat(rest).containsExactly("brian", "john");
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testForEachRemainingEmpty() {
+        ResultIterator<String> it = h.createQuery("select name from something order by id")
+            .cleanupHandleRollback()
+            .mapTo(String.class)
+            .iterator();
+
+        List<String> rest = new ArrayList<>();
+        it.forEachRemaining(rest::add);
+
+        assertThat(rest).isEmpty();
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testForEachRemainingAfterMappedIterable() {
+        h.createUpdate("insert into something (id, name) values (1, 'eric')").execute();
+        h.createUpdate("insert into something (id, name) values (2, 'brian')").execute();
+
+        List<String> names = new ArrayList<>();
+        h.createQuery("select name from something order by id")
+            .cleanupHandleRollback()
+            .mapTo(String.class)
+            .map(String::toUpperCase)
+            .forEach(names::add);
+
+        assertThat(names).containsExactly("ERIC", "BRIAN");
+    }
 }
@@ -13,12 +13,18 @@
  */
 package org.jdbi.v3.core.result;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
@@ -27,6 +33,7 @@ import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static java.util.stream.Collectors.toList;
 
@@ -36,6 +43,9 @@ public class TestReducing {
     @Rule
     public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
 
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
     @Before
     public void setUp() {
         Handle h = dbRule.getSharedHandle();
@@ -102,6 +112,70 @@ public class TestReducing {
             new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"));
     }
 
+    @Test
+    public void testReduceOrderedRows() {
+        List<Integer> accumulated = new ArrayList<>();
+
+        try (ResultIterator<SomethingWithLocations> result = dbRule.getSharedHandle()
+            .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY something.id, location DESC")
+            .reduceOrderedRows((Map<Integer, SomethingWithLocations> map, RowView rv) -> {
+                accumulated.add(rv.getColumn("id", Integer.class));
+                map.computeIfAbsent(rv.getColumn("id", Integer.class),
+                                    id -> new SomethingWithLocations(rv.getRow(Something.class)))
+                   .at(rv.getColumn("location", String.class));
+            })
+            .iterator()) {
+
+            assertThat(result.next()).isEqualTo(new SomethingWithLocations(new Something(1, "tree")).at("outside"));
+            assertThat(accumulated).containsExactly(1, 2);
+
+            assertThat(result.next()).isEqualTo(new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"));
+            assertThat(result.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testReduceRowsWithKeyOrderedReducer() {
+        KeyOrderedRowReducer<Integer, SomethingWithLocations> reducer = (map, rv) ->
+            map.computeIfAbsent(rv.getColumn("id", Integer.class),
+                                id -> new SomethingWithLocations(rv.getRow(Something.class)))
+               .at(rv.getColumn("location", String.class));
+
+        try (Stream<SomethingWithLocations> result = dbRule.getSharedHandle()
+            .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY something.id DESC, location DESC")
+            .reduceRows(reducer)) {
+
+            assertThat(result.collect(toList())).containsExactly(
+                new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"),
+                new SomethingWithLocations(new Something(1, "tree")).at("outside"));
+        }
+    }
+
+    @Test
+    public void testSpillingReducer() throws IOException {
+        dbRule.getSharedHandle().execute("INSERT INTO something_location (id, location) VALUES (1, 'zoo')");
+        Path spillDirectory = temp.newFolder().toPath();
+        SpillingContainer<Integer, SomethingWithLocations> container = new LocationSpillingReducer(spillDirectory).container();
+
+        List<SomethingWithLocations> result = dbRule.getSharedHandle()
+            .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY location")
+            .reduceRows(new LocationSpillingReducer(spillDirectory) {
+                @Override
+                public SpillingContainer<Integer, SomethingWithLocations> container() {
+                    return container;
+                }
+            })
+            .collect(toList());
+
+        assertThat(container.getSpillCount()).isEqualTo(2);
+        assertThat(result).containsExactly(
+            new SomethingWithLocations(new Something(1, "tree")).at("outside").at("zoo"),
+            new SomethingWithLocations(new Something(2, "apple")).at("pie").at("tree"));
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
     @Test
     public void testReduceResultSet() {
         Map<Integer, SomethingWithLocations> result = dbRule.getSharedHandle()
@@ -119,6 +193,75 @@ public class TestReducing {
             .containsEntry(2, new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"));
     }
 
+    static class LocationSpillingReducer implements SpillingRowReducer<Integer, SomethingWithLocations> {
+        private final Path spillDirectory;
+
+        LocationSpillingReducer(Path spillDirectory) {
+            this.spillDirectory = spillDirectory;
+        }
+
+        @Override
+        public void accumulate(SpillingContainer<Integer, SomethingWithLocations> container, RowView rv) {
+            container.computeIfAbsent(rv.getColumn("id", Integer.class), id -> new SomethingWithLocations(rv.getRow(Something.class)))
+                .at(rv.getColumn("location", String.class));
+        }
+
+        @Override
+        public SomethingWithLocations merge(SomethingWithLocations first, SomethingWithLocations second) {
+            first.locations.addAll(second.locations);
+            return first;
+        }
+
+        @Override
+        public long heapBudget() {
+            return 0;
+        }
+
+        @Override
+        public Path spillDirectory() {
+            return spillDirectory;
+        }
+
+        @Override
+        public SpillSerializer<Integer> keySerializer() {
+            return new SpillSerializer<Integer>() {
+                @Override
+                public void write(DataOutput out, Integer value) throws IOException {
+                    out.writeInt(value);
+                }
+
+                @Override
+                public Integer read(DataInput in) throws IOException {
+                    return in.readInt();
+                }
+            };
+        }
+
+        @Override
+        public SpillSerializer<SomethingWithLocations> valueSerializer() {
+            return new SpillSerializer<SomethingWithLocations>() {
+                @Override
+                public void write(DataOutput out, SomethingWithLocations value) throws IOException {
+                    out.writeInt(value.something.getId());
+                    out.writeUTF(value.something.getName());
+                    out.writeInt(value.locations.size());
+                    for (String location : value.locations) {
+                        out.writeUTF(location);
+                    }
+                }
+
+                @Override
+                public SomethingWithLocations read(DataInput in) throws IOException {
+                    SomethingWithLocations value = new SomethingWithLocations(new Something(in.readInt(), in.readUTF()));
+                    for (int i = in.readInt(); i > 0; i--) {
+                        value.at(in.readUTF());
+                    }
+                    return value;
+                }
+            };
+        }
+    }
+
     static class SomethingWithLocations {
         final Something something;
         final List<String> locations = new ArrayList<>();
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.result;
 
+import java.util.stream.IntStream;
+
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.junit.Before;
@@ -43,6 +45,43 @@ public class TestResultBearing {
             .isEqualTo(10);
     }
 
+    @Test
+    public void testMapToLongs() {
+        dbRule.getSharedHandle().execute("INSERT INTO reduce VALUES (null)");
+
+        assertThat(dbRule.getSharedHandle().createQuery("SELECT u FROM reduce ORDER BY u NULLS LAST")
+                .mapToLongs()
+                .toArray())
+            .containsExactly(0L, 1L, 2L, 3L, 4L, 0L);
+        assertThat(dbRule.getSharedHandle().createQuery("SELECT u FROM reduce ORDER BY u NULLS LAST")
+                .mapToLongs(-1L)
+                .toArray())
+            .containsExactly(0L, 1L, 2L, 3L, 4L, -1L);
+    }
+
+    @Test
+    public void testMapToInts() {
+        assertThat(dbRule.getSharedHandle().createQuery("SELECT u FROM reduce WHERE u > :u")
+                .bind("u", 1)
+                .mapToInts()
+                .sum())
+            .isEqualTo(9);
+
+        try (IntStream ints = dbRule.getSharedHandle().createQuery("SELECT u FROM reduce ORDER BY u").mapToInts()) {
+            assertThat(ints.limit(2).toArray()).containsExactly(0, 1);
+        }
+    }
+
+    @Test
+    public void testMapToDoubles() {
+        dbRule.getSharedHandle().execute("INSERT INTO reduce VALUES (null)");
+
+        assertThat(dbRule.getSharedHandle().createQuery("SELECT u / 2.0 FROM reduce ORDER BY u NULLS LAST")
+                .mapToDoubles(Double.NaN)
+                .toArray())
+            .containsExactly(0.0, 0.5, 1.0, 1.5, 2.0, Double.NaN);
+    }
+
     public static Integer add(Integer u, Integer v) {
         return u + v;
     }
@@ -0,0 +1,213 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.JdbiException;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestResultPublisher {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = dbRule.openHandle();
+        PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (?, ?)");
+        for (int i = 1; i <= 10; i++) {
+            batch.add(i, "name" + i);
+        }
+        batch.execute();
+    }
+
+    @After
+    public void tearDown() {
+        h.close();
+    }
+
+    @Test
+    public void testDeliversOnlyRequestedResults() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Query query = query();
+        query.getContext().addCleanable(() -> closed.set(true));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        query.mapTo(int.class).publisher().subscribe(subscriber);
+
+        assertThat(subscriber.items).isEmpty();
+
+        subscriber.subscription.request(3);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(7);
+        assertThat(subscriber.items).hasSize(10);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void testFetchSizeSetBeforeExecution() {
+        AtomicInteger fetchSize = new AtomicInteger();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        query()
+            .addCustomizer(new StatementCustomizer() {
+                @Override
+                public void afterExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+                    fetchSize.set(stmt.getFetchSize());
+                }
+            })
+            .mapTo(int.class)
+            .publisher()
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+
+        assertThat(fetchSize).hasValue(3);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testExecutesUponFirstRequest() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        query().mapTo(int.class).publisher().subscribe(subscriber);
+
+        h.execute("insert into something (id, name) values (11, 'late')");
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).hasSize(11);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void testRequestFromOnNext() {
+        List<Integer> items = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        query().mapTo(int.class).publisher().subscribe(new ResultPublisher.Subscriber<Integer>() {
+            private ResultPublisher.Subscription subscription;
+
+            @Override
+            public void onSubscribe(ResultPublisher.Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                items.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable failure) {
+                throw new AssertionError(failure);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+
+        assertThat(items).hasSize(10);
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    public void testCancelClosesContext() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Query query = query();
+        query.getContext().addCleanable(() -> closed.set(true));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        query.mapTo(int.class).publisher().subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertThat(closed).isFalse();
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(2);
+
+        assertThat(closed).isTrue();
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        query().mapTo(int.class).publisher().subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.failure).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testFailure() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        h.createQuery("select * from nowhere").mapTo(int.class).publisher().subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.failure).isInstanceOf(JdbiException.class);
+    }
+
+    private Query query() {
+        return h.createQuery("select id from something order by id");
+    }
+
+    private static class RecordingSubscriber implements ResultPublisher.Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        private ResultPublisher.Subscription subscription;
+        private Throwable failure;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(ResultPublisher.Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            failure = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
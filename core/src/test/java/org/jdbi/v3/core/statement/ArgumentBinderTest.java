@@ -17,6 +17,7 @@ import java.sql.PreparedStatement;
 import java.util.Arrays;
 
 import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.junit.Before;
 import org.junit.Rule;
@@ -43,6 +44,7 @@ public class ArgumentBinderTest {
 
     @Before
     public void before() {
+        when(ctx.getConfig()).thenReturn(new ConfigRegistry());
         when(ctx.getConfig(Qualifiers.class)).thenReturn(new Qualifiers());
         when(ctx.getConfig(SqlStatements.class)).thenReturn(statements);
     }
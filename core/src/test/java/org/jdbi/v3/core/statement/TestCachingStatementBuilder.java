@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Iterator;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCachingStatementBuilder {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private Jdbi db;
+    private CachingStatementBuilderFactory factory;
+
+    @Before
+    public void setUp() {
+        factory = new CachingStatementBuilderFactory(2);
+        db = dbRule.getJdbi().setStatementBuilderFactory(factory);
+    }
+
+    @Test
+    public void testReusesStatement() {
+        db.useHandle(h -> {
+            CachingStatementBuilder builder = (CachingStatementBuilder) h.getStatementBuilder();
+
+            for (int i = 0; i < 5; i++) {
+                h.execute("insert into something (id, name) values (?, ?)", i, "name" + i);
+            }
+
+            assertThat(builder.getMissCount()).isEqualTo(1);
+            assertThat(builder.getHitCount()).isEqualTo(4);
+            assertThat(builder.size()).isEqualTo(1);
+            assertThat(h.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(5);
+        });
+
+        assertThat(factory.getHitCount()).isEqualTo(4);
+        assertThat(factory.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        db.useHandle(h -> {
+            CachingStatementBuilder builder = (CachingStatementBuilder) h.getStatementBuilder();
+
+            h.createQuery("select 1").mapTo(int.class).one();
+            h.createQuery("select 2").mapTo(int.class).one();
+            h.createQuery("select 1").mapTo(int.class).one();
+            h.createQuery("select 3").mapTo(int.class).one();
+            h.createQuery("select 1").mapTo(int.class).one();
+            h.createQuery("select 2").mapTo(int.class).one();
+
+            assertThat(builder.getHitCount()).isEqualTo(2);
+            assertThat(builder.getMissCount()).isEqualTo(4);
+            assertThat(builder.getEvictionCount()).isEqualTo(2);
+            assertThat(builder.size()).isEqualTo(2);
+        });
+
+        assertThat(factory.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testConcurrentUseOfSameSql() {
+        db.useHandle(h -> {
+            h.execute("insert into something (id, name) values (1, 'a'), (2, 'b')");
+            CachingStatementBuilder builder = (CachingStatementBuilder) h.getStatementBuilder();
+
+            try (ResultIterator<String> outer = h.createQuery("select name from something order by id").mapTo(String.class).iterator()) {
+                Iterator<String> inner = h.createQuery("select name from something order by id").mapTo(String.class).list().iterator();
+                assertThat(outer.next()).isEqualTo(inner.next());
+                assertThat(outer.next()).isEqualTo(inner.next());
+            }
+
+            assertThat(builder.getMissCount()).isEqualTo(3);
+            assertThat(builder.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    public void testDistinguishesGeneratedKeys() {
+        db.useHandle(h -> {
+            CachingStatementBuilder builder = (CachingStatementBuilder) h.getStatementBuilder();
+            String sql = "insert into something (name) values (:name)";
+
+            h.createUpdate(sql).bind("name", "a").execute();
+            int id = h.createUpdate(sql).bind("name", "b").executeAndReturnGeneratedKeys("id").mapTo(int.class).one();
+
+            assertThat(id).isEqualTo(2);
+            assertThat(builder.getMissCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    public void testResetsStatementSettings() {
+        db.useHandle(h -> {
+            h.execute("insert into something (id, name) values (1, 'a'), (2, 'b')");
+
+            assertThat(h.createQuery("select name from something")
+                .addCustomizer(StatementCustomizers.maxRows(1))
+                .mapTo(String.class)
+                .list()).hasSize(1);
+            assertThat(h.createQuery("select name from something")
+                .mapTo(String.class)
+                .list()).hasSize(2);
+        });
+    }
+
+    @Test
+    public void testClosesStatementsWithHandle() {
+        Handle h = db.open();
+        CachingStatementBuilder builder = (CachingStatementBuilder) h.getStatementBuilder();
+        h.createQuery("select 1").mapTo(int.class).one();
+        assertThat(builder.size()).isEqualTo(1);
+
+        h.close();
+        assertThat(builder.size()).isZero();
+    }
+}
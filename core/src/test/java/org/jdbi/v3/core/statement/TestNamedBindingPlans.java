@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Types;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.argument.AbstractArgumentFactory;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCacheStats;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestNamedBindingPlans {
+    private static final String PLANS = "ArgumentBinder.plans";
+
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = dbRule.getSharedHandle();
+        h.execute("insert into something (id, name) values (1, 'eric'), (2, 'brian')");
+    }
+
+    @Test
+    public void testPlanReusedForSameShape() {
+        findName(1);
+        JdbiCacheStats before = plans();
+
+        assertThat(findName(2)).isEqualTo("brian");
+        assertThat(findName(1)).isEqualTo("eric");
+        assertThat(plans().minus(before).getHitCount()).isEqualTo(2);
+        assertThat(plans().minus(before).getMissCount()).isZero();
+    }
+
+    @Test
+    public void testShapeFollowsValueTypes() {
+        assertThat(h.select("select cast(:value as varchar)").bind("value", 1).mapTo(String.class).one())
+            .isEqualTo("1");
+        assertThat(h.select("select cast(:value as varchar)").bind("value", "two").mapTo(String.class).one())
+            .isEqualTo("two");
+        assertThat(h.select("select cast(:value as varchar)").bind("value", (Object) null).mapTo(String.class).one())
+            .isNull();
+        assertThat(h.select("select cast(:value as varchar)").bindByType("value", 3L, Long.class).mapTo(String.class).one())
+            .isEqualTo("3");
+    }
+
+    @Test
+    public void testRepeatedAndFoundParameters() {
+        assertThat(h.createQuery("select name from something where id = :id and name <> :name and id = :id")
+                .bindBean(new Something(2, "eric"))
+                .mapTo(String.class)
+                .one())
+            .isEqualTo("brian");
+        assertThat(h.createQuery("select name from something where id = :id and name <> :name and id = :id")
+                .bind("id", 1)
+                .bindBean(new Something(2, "brian"))
+                .mapTo(String.class)
+                .one())
+            .isEqualTo("eric");
+    }
+
+    @Test
+    public void testPlanFollowsArgumentConfiguration() {
+        findName(1);
+
+        assertThat(h.createQuery("select name from something where id = :id")
+                .registerArgument(new AbstractArgumentFactory<Integer>(Types.INTEGER) {
+                    @Override
+                    protected Argument build(Integer value, ConfigRegistry config) {
+                        return (position, statement, ctx) -> statement.setInt(position, value + 1);
+                    }
+                })
+                .bind("id", (Object) 1)
+                .mapTo(String.class)
+                .one())
+            .isEqualTo("brian");
+        assertThat(findName(1)).isEqualTo("eric");
+    }
+
+    @Test
+    public void testPlanPreparesArgumentsPerStatementConfiguration() {
+        dbRule.getJdbi().registerArgument(new AbstractArgumentFactory<Amount>(Types.VARCHAR) {
+            @Override
+            protected Argument build(Amount value, ConfigRegistry config) {
+                String currency = config.get(Currencies.class).currency;
+                return (position, statement, ctx) -> statement.setString(position, value.value + " " + currency);
+            }
+        });
+
+        try (Handle usd = dbRule.openHandle();
+             Handle eur = dbRule.openHandle()) {
+            eur.getConfig(Currencies.class).currency = "EUR";
+
+            assertThat(formatAmount(usd, 5)).isEqualTo("5 USD");
+            assertThat(formatAmount(eur, 6)).isEqualTo("6 EUR");
+            assertThat(formatAmount(usd, 7)).isEqualTo("7 USD");
+        }
+    }
+
+    @Test
+    public void testMissingParameter() {
+        assertThatThrownBy(() -> h.createQuery("select name from something where id = :id").mapTo(String.class).one())
+            .isInstanceOf(UnableToCreateStatementException.class)
+            .hasMessageContaining("Missing named parameter 'id'");
+    }
+
+    private String findName(int id) {
+        return h.createQuery("select name from something where id = :id")
+            .bind("id", (Object) id)
+            .mapTo(String.class)
+            .one();
+    }
+
+    private static String formatAmount(Handle handle, int value) {
+        return handle.select("select cast(:amount as varchar)")
+            .bind("amount", new Amount(value))
+            .mapTo(String.class)
+            .one();
+    }
+
+    private JdbiCacheStats plans() {
+        return h.getConfig(JdbiCaches.class).stats().get(PLANS);
+    }
+
+    public static class Currencies implements JdbiConfig<Currencies> {
+        private String currency = "USD";
+
+        public Currencies() {}
+
+        private Currencies(Currencies that) {
+            currency = that.currency;
+        }
+
+        @Override
+        public Currencies createCopy() {
+            return new Currencies(this);
+        }
+    }
+
+    private static class Amount {
+        private final int value;
+
+        Amount(int value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestParsedTemplates {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private final CountingEngine engine = new CountingEngine();
+    private Handle handle;
+
+    @Before
+    public void setUp() {
+        handle = dbRule.getSharedHandle();
+        handle.setTemplateEngine(engine);
+        handle.execute("insert into something (id, name) values (1, 'Alice'), (2, 'Bob')");
+        engine.renders.set(0);
+    }
+
+    @Test
+    public void testSkipsRenderingForEqualAttributes() {
+        assertThat(names("name", 1)).containsExactly("Alice");
+        assertThat(names("name", 2)).containsExactly("Bob");
+        assertThat(engine.renders).hasValue(1);
+
+        assertThat(names("id", 1)).containsExactly("1");
+        assertThat(engine.renders).hasValue(2);
+    }
+
+    @Test
+    public void testRendersStatementsDefiningMutableValues() {
+        StringBuilder column = new StringBuilder("name");
+        assertThat(names(column, 1)).containsExactly("Alice");
+        column.setLength(0);
+        column.append("id");
+        assertThat(names(column, 1)).containsExactly("1");
+
+        assertThat(engine.renders).hasValue(2);
+    }
+
+    @Test
+    public void testDefineList() {
+        assertThat(columns("id", "name")).containsOnlyKeys("id", "name");
+        assertThat(columns("id", "name")).containsOnlyKeys("id", "name");
+        assertThat(columns("name")).containsOnlyKeys("name");
+
+        assertThat(engine.renders).hasValue(2);
+    }
+
+    @Test
+    public void testRendersWithoutDeclaredDependencies() {
+        handle.setTemplateEngine((template, ctx) -> {
+            engine.renders.incrementAndGet();
+            return template;
+        });
+        handle.createQuery("select name from something").mapTo(String.class).list();
+        handle.createQuery("select name from something").mapTo(String.class).list();
+
+        assertThat(engine.renders).hasValue(2);
+    }
+
+    @Test
+    public void testRendersWithEngineSubclass() {
+        handle.setTemplateEngine(new DefinedAttributeTemplateEngine() {
+            @Override
+            public String render(String template, StatementContext ctx) {
+                engine.renders.incrementAndGet();
+                return super.render(template, ctx);
+            }
+        });
+        assertThat(names("name", 1)).containsExactly("Alice");
+        assertThat(names("name", 2)).containsExactly("Bob");
+
+        assertThat(engine.renders).hasValue(2);
+    }
+
+    @Test
+    public void testParsesWithParserSubclass() {
+        AtomicInteger parses = new AtomicInteger();
+        handle.setSqlParser(new ColonPrefixSqlParser() {
+            @Override
+            public ParsedSql parse(String sql, StatementContext ctx) {
+                parses.incrementAndGet();
+                return super.parse(sql, ctx);
+            }
+        });
+        assertThat(names("name", 1)).containsExactly("Alice");
+        assertThat(names("name", 2)).containsExactly("Bob");
+
+        assertThat(engine.renders).hasValue(2);
+        assertThat(parses).hasValue(2);
+    }
+
+    @Test
+    public void testPreparedBatch() {
+        for (int i = 0; i < 2; i++) {
+            handle.prepareBatch("insert into <table> (id, name) values (:id, :name)")
+                .define("table", "something")
+                .bind("id", 3 + i)
+                .bind("name", "Carol")
+                .add()
+                .execute();
+        }
+        assertThat(engine.renders).hasValue(1);
+        assertThat(handle.createQuery("select count(*) from something where name = 'Carol'").mapTo(int.class).one())
+            .isEqualTo(2);
+    }
+
+    private List<String> names(Object column, int id) {
+        return handle.createQuery("select <column> from something where id = :id")
+            .define("column", column)
+            .bind("id", id)
+            .mapTo(String.class)
+            .list();
+    }
+
+    private Map<String, Object> columns(String... columns) {
+        return handle.createQuery("select <columns> from something where id = 1")
+            .defineList("columns", (Object[]) columns)
+            .mapToMap()
+            .one();
+    }
+
+    private static class CountingEngine implements TemplateEngine {
+        private final TemplateEngine delegate = new DefinedAttributeTemplateEngine();
+        private final AtomicInteger renders = new AtomicInteger();
+
+        @Override
+        public String render(String template, StatementContext ctx) {
+            renders.incrementAndGet();
+            return delegate.render(template, ctx);
+        }
+
+        @Override
+        public Optional<Set<String>> findAttributeDependencies(String template, ConfigRegistry config) {
+            return delegate.findAttributeDependencies(template, config);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPipelinedBatch {
+    private static final String INSERT = "insert into something (id, name) values (:id, :name)";
+
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private Handle h;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        h = dbRule.getSharedHandle();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testInOrder() throws Exception {
+        int[] counts = batch().setChunkSize(7).execute(rows(1, 50), executor).get();
+
+        assertThat(counts).hasSize(50).containsOnly(1);
+        assertThat(count()).isEqualTo(50);
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        int[] counts = batch().setChunkSize(10).setParallelism(4).execute(rows(1, 200), executor).get();
+
+        assertThat(counts).hasSize(200).containsOnly(1);
+        assertThat(count()).isEqualTo(200);
+    }
+
+    @Test(timeout = 10000)
+    public void testBindsNextChunkWhileExecuting() throws Exception {
+        Thread caller = Thread.currentThread();
+        CountDownLatch secondChunkBound = new CountDownLatch(1);
+        Executor waitForSecondChunk = task -> executor.execute(() -> {
+            try {
+                secondChunkBound.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            task.run();
+        });
+        List<Thread> binders = new CopyOnWriteArrayList<>();
+
+        int[] counts = new PipelinedBatch<Something>(dbRule.getJdbi(), INSERT, (batch, row) -> {
+            binders.add(Thread.currentThread());
+            if (row.getId() == 11) {
+                secondChunkBound.countDown();
+            }
+            batch.bindBean(row);
+        }).setChunkSize(10).execute(rows(1, 30), waitForSecondChunk).get();
+
+        assertThat(counts).hasSize(30).containsOnly(1);
+        assertThat(binders).hasSize(30).containsOnly(caller);
+        assertThat(count()).isEqualTo(30);
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(batch().execute(rows(1, 0), executor).get()).isEmpty();
+    }
+
+    @Test
+    public void testFailedChunkRollsBack() {
+        h.execute("insert into something (id, name) values (15, 'taken')");
+
+        CompletableFuture<int[]> result = batch().setChunkSize(10).execute(rows(1, 30), executor);
+
+        assertThatThrownBy(result::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(UnableToExecuteStatementException.class);
+        assertThat(h.select("select count(*) from something where id between 11 and 20").mapTo(int.class).one())
+            .isEqualTo(1);
+        assertThat(h.select("select count(*) from something where id between 21 and 30").mapTo(int.class).one())
+            .isZero();
+    }
+
+    private PipelinedBatch<Something> batch() {
+        return new PipelinedBatch<>(dbRule.getJdbi(), INSERT, PreparedBatch::bindBean);
+    }
+
+    private int count() {
+        return h.select("select count(*) from something").mapTo(int.class).one();
+    }
+
+    private static List<Something> rows(int first, int count) {
+        return IntStream.range(first, first + count)
+            .mapToObj(i -> new Something(i, "name" + i))
+            .collect(Collectors.toList());
+    }
+}
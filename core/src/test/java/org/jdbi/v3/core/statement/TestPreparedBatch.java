@@ -15,11 +15,15 @@ package org.jdbi.v3.core.statement;
 
 import java.beans.ConstructorProperties;
 import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.ImmutableMap;
 import org.jdbi.v3.core.Handle;
@@ -36,6 +40,7 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.tuple;
 
@@ -250,6 +255,86 @@ public class TestPreparedBatch {
         assertThat(r).extracting(s -> s.id, s -> s.name).containsExactly(tuple(new WrappedInt(2), "Sally"), tuple(new WrappedInt(3), "Erica"));
     }
 
+    @Test
+    public void testExecuteInChunks() {
+        List<int[]> chunks = new ArrayList<>();
+        AtomicInteger prepared = new AtomicInteger();
+        h.setStatementBuilder(new DefaultStatementBuilder() {
+            @Override
+            public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+                if (sql.startsWith("insert")) {
+                    prepared.incrementAndGet();
+                }
+                return super.create(conn, sql, ctx);
+            }
+        });
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .executeInChunks(3, chunks::add);
+        for (int i = 0; i < 7; i++) {
+            b.bind("id", i).bind("name", "name" + i).add();
+        }
+        assertThat(chunks).hasSize(2);
+        assertThat(b.size()).isEqualTo(1);
+        assertThat(h.select("select count(*) from something").mapTo(int.class).one()).isEqualTo(6);
+
+        assertThat(b.execute()).containsExactly(1);
+        assertThat(chunks).extracting(counts -> counts.length).containsExactly(3, 3, 1);
+        assertThat(prepared).hasValue(1);
+        assertThat(b.getContext().isClosed()).isTrue();
+        assertThat(h.select("select count(*) from something").mapTo(int.class).one()).isEqualTo(7);
+    }
+
+    @Test
+    public void testExecuteInChunksExecutesOnce() {
+        List<String> events = new ArrayList<>();
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .executeInChunks(2, counts -> events.add("chunk"))
+            .addCustomizer(new StatementCustomizer() {
+                @Override
+                public void beforeExecution(PreparedStatement stmt, StatementContext ctx) {
+                    events.add("before");
+                }
+
+                @Override
+                public void afterExecution(PreparedStatement stmt, StatementContext ctx) {
+                    events.add("after");
+                }
+            });
+        for (int i = 0; i < 5; i++) {
+            b.bind("id", i).bind("name", "name" + i).add();
+        }
+        b.execute();
+        assertThat(events).containsExactly("before", "chunk", "chunk", "chunk", "after");
+    }
+
+    @Test
+    public void testExecuteInChunksEmpty() {
+        List<int[]> chunks = new ArrayList<>();
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .executeInChunks(3, chunks::add);
+        assertThat(b.execute()).isEmpty();
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    public void testExecuteInChunksAfterAdd() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+        b.bind("id", 1).bind("name", "Eric").add();
+        assertThatThrownBy(() -> b.executeInChunks(3, counts -> {}))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testExecuteInChunksRejectsResults() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .executeInChunks(3, counts -> {});
+        b.bind("id", 1).bind("name", "Eric").add();
+        assertThatThrownBy(() -> b.executeAndReturnGeneratedKeys("id").mapTo(int.class).list())
+            .isInstanceOf(IllegalStateException.class);
+        b.close();
+    }
+
     public static class PublicSomething {
         public int id;
         public String name;
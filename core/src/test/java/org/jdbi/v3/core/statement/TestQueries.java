@@ -13,7 +13,6 @@
  */
 package org.jdbi.v3.core.statement;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -419,6 +418,6 @@ public class TestQueries {
                               .list();
 
         assertThat(rs).hasSize(2);
-        assertThat(rs).hasOnlyElementsOfType(LinkedHashMap.class);
+        assertThat(rs).allSatisfy(row -> assertThat(row.keySet()).containsExactly("id", "name"));
     }
 }
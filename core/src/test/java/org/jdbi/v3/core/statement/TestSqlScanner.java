@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.jdbi.v3.core.internal.lexer.ColonStatementLexer;
+import org.jdbi.v3.core.internal.lexer.HashStatementLexer;
+import org.jdbi.v3.core.statement.internal.ErrorListener;
+import org.junit.Test;
+
+import static org.antlr.v4.runtime.Recognizer.EOF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the scanner against the lexer grammars it replaces.
+ */
+public class TestSqlScanner {
+    private static final String[] FRAGMENTS = {
+        ":", "::", "#", "##", "?", "??", "?.", ".", "'", "\"", "\\", "/", "*", "/*", "*/",
+        "a", "id", "x1", "_", "$", " ", "\n", "=", ",", "(", ")",
+        "é", "😀", "\ud800", "\udc00"
+    };
+
+    private final SqlScanner colon = new SqlScanner(':', true);
+    private final SqlScanner hash = new SqlScanner('#', false);
+
+    @Test
+    public void testExamples() {
+        String[] examples = {
+            "",
+            "select * from something where id = :id and name = :name",
+            "select :a::int, :b ::text, ':c', \":d\", /* :e */ :f",
+            "insert into t values (?, ?, ??, ?)",
+            "select 'it\\'s', 'a\\\\' , :x, '\\' :y",
+            "select \\:escaped, \\\\, :a?.b?.c, :a?b",
+            "select \"\", \"\" :x\", '' :y, /* unterminated :z",
+            "select #a, ##b, #a.b, #été, #😀",
+            "select ':::a', :::a, :, #, ?"
+        };
+        for (String sql : examples) {
+            assertSameAsLexer(sql);
+        }
+    }
+
+    @Test
+    public void testRandomStatements() {
+        Random random = new Random(20200101L);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder sql = new StringBuilder();
+            int fragments = random.nextInt(20);
+            for (int i = 0; i < fragments; i++) {
+                sql.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameAsLexer(sql.toString());
+        }
+    }
+
+    private void assertSameAsLexer(String sql) {
+        assertThat(parse(colon::parse, sql))
+            .describedAs("colon prefix: %s", sql)
+            .isEqualTo(parse(s -> lex(new ColonStatementLexer(CharStreams.fromString(s))), sql));
+        assertThat(parse(hash::parse, sql))
+            .describedAs("hash prefix: %s", sql)
+            .isEqualTo(parse(s -> lex(new HashStatementLexer(CharStreams.fromString(s))), sql));
+    }
+
+    private static Object parse(Function<String, ParsedSql> parser, String sql) {
+        try {
+            return parser.apply(sql);
+        } catch (UnableToExecuteStatementException e) {
+            return e.getMessage();
+        }
+    }
+
+    // the token types of both lexers are the same
+    private static ParsedSql lex(Lexer lexer) {
+        ParsedSql.Builder parsedSql = ParsedSql.builder();
+        lexer.addErrorListener(new ErrorListener());
+        Token t = lexer.nextToken();
+        while (t.getType() != EOF) {
+            switch (t.getType()) {
+                case ColonStatementLexer.COMMENT:
+                case ColonStatementLexer.LITERAL:
+                case ColonStatementLexer.QUOTED_TEXT:
+                case ColonStatementLexer.DOUBLE_QUOTED_TEXT:
+                    parsedSql.append(t.getText());
+                    break;
+                case ColonStatementLexer.NAMED_PARAM:
+                    parsedSql.appendNamedParameter(t.getText().substring(1));
+                    break;
+                case ColonStatementLexer.POSITIONAL_PARAM:
+                    parsedSql.appendPositionalParameter();
+                    break;
+                case ColonStatementLexer.ESCAPED_TEXT:
+                    parsedSql.append(t.getText().substring(1));
+                    break;
+                default:
+                    break;
+            }
+            t = lexer.nextToken();
+        }
+        return parsedSql.build();
+    }
+}
@@ -30,7 +30,7 @@ import org.jdbi.v3.core.statement.TemplateEngine;
  */
 public class FreemarkerEngine implements TemplateEngine {
     private static final JdbiCache<String, Function<StatementContext, String>> RENDER_CACHE =
-            JdbiCaches.declare(FreemarkerEngine::prepare);
+            JdbiCaches.declare("FreemarkerEngine.render", "maximumSize=1000", FreemarkerEngine::prepare);
 
     @Override
     public String render(String sql, StatementContext ctx) {
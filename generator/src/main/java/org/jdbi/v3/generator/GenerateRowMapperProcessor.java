@@ -0,0 +1,578 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import org.jdbi.v3.core.annotation.Unmappable;
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.Nested;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.RowMapperFactory;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.JdbiConstructor;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedMapperColumns;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Generates a {@link RowMapper} for each type annotated with
+ * {@link org.jdbi.v3.core.mapper.GenerateRowMapper}. Immutables value types are built through
+ * their generated builder, types with a {@link JdbiConstructor} or without a no-argument
+ * constructor through their constructor, and all other types through their setters.
+ */
+@SupportedAnnotationTypes("org.jdbi.v3.core.mapper.GenerateRowMapper")
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public class GenerateRowMapperProcessor extends AbstractProcessor {
+    private static final Set<ElementKind> ACCEPTABLE = EnumSet.of(ElementKind.CLASS, ElementKind.INTERFACE);
+    private static final String IMMUTABLE = "org.immutables.value.Value.Immutable";
+    private static final String IMMUTABLE_DEFAULT = "org.immutables.value.Value.Default";
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        final TypeElement gens = annotations.iterator().next();
+        final Set<? extends Element> annoTypes = roundEnv.getElementsAnnotatedWith(gens);
+        annoTypes.forEach(this::tryGenerate);
+        return true;
+    }
+
+    private void tryGenerate(Element type) {
+        try {
+            generate(type);
+        } catch (Exception ex) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Failure: " + ex, type);
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private void generate(Element typeE) throws IOException {
+        processingEnv.getMessager().printMessage(Kind.NOTE, String.format("[jdbi] generating row mapper for %s", typeE));
+        if (!ACCEPTABLE.contains(typeE.getKind())) {
+            throw new IllegalStateException("Generate on non-class: " + typeE);
+        }
+        if (typeE.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new IllegalStateException("Generate on private class: " + typeE);
+        }
+        final TypeElement type = (TypeElement) typeE;
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new IllegalStateException("Generate on generic class: " + typeE);
+        }
+
+        final String mapperName = type.getSimpleName() + "RowMapper";
+        final ClassName typeName = ClassName.get(type);
+        final TypeSpec.Builder mapperSpec = TypeSpec.classBuilder(mapperName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(RowMapper.class), typeName))
+                .addOriginatingElement(type);
+
+        final CodeBlock.Builder specialize = CodeBlock.builder()
+                .addStatement("final $T columns = new $T($T.class, rs, ctx)",
+                        GeneratedMapperColumns.class, GeneratedMapperColumns.class, typeName);
+
+        final ExecutableElement constructor = findConstructor(type);
+        if (isImmutable(type)) {
+            generateImmutable(mapperSpec, specialize, type);
+        } else if (constructor == null) {
+            generateBean(mapperSpec, specialize, type);
+        } else {
+            generateConstructor(mapperSpec, specialize, type, constructor);
+        }
+
+        mapperSpec.addMethod(MethodSpec.methodBuilder("factory")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(RowMapperFactory.class)
+                .addStatement("return $T.of($T.class, new $L())", RowMapperFactory.class, typeName, mapperName)
+                .build());
+        mapperSpec.addMethod(MethodSpec.methodBuilder("map")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(typeName)
+                .addParameter(ResultSet.class, "rs")
+                .addParameter(StatementContext.class, "ctx")
+                .addException(SQLException.class)
+                .addStatement("return specialize(rs, ctx).map(rs, ctx)")
+                .build());
+        mapperSpec.addMethod(MethodSpec.methodBuilder("specialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(RowMapper.class), typeName))
+                .addParameter(ResultSet.class, "rs")
+                .addParameter(StatementContext.class, "ctx")
+                .addException(SQLException.class)
+                .addCode(specialize.build())
+                .build());
+
+        final String packageName = packageName(type);
+        final JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName + "." + mapperName, type);
+        try (Writer out = file.openWriter()) {
+            JavaFile.builder(packageName, mapperSpec.build()).build().writeTo(out);
+        }
+    }
+
+    private void generateBean(TypeSpec.Builder mapperSpec, CodeBlock.Builder specialize, TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new IllegalStateException("Generate on abstract class that is not an Immutables type: " + type);
+        }
+        final Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+        final Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!isAccessible(type, method)) {
+                continue;
+            }
+            final String name = method.getSimpleName().toString();
+            if (method.getParameters().size() == 1 && hasPrefix(name, "set")) {
+                setters.putIfAbsent(decapitalize(name.substring(3)), method);
+            } else if (method.getParameters().isEmpty() && hasPrefix(name, "get")) {
+                getters.putIfAbsent(decapitalize(name.substring(3)), method);
+            } else if (method.getParameters().isEmpty() && hasPrefix(name, "is")) {
+                getters.putIfAbsent(decapitalize(name.substring(2)), method);
+            }
+        }
+
+        final CodeBlock.Builder row = CodeBlock.builder()
+                .addStatement("final $T bean = new $T()", type, type);
+        int i = 0;
+        for (Map.Entry<String, ExecutableElement> setter : setters.entrySet()) {
+            final ExecutableElement getter = getters.get(setter.getKey());
+            if (isUnmappable(setter.getValue()) || getter != null && isUnmappable(getter)) {
+                continue;
+            }
+            if (setter.getValue().getAnnotation(Nested.class) != null || getter != null && getter.getAnnotation(Nested.class) != null) {
+                throw new IllegalStateException("@Nested is not supported by generated row mappers: " + type + "." + setter.getKey());
+            }
+            final String column = columnName(setter.getKey(), setter.getValue(), getter);
+            final TypeMirror propertyType = memberOf(type, setter.getValue()).getParameterTypes().get(0);
+            optionalColumn(mapperSpec, specialize, i, column, type.getSimpleName() + "." + setter.getKey(), propertyType);
+            row.beginControlFlow("if (c$L != 0)", i)
+               .addStatement("final $T v$L = m$L.map(r, c$L, c)", TypeName.get(propertyType).box(), i, i, i);
+            setIfPresent(row, i, "bean." + setter.getValue().getSimpleName(), propertyType);
+            row.endControlFlow();
+            i++;
+        }
+        row.addStatement("return bean");
+        finish(specialize, row.build());
+    }
+
+    private void generateImmutable(TypeSpec.Builder mapperSpec, CodeBlock.Builder specialize, TypeElement type) {
+        final ImmutablesStyle style = ImmutablesStyle.of(type);
+        final ClassName immutable = ClassName.get(style.packageName(packageName(type)), style.immutableName(type.getSimpleName().toString()));
+        final ClassName builderType = immutable.nestedClass(style.builderName(type.getSimpleName().toString()));
+        final CodeBlock.Builder row = CodeBlock.builder();
+        if (style.builderConstructor()) {
+            row.addStatement("final $T builder = new $T()", builderType, builderType);
+        } else {
+            row.addStatement("final $T builder = $T.$L()", builderType, immutable, style.builder);
+        }
+        int i = 0;
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!isAttribute(type, method) || isUnmappable(method)) {
+                continue;
+            }
+            final String name = method.getSimpleName().toString();
+            if (method.getAnnotation(Nested.class) != null) {
+                throw new IllegalStateException("@Nested is not supported by generated row mappers: " + type + "." + name);
+            }
+            final String attribute = style.attributeName(name);
+            final String property = hasPrefix(name, "is") ? decapitalize(name.substring(2)) : attribute;
+            final TypeMirror propertyType = memberOf(type, method).getReturnType();
+            optionalColumn(mapperSpec, specialize, i, columnName(property, method, null), type.getSimpleName() + "." + property, propertyType);
+            row.beginControlFlow("if (c$L != 0)", i)
+               .addStatement("final $T v$L = m$L.map(r, c$L, c)", TypeName.get(propertyType).box(), i, i, i);
+            setIfPresent(row, i, "builder." + style.initName(attribute), propertyType);
+            row.endControlFlow();
+            i++;
+        }
+        row.addStatement("return builder.$L()", style.build);
+        finish(specialize, row.build());
+    }
+
+    private void generateConstructor(TypeSpec.Builder mapperSpec, CodeBlock.Builder specialize, TypeElement type, ExecutableElement constructor) {
+        final List<? extends TypeMirror> types = memberOf(type, constructor).getParameterTypes();
+        final CodeBlock.Builder args = CodeBlock.builder();
+        for (int i = 0; i < types.size(); i++) {
+            final VariableElement param = constructor.getParameters().get(i);
+            if (i > 0) {
+                args.add(", ");
+            }
+            final TypeMirror paramType = types.get(i);
+            if (param.getAnnotation(Nested.class) != null) {
+                throw new IllegalStateException("@Nested is not supported by generated row mappers: " + type + " parameter " + param);
+            }
+            final String column = columnName(param.getSimpleName().toString(), param, null);
+            final String debugName = type.getSimpleName() + " constructor parameter " + param.getSimpleName();
+            if (isNullable(param)) {
+                optionalColumn(mapperSpec, specialize, i, column, debugName, paramType);
+                args.add("c$L == 0 ? $L : m$L.map(r, c$L, c)", i, defaultValue(paramType), i, i);
+            } else {
+                specialize.addStatement("final int c$L = columns.require($S, $S)", i, column, debugName)
+                          .addStatement("final $T m$L = columns.mapper($L, $S)",
+                                  columnMapperType(paramType), i, typeToken(mapperSpec, i, paramType), debugName);
+                args.add("m$L.map(r, c$L, c)", i, i);
+            }
+        }
+        finish(specialize, CodeBlock.builder()
+                .addStatement("return new $T($L)", type, args.build())
+                .build());
+    }
+
+    // like the primitive column mappers, a primitive property is set to its default value on SQL NULL
+    private static void setIfPresent(CodeBlock.Builder row, int i, String setter, TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            row.addStatement("$L(v$L == null ? $L : v$L)", setter, i, defaultValue(type), i);
+        } else {
+            row.beginControlFlow("if (v$L != null)", i)
+               .addStatement("$L(v$L)", setter, i)
+               .endControlFlow();
+        }
+    }
+
+    private void optionalColumn(TypeSpec.Builder mapperSpec, CodeBlock.Builder specialize, int i, String column, String debugName, TypeMirror type) {
+        final TypeMirror boxed = type.getKind().isPrimitive()
+                ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType()
+                : type;
+        specialize.addStatement("final int c$L = columns.find($S, $S)", i, column, debugName)
+                  .addStatement("final $T m$L = c$L == 0 ? null : columns.mapper($L, $S)",
+                          columnMapperType(boxed), i, i, typeToken(mapperSpec, i, boxed), debugName);
+    }
+
+    private void finish(CodeBlock.Builder specialize, CodeBlock row) {
+        specialize.addStatement("columns.validate()")
+                  .add("return (r, c) -> {\n")
+                  .indent()
+                  .add(row)
+                  .unindent()
+                  .add("};\n");
+    }
+
+    private CodeBlock typeToken(TypeSpec.Builder mapperSpec, int i, TypeMirror type) {
+        if (!isGeneric(type)) {
+            return CodeBlock.of("$T.class", TypeName.get(type));
+        }
+        final TypeName token = ParameterizedTypeName.get(ClassName.get(GenericType.class), TypeName.get(type));
+        mapperSpec.addField(FieldSpec.builder(token, "TYPE_" + i, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", TypeSpec.anonymousClassBuilder("").superclass(token).build())
+                .build());
+        return CodeBlock.of("TYPE_$L", i);
+    }
+
+    private TypeName columnMapperType(TypeMirror type) {
+        return ParameterizedTypeName.get(ClassName.get(ColumnMapper.class), TypeName.get(type).box());
+    }
+
+    private boolean isGeneric(TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+            case INTERSECTION:
+            case UNION:
+                throw new IllegalStateException("Cannot generate a row mapper for property of type " + type);
+            case ARRAY:
+                return isGeneric(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return !((DeclaredType) type).getTypeArguments().isEmpty();
+            default:
+                return false;
+        }
+    }
+
+    private ExecutableElement findConstructor(TypeElement type) {
+        final List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        final List<ExecutableElement> annotated = new ArrayList<>();
+        constructors.stream().filter(c -> c.getAnnotation(JdbiConstructor.class) != null).forEach(annotated::add);
+        if (annotated.size() > 1) {
+            throw new IllegalStateException("Multiple @JdbiConstructor annotated constructors: " + type);
+        }
+        if (!annotated.isEmpty()) {
+            return checkAccessible(annotated.get(0));
+        }
+        final List<ExecutableElement> visible = new ArrayList<>();
+        for (ExecutableElement c : constructors) {
+            if (!c.getModifiers().contains(Modifier.PRIVATE)) {
+                if (c.getParameters().isEmpty()) {
+                    return null;
+                }
+                visible.add(c);
+            }
+        }
+        if (visible.size() != 1 && type.getKind() == ElementKind.CLASS && !isImmutable(type)) {
+            throw new IllegalStateException("Expected a no-argument constructor, a @JdbiConstructor, or a single constructor: " + type);
+        }
+        return visible.isEmpty() ? null : visible.get(0);
+    }
+
+    private ExecutableElement checkAccessible(ExecutableElement constructor) {
+        if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new IllegalStateException("Generate with private constructor: " + constructor.getEnclosingElement());
+        }
+        return constructor;
+    }
+
+    private boolean isAttribute(TypeElement type, ExecutableElement method) {
+        return method.getParameters().isEmpty()
+            && method.getReturnType().getKind() != TypeKind.VOID
+            && (method.getModifiers().contains(Modifier.ABSTRACT) || hasAnnotation(method, IMMUTABLE_DEFAULT))
+            && isAccessible(type, method);
+    }
+
+    private boolean isAccessible(TypeElement type, ExecutableElement method) {
+        final Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        final Element owner = method.getEnclosingElement();
+        if (Object.class.getName().equals(((TypeElement) owner).getQualifiedName().toString())) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || packageName(owner).equals(packageName(type));
+    }
+
+    private ExecutableType memberOf(TypeElement type, ExecutableElement member) {
+        return (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), member);
+    }
+
+    private boolean isImmutable(TypeElement type) {
+        return hasAnnotation(type, IMMUTABLE);
+    }
+
+    private static boolean isUnmappable(Element element) {
+        final Unmappable unmappable = element.getAnnotation(Unmappable.class);
+        return unmappable != null && unmappable.value();
+    }
+
+    private static String columnName(String property, Element element, Element alternate) {
+        ColumnName name = element.getAnnotation(ColumnName.class);
+        if (name == null && alternate != null) {
+            name = alternate.getAnnotation(ColumnName.class);
+        }
+        return name == null ? property : name.value();
+    }
+
+    // Any annotation named @Nullable is honored, like ConstructorMapper does.
+    private static boolean isNullable(VariableElement param) {
+        for (AnnotationMirror anno : param.getAnnotationMirrors()) {
+            if ("Nullable".equals(anno.getAnnotationType().asElement().getSimpleName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        for (AnnotationMirror anno : element.getAnnotationMirrors()) {
+            if (annotation.equals(((TypeElement) anno.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "(char) 0";
+            case BYTE:
+                return "(byte) 0";
+            case SHORT:
+                return "(short) 0";
+            case INT:
+                return "0";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0f";
+            case DOUBLE:
+                return "0d";
+            default:
+                return "null";
+        }
+    }
+
+    private static boolean hasPrefix(String name, String prefix) {
+        return name.length() > prefix.length()
+            && name.startsWith(prefix)
+            && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+
+    // java.beans.Introspector.decapitalize
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private String packageName(Element e) {
+        return processingEnv.getElementUtils().getPackageOf(e).toString();
+    }
+
+    /**
+     * The naming of the Immutables value classes generated for a type, from the {@code @Value.Style} on the type,
+     * an enclosing type or the package, directly or as a meta-annotation.
+     */
+    private static final class ImmutablesStyle {
+        private static final String STYLE = "org.immutables.value.Value.Style";
+
+        private final List<String> typeAbstract;
+        private final String typeImmutable;
+        private final String typeBuilder;
+        private final String packageGenerated;
+        private final List<String> get;
+        private final String init;
+        private final String builder;
+        private final String build;
+
+        private ImmutablesStyle(Map<String, Object> values) {
+            typeAbstract = strings(values.getOrDefault("typeAbstract", "Abstract*"));
+            typeImmutable = (String) values.getOrDefault("typeImmutable", "Immutable*");
+            typeBuilder = (String) values.getOrDefault("typeBuilder", "Builder");
+            packageGenerated = (String) values.getOrDefault("packageGenerated", "*");
+            get = strings(values.getOrDefault("get", "get*"));
+            init = (String) values.getOrDefault("init", "*");
+            builder = (String) values.getOrDefault("builder", "builder");
+            build = (String) values.getOrDefault("build", "build");
+        }
+
+        static ImmutablesStyle of(TypeElement type) {
+            for (Element e = type; e != null; e = e.getEnclosingElement()) {
+                for (AnnotationMirror anno : e.getAnnotationMirrors()) {
+                    if (isStyle(anno)) {
+                        return new ImmutablesStyle(values(anno));
+                    }
+                    for (AnnotationMirror meta : anno.getAnnotationType().asElement().getAnnotationMirrors()) {
+                        if (isStyle(meta)) {
+                            return new ImmutablesStyle(values(meta));
+                        }
+                    }
+                }
+            }
+            return new ImmutablesStyle(new LinkedHashMap<>());
+        }
+
+        String packageName(String abstractPackage) {
+            return apply(packageGenerated, abstractPackage, false);
+        }
+
+        String immutableName(String abstractName) {
+            return apply(typeImmutable, detect(typeAbstract, abstractName, false), true);
+        }
+
+        String builderName(String abstractName) {
+            return apply(typeBuilder, detect(typeAbstract, abstractName, false), true);
+        }
+
+        boolean builderConstructor() {
+            return "new".equals(builder);
+        }
+
+        String attributeName(String accessor) {
+            return detect(get, accessor, true);
+        }
+
+        String initName(String attribute) {
+            return apply(init, attribute, true);
+        }
+
+        private static boolean isStyle(AnnotationMirror anno) {
+            return STYLE.equals(((TypeElement) anno.getAnnotationType().asElement()).getQualifiedName().toString());
+        }
+
+        // only explicitly given values, so that the defaults do not depend on the Immutables version
+        private static Map<String, Object> values(AnnotationMirror anno) {
+            final Map<String, Object> values = new LinkedHashMap<>();
+            anno.getElementValues().forEach((k, v) -> values.put(k.getSimpleName().toString(), v.getValue()));
+            return values;
+        }
+
+        private static List<String> strings(Object value) {
+            final List<String> strings = new ArrayList<>();
+            if (value instanceof List) {
+                ((List<?>) value).forEach(v -> strings.add((String) ((AnnotationValue) v).getValue()));
+            } else {
+                strings.add((String) value);
+            }
+            return strings;
+        }
+
+        // the part of the name matched by the star of the first matching pattern, or the whole name
+        private static String detect(List<String> patterns, String name, boolean decapitalize) {
+            for (String pattern : patterns) {
+                final int star = pattern.indexOf('*');
+                if (star < 0) {
+                    continue;
+                }
+                final String prefix = pattern.substring(0, star);
+                final String suffix = pattern.substring(star + 1);
+                if (name.length() > prefix.length() + suffix.length() && name.startsWith(prefix) && name.endsWith(suffix)
+                        && (prefix.isEmpty() || Character.isUpperCase(name.charAt(prefix.length())))) {
+                    final String raw = name.substring(prefix.length(), name.length() - suffix.length());
+                    return decapitalize && !prefix.isEmpty() ? decapitalize(raw) : raw;
+                }
+            }
+            return name;
+        }
+
+        private static String apply(String pattern, String name, boolean capitalize) {
+            final int star = pattern.indexOf('*');
+            if (star < 0) {
+                return pattern;
+            }
+            final String raw = capitalize && star > 0 ? Character.toUpperCase(name.charAt(0)) + name.substring(1) : name;
+            return pattern.substring(0, star) + raw + pattern.substring(star + 1);
+        }
+    }
+}
@@ -17,31 +17,44 @@ import java.io.IOException;
 import java.io.Writer;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 import javax.tools.JavaFileObject;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.jdbi.v3.core.Jdbi;
@@ -49,13 +62,22 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.ConfiguringAnnotation;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
 import org.jdbi.v3.sqlobject.internal.SqlObjectInitData;
 import org.jdbi.v3.sqlobject.internal.SqlObjectInitData.InContextInvoker;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 @SupportedAnnotationTypes("org.jdbi.v3.sqlobject.GenerateSqlObject")
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class GenerateSqlObjectProcessor extends AbstractProcessor {
     private static final Set<ElementKind> ACCEPTABLE = EnumSet.of(ElementKind.CLASS, ElementKind.INTERFACE);
+    private static final Set<String> CONTAINERS = new HashSet<>(Arrays.asList(
+            List.class.getName(), Set.class.getName(), Optional.class.getName()));
+    private static final Set<String> PRIMITIVE_OPTIONALS = new HashSet<>(Arrays.asList(
+            OptionalInt.class.getName(), OptionalLong.class.getName(), OptionalDouble.class.getName()));
     private long counter = 0;
 
     @Override
@@ -99,6 +121,8 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
         final CodeBlock.Builder constructor = CodeBlock.builder();
 
         implSpec.addField(SqlObjectInitData.class, "initData", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+        implSpec.addField(HandleSupplier.class, "handle", Modifier.PRIVATE, Modifier.FINAL);
+        constructor.add("this.handle = handle;\n");
 
         List<ExecutableElement> implMethods = sqlObj.getEnclosedElements().stream()
                 .filter(ee -> ee.getKind() == ElementKind.METHOD)
@@ -169,7 +193,15 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                 ? ""
                 : ("return (" + method.getReturnType().toString() + ")"); // NOPMD
         final CodeBlock.Builder body;
-        if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+        final Optional<CodeBlock> direct = directStatement(typeBuilder, method, methodField);
+        if (direct.isPresent()) {
+            body = CodeBlock.builder()
+                    .beginControlFlow("if ($L.get().isDirect())", invokerField)
+                    .add("$L $L.get().call(() -> $L);\n", castReturn, invokerField, direct.get())
+                    .nextControlFlow("else")
+                    .add("$L $L.get().invoke(new Object[] {$L});\n", castReturn, invokerField, paramList)
+                    .endControlFlow();
+        } else if (method.getModifiers().contains(Modifier.ABSTRACT)) {
             body = CodeBlock.builder()
                     .add("$L $L.get().invoke(new Object[] {$L});\n",
                             castReturn, invokerField, paramList);
@@ -191,6 +223,124 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                 .build();
     }
 
+    /**
+     * Generates the statement execution of a {@code @SqlQuery} or {@code @SqlUpdate} method, if everything the
+     * handler would do at run time can be decided here: parameters are bound with {@code @Bind} and an explicit
+     * name, nothing else customizes the statement, and the result is a single value, a {@code List}, {@code Set}
+     * or {@code Optional}, or an update count. The SQL is still located at run time, and the generated class falls
+     * back to the handler if a different handler or a decorator is configured for the method, or if a collector
+     * is registered for a single value return type.
+     */
+    private Optional<CodeBlock> directStatement(TypeSpec.Builder typeBuilder, ExecutableElement method, String methodField) {
+        if (!method.getModifiers().contains(Modifier.ABSTRACT)
+                || !method.getTypeParameters().isEmpty()
+                || customizesStatements(method.getEnclosingElement())) {
+            return Optional.empty();
+        }
+
+        Class<?> operation = null;
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            final String name = annotationType.getQualifiedName().toString();
+            if (name.equals(SqlQuery.class.getName())) {
+                operation = SqlQuery.class;
+            } else if (name.equals(SqlUpdate.class.getName())) {
+                operation = SqlUpdate.class;
+            } else if (!name.equals(Override.class.getName()) && annotationType.getAnnotation(ConfiguringAnnotation.class) == null) {
+                return Optional.empty();
+            }
+        }
+        if (operation == null) {
+            return Optional.empty();
+        }
+
+        final CodeBlock.Builder binds = CodeBlock.builder();
+        final List<? extends VariableElement> params = method.getParameters();
+        for (int i = 0; i < params.size(); i++) {
+            final VariableElement param = params.get(i);
+            final Bind bind = param.getAnnotation(Bind.class);
+            if (bind == null || bind.value().isEmpty() || param.getAnnotationMirrors().size() != 1 || !isClassLiteral(param.asType())) {
+                return Optional.empty();
+            }
+            final TypeName type = TypeName.get(param.asType());
+            binds.add("\n.bindByType($L, $L, $T.class)", i, param.getSimpleName(), type)
+                .add("\n.bindByType($S, $L, $T.class)", bind.value(), param.getSimpleName(), type);
+        }
+
+        final boolean query = operation == SqlQuery.class;
+        final Optional<CodeBlock> result = query
+                ? queryResult(typeBuilder, method)
+                : updateResult(method);
+        return result.map(r -> CodeBlock.builder()
+                .add("initData.$L($L, this.handle)", query ? "createQuery" : "createUpdate", methodField)
+                .add(binds.build())
+                .add(r)
+                .build());
+    }
+
+    private Optional<CodeBlock> queryResult(TypeSpec.Builder typeBuilder, ExecutableElement method) {
+        final Types typeUtils = processingEnv.getTypeUtils();
+        final TypeMirror returnType = method.getReturnType();
+        if (returnType.getKind().isPrimitive()) {
+            return Optional.of(CodeBlock.of("\n.mapTo($T.class)\n.findFirst()\n.orElseThrow(() -> new $T($S))",
+                    TypeName.get(returnType),
+                    IllegalStateException.class,
+                    "SQL method returns primitive " + returnType + ", but statement returned no results"));
+        }
+        if (returnType.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+        final List<? extends TypeMirror> typeArguments = ((DeclaredType) returnType).getTypeArguments();
+        if (typeArguments.isEmpty()) {
+            if (!((TypeElement) typeUtils.asElement(returnType)).getTypeParameters().isEmpty()
+                    || PRIMITIVE_OPTIONALS.contains(returnType.toString())) {
+                // raw and primitive containers are collected
+                return Optional.empty();
+            }
+            return Optional.of(CodeBlock.of("\n.mapTo($T.class)\n.findFirst()\n.orElse(null)", TypeName.get(returnType)));
+        }
+        final String container = typeUtils.erasure(returnType).toString();
+        if (!CONTAINERS.contains(container) || !isClassLiteral(typeArguments.get(0))) {
+            return Optional.empty();
+        }
+        final TypeName containerType = ParameterizedTypeName.get(ClassName.get(GenericType.class), TypeName.get(returnType));
+        final String containerField = "r_" + method.getSimpleName() + "_" + counter++;
+        typeBuilder.addField(FieldSpec.builder(containerType, containerField, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T() {}", containerType)
+                .build());
+        return Optional.of(CodeBlock.of("\n.collectInto($L)", containerField));
+    }
+
+    private Optional<CodeBlock> updateResult(ExecutableElement method) {
+        switch (method.getReturnType().toString()) {
+        case "void":
+        case "int":
+        case "java.lang.Integer":
+            return Optional.of(CodeBlock.of("\n.execute()"));
+        case "boolean":
+        case "java.lang.Boolean":
+            return Optional.of(CodeBlock.of("\n.execute() > 0"));
+        default:
+            return Optional.empty();
+        }
+    }
+
+    private boolean customizesStatements(Element sqlObjectType) {
+        final Stream<TypeMirror> types = sqlObjectType instanceof TypeElement
+                ? Stream.concat(Stream.of(sqlObjectType.asType()), ((TypeElement) sqlObjectType).getInterfaces().stream())
+                : Stream.of(sqlObjectType.asType());
+        return types
+                .map(processingEnv.getTypeUtils()::asElement)
+                .flatMap(e -> e.getAnnotationMirrors().stream())
+                .map(a -> a.getAnnotationType().asElement())
+                .anyMatch(a -> a.getAnnotation(SqlStatementCustomizingAnnotation.class) != null);
+    }
+
+    private boolean isClassLiteral(TypeMirror type) {
+        return type.getKind().isPrimitive()
+                || type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
     private MethodSpec generateOnDemand(TypeElement sqlObjectType, ExecutableElement method) {
         return MethodSpec.overriding(method)
                 .addCode(CodeBlock.builder()
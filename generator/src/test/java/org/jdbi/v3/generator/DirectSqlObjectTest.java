@@ -0,0 +1,202 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.collector.CollectorFactory;
+import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.GenerateSqlObject;
+import org.jdbi.v3.sqlobject.HandlerDecorators;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DirectSqlObjectTest {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withPlugin(new SqlObjectPlugin()).withSomething()
+        .withConfig(Extensions.class, c -> c.setAllowProxy(false));
+
+    // whether each statement executed through a method handler
+    private final List<Boolean> throughHandler = new ArrayList<>();
+    private Handle handle;
+
+    @Before
+    public void setUp() {
+        handle = dbRule.getSharedHandle();
+        handle.setSqlLogger(new SqlLogger() {
+            @Override
+            public void logBeforeExecution(StatementContext context) {
+                throughHandler.add(Stream.of(new Throwable().getStackTrace())
+                    .anyMatch(e -> e.getClassName().endsWith("CustomizingStatementHandler")));
+            }
+        });
+    }
+
+    @Test
+    public void testDirectExecution() {
+        DirectDao dao = handle.attach(DirectDao.class);
+
+        assertThat(dao.insert(1, "Alice")).isEqualTo(1);
+        assertThat(dao.insertIfAbsent(2, "Bob")).isTrue();
+        dao.rename(2, "Robert");
+
+        assertThat(dao.findById(1)).isEqualTo(new Something(1, "Alice"));
+        assertThat(dao.findById(3)).isNull();
+        assertThat(dao.findName(2)).isEqualTo("Robert");
+        assertThat(dao.findOptional(2)).contains(new Something(2, "Robert"));
+        assertThat(dao.findOptional(3)).isEmpty();
+        assertThat(dao.list()).containsExactly(new Something(1, "Alice"), new Something(2, "Robert"));
+        assertThat(dao.names()).containsExactlyInAnyOrder("Alice", "Robert");
+        assertThat(dao.count()).isEqualTo(2);
+        assertThatThrownBy(() -> dao.countMissing())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("returns primitive int");
+
+        assertThat(throughHandler).isNotEmpty().containsOnly(false);
+    }
+
+    @Test
+    public void testUnsupportedMethodsUseHandler() {
+        DirectDao dao = handle.attach(DirectDao.class);
+
+        dao.insert(1, "Alice");
+        throughHandler.clear();
+
+        assertThat(dao.findByUnnamed(1)).isEqualTo(new Something(1, "Alice"));
+        assertThat(throughHandler).containsExactly(true);
+    }
+
+    @Test
+    public void testCollectedSingleValuesUseHandler() {
+        handle.registerCollector(new CollectorFactory() {
+            @Override
+            public boolean accepts(Type containerType) {
+                return containerType == Names.class;
+            }
+
+            @Override
+            public Optional<Type> elementType(Type containerType) {
+                return Optional.of(String.class);
+            }
+
+            @Override
+            public Collector<?, ?, ?> build(Type containerType) {
+                return Collectors.collectingAndThen(Collectors.<String>toList(), Names::new);
+            }
+        });
+        DirectDao dao = handle.attach(DirectDao.class);
+
+        dao.insert(1, "Alice");
+        dao.insert(2, "Bob");
+        throughHandler.clear();
+
+        assertThat(dao.allNames().values).containsExactly("Alice", "Bob");
+        assertThat(throughHandler).containsExactly(true);
+    }
+
+    @Test
+    public void testDecoratedMethodsUseHandler() {
+        handle.getConfig(HandlerDecorators.class)
+            .register((base, sqlObjectType, method) -> sqlObjectType == DecoratedDao.class
+                ? (target, args, h) -> base.invoke(target, args, h)
+                : base);
+        DecoratedDao dao = handle.attach(DecoratedDao.class);
+
+        dao.insert(1, "Alice");
+        assertThat(dao.findById(1)).isEqualTo(new Something(1, "Alice"));
+
+        assertThat(throughHandler).containsExactly(true, true);
+    }
+
+    @GenerateSqlObject
+    @RegisterRowMapper(SomethingMapper.class)
+    public interface DirectDao extends SqlObject {
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        int insert(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlUpdate("merge into something (id, name) key (id) values (:id, :name)")
+        boolean insertIfAbsent(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlUpdate("update something set name = :name where id = :id")
+        void rename(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlQuery("select id, name from something where id = :id")
+        Something findById(@Bind("id") int id);
+
+        @SqlQuery("select name from something where id = :id")
+        String findName(@Bind("id") Integer id);
+
+        @SqlQuery("select id, name from something where id = :id")
+        Optional<Something> findOptional(@Bind("id") int id);
+
+        @SqlQuery("select id, name from something order by id")
+        List<Something> list();
+
+        @SqlQuery("select name from something")
+        Set<String> names();
+
+        @SqlQuery("select count(*) from something")
+        int count();
+
+        @SqlQuery("select id from something where id < 0")
+        int countMissing();
+
+        @SqlQuery("select id, name from something where id = ?")
+        Something findByUnnamed(@Bind int id);
+
+        @SqlQuery("select name from something order by id")
+        Names allNames();
+    }
+
+    public static class Names {
+        private final List<String> values;
+
+        Names(List<String> values) {
+            this.values = values;
+        }
+    }
+
+    @GenerateSqlObject
+    @RegisterRowMapper(SomethingMapper.class)
+    public interface DecoratedDao extends SqlObject {
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        void insert(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlQuery("select id, name from something where id = :id")
+        Something findById(@Bind("id") int id);
+    }
+}
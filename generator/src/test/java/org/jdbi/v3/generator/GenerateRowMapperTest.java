@@ -0,0 +1,185 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.immutables.value.Value;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.GenerateRowMapper;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class GenerateRowMapperTest {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private Handle handle;
+
+    @Before
+    public void setUp() {
+        handle = dbRule.getSharedHandle();
+        handle.registerRowMapper(BeanThingRowMapper.factory());
+        handle.registerRowMapper(ConstructorThingRowMapper.factory());
+        handle.registerRowMapper(ValueThingRowMapper.factory());
+        handle.registerRowMapper(AbstractStyledThingRowMapper.factory());
+        handle.execute("insert into something (id, name, intValue) values (1, 'Alice', 10)");
+        handle.execute("insert into something (id, name) values (2, null)");
+    }
+
+    @Test
+    public void bean() {
+        assertThat(handle.createQuery("select id, name, intValue from something order by id")
+                .mapTo(BeanThing.class)
+                .list())
+            .extracting("id", "label", "intValue")
+            .containsExactly(
+                tuple(1, "Alice", 10),
+                tuple(2, null, 0));
+    }
+
+    @Test
+    public void constructor() {
+        ConstructorThing thing = handle.createQuery("select id, name from something where id = 1")
+            .mapTo(ConstructorThing.class)
+            .one();
+        assertThat(thing.id).isEqualTo(1);
+        assertThat(thing.name).contains("Alice");
+        assertThat(thing.intValue).isNull();
+    }
+
+    @Test
+    public void constructorMissingColumn() {
+        assertThatThrownBy(() -> handle.createQuery("select name from something")
+                .mapTo(ConstructorThing.class)
+                .list())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("ConstructorThing constructor parameter id");
+    }
+
+    @Test
+    public void immutable() {
+        assertThat(handle.createQuery("select id, name from something order by id")
+                .mapTo(ValueThing.class)
+                .list())
+            .containsExactly(
+                ImmutableValueThing.builder().id(1).name("Alice").build(),
+                ImmutableValueThing.builder().id(2).build());
+    }
+
+    @Test
+    public void immutableStyle() {
+        assertThat(handle.createQuery("select id, name, intValue from something order by id")
+                .mapTo(AbstractStyledThing.class)
+                .list())
+            .containsExactly(
+                StyledThing.builder().setId(1).setName("Alice").setIntValue(10).build(),
+                StyledThing.builder().setId(2).setIntValue(0).build());
+    }
+
+    @Test
+    public void noMatchingColumns() {
+        assertThatThrownBy(() -> handle.createQuery("select integerValue from something")
+                .mapTo(BeanThing.class)
+                .list())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("didn't find any matching columns");
+    }
+
+    @Test
+    public void strictMatching() {
+        handle.getConfig(ReflectionMappers.class).setStrictMatching(true);
+        assertThatThrownBy(() -> handle.createQuery("select id, name, integerValue from something")
+                .mapTo(ConstructorThing.class)
+                .list())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("integervalue");
+    }
+
+    @GenerateRowMapper
+    public static class BeanThing {
+        private int id;
+        private String label;
+        private int intValue = -1;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        @ColumnName("name")
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public int getIntValue() {
+            return intValue;
+        }
+
+        public void setIntValue(int intValue) {
+            this.intValue = intValue;
+        }
+    }
+
+    @GenerateRowMapper
+    public static class ConstructorThing {
+        final int id;
+        final Optional<String> name;
+        final Integer intValue;
+
+        public ConstructorThing(int id, Optional<String> name, @Nullable Integer intValue) {
+            this.id = id;
+            this.name = name;
+            this.intValue = intValue;
+        }
+    }
+
+    @GenerateRowMapper
+    @Value.Immutable
+    public interface ValueThing {
+        int id();
+
+        @Nullable
+        String getName();
+    }
+
+    @GenerateRowMapper
+    @Value.Immutable
+    @Value.Style(typeAbstract = "Abstract*", typeImmutable = "*", init = "set*")
+    public interface AbstractStyledThing {
+        int getId();
+
+        @Nullable
+        String getName();
+
+        int getIntValue();
+    }
+}
@@ -23,6 +23,13 @@ import org.jdbi.v3.meta.Beta;
 /**
  * Decorate a SqlObject type to instruct the {@code jdbi3-generator} annotation processor
  * to create a compiled implementation.
+ * <p>
+ * Simple {@code @SqlQuery} and {@code @SqlUpdate} methods are implemented with direct statement execution
+ * instead of through their method handler: methods whose parameters are all bound with {@code @Bind} and an
+ * explicit name, which carry no other statement customizing or qualifying annotations, and which return a
+ * single value, a {@code List}, {@code Set} or {@code Optional}, or an update count. Single values are
+ * mapped from the first row, without looking for a collector of the value type. If a different handler or
+ * a decorator is configured for such a method, the implementation uses the handler.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
@@ -13,7 +13,9 @@
  */
 package org.jdbi.v3.sqlobject;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Implements the contract of a SQL Object method.
@@ -30,4 +32,14 @@ public interface Handler {
      * @throws Exception any exception thrown by the method.
      */
     Object invoke(Object target, Object[] args, HandleSupplier handle) throws Exception;
+
+    /**
+     * Prepares what the first invocation would, such as locating and parsing the SQL, without executing anything.
+     * The default implementation does nothing.
+     *
+     * @param config the configuration the method will be invoked with
+     * @see org.jdbi.v3.core.Jdbi#warmUp(Class[])
+     */
+    @Beta
+    default void warmUp(ConfigRegistry config) {}
 }
@@ -17,7 +17,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,14 +44,13 @@ import org.jdbi.v3.core.internal.OnDemandExtensions;
 import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.config.ConfiguringAnnotation;
 import org.jdbi.v3.sqlobject.internal.SqlObjectInitData;
-import org.jdbi.v3.sqlobject.internal.SqlObjectInitData.InContextInvoker;
 
 /**
  * Creates implementations for SqlObject interfaces.
  */
 public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Factory {
     private final JdbiCache<Class<?>, SqlObjectInitData> sqlObjectCache =
-            JdbiCaches.declare(SqlObjectFactory::initDataFor);
+            JdbiCaches.declare("SqlObjectFactory.initData", SqlObjectFactory::initDataFor);
 
     SqlObjectFactory() {}
 
@@ -103,15 +101,7 @@ public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Fa
         }
         instanceConfig.get(Extensions.class).onCreateProxy();
 
-        Map<Method, Supplier<InContextInvoker>> handlers = new HashMap<>();
-        final Object proxy = Proxy.newProxyInstance(
-                extensionType.getClassLoader(),
-                new Class[] {extensionType},
-                (p, m, a) -> handlers.get(m).get().invoke(a));
-
-        data.forEachMethodHandler((m, h) ->
-                handlers.put(m, data.lazyInvoker(proxy, m, handle, instanceConfig)));
-        return extensionType.cast(proxy);
+        return extensionType.cast(data.createProxy(handle, instanceConfig));
     }
 
     @Override
@@ -130,10 +120,16 @@ public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Fa
         }
     }
 
+    @Override
+    public void warmUp(Class<?> extensionType, ConfigRegistry config) {
+        sqlObjectCache.get(extensionType, config).warmUp(config);
+    }
+
     private static Map<Method, Handler> buildMethodHandlers(
             Class<?> sqlObjectType,
             Handlers registry,
-            HandlerDecorators decorators) {
+            HandlerDecorators decorators,
+            Map<Method, Handler> undecoratedHandlers) {
         final Map<Method, Handler> handlers = new HashMap<>();
 
         handlers.putAll(handlerEntry((t, a, h) ->
@@ -158,22 +154,21 @@ public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Fa
             if (Modifier.isStatic(method.getModifiers()) || !seen.add(method)) {
                 continue;
             }
-            handlers.put(method, decorators.applyDecorators(
-                        registry.findFor(sqlObjectType, method)
-                            .orElseGet(() -> {
-                                Supplier<IllegalStateException> x = () -> new IllegalStateException(String.format(
-                                        "Method %s.%s must have an implementation or be annotated with a SQL method annotation.",
-                                        method.getDeclaringClass().getSimpleName(),
-                                        method.getName()));
-                                if (!SqlObjectInitData.isConcrete(sqlObjectType) && !method.isSynthetic() && !Modifier.isPrivate(method.getModifiers())) {
-                                    throw x.get();
-                                }
-                                return (t, a, h) -> {
-                                    throw x.get();
-                                };
-                            }),
-                        sqlObjectType,
-                        method));
+            Handler handler = registry.findFor(sqlObjectType, method)
+                    .orElseGet(() -> {
+                        Supplier<IllegalStateException> x = () -> new IllegalStateException(String.format(
+                                "Method %s.%s must have an implementation or be annotated with a SQL method annotation.",
+                                method.getDeclaringClass().getSimpleName(),
+                                method.getName()));
+                        if (!SqlObjectInitData.isConcrete(sqlObjectType) && !method.isSynthetic() && !Modifier.isPrivate(method.getModifiers())) {
+                            throw x.get();
+                        }
+                        return (t, a, h) -> {
+                            throw x.get();
+                        };
+                    });
+            undecoratedHandlers.put(method, handler);
+            handlers.put(method, decorators.applyDecorators(handler, sqlObjectType, method));
         }
 
         methods.stream()
@@ -221,10 +216,12 @@ public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Fa
     }
 
     static SqlObjectInitData initDataFor(ConfigRegistry handlersConfig, Class<?> sqlObjectType) {
+        Map<Method, Handler> undecoratedHandlers = new HashMap<>();
         Map<Method, Handler> methodHandlers = buildMethodHandlers(
                 sqlObjectType,
                 handlersConfig.get(Handlers.class),
-                handlersConfig.get(HandlerDecorators.class));
+                handlersConfig.get(HandlerDecorators.class),
+                undecoratedHandlers);
 
         UnaryOperator<ConfigRegistry> instanceConfigurer = buildConfigurers(
                 Stream.concat(
@@ -245,7 +242,8 @@ public class SqlObjectFactory implements ExtensionFactory, OnDemandExtensions.Fa
                 sqlObjectType,
                 instanceConfigurer,
                 methodConfigurers,
-                methodHandlers);
+                methodHandlers,
+                undecoratedHandlers);
     }
 
     interface ConfigurerMethod {
@@ -15,13 +15,20 @@ package org.jdbi.v3.sqlobject.config.internal;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMappers;
 import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 
 public class RegisterRowMapperImpl implements Configurer {
+    // each configured instance registers the same mapper, so that they share the mappers resolved with it
+    private final Map<Class<? extends RowMapper<?>>, RowMapper<?>> mappers = new ConcurrentHashMap<>();
+
     @Override
     public void configureForMethod(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType, Method method) {
         configureForType(registry, annotation, sqlObjectType);
@@ -31,7 +38,7 @@ public class RegisterRowMapperImpl implements Configurer {
     public void configureForType(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType) {
         RegisterRowMapper registerRowMapper = (RegisterRowMapper) annotation;
         try {
-            registry.get(RowMappers.class).register(registerRowMapper.value().newInstance());
+            registry.get(RowMappers.class).register(mappers.computeIfAbsent(registerRowMapper.value(), Unchecked.function(Class::newInstance)));
         } catch (Exception e) {
             throw new IllegalStateException("unable to create a specified row mapper", e);
         }
@@ -22,6 +22,8 @@ import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.config.RegisterRowMappers;
 
 public class RegisterRowMappersImpl implements Configurer {
+    private final Configurer delegate = new RegisterRowMapperImpl();
+
     @Override
     public void configureForMethod(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType, Method method) {
         configureForType(registry, annotation, sqlObjectType);
@@ -29,8 +31,6 @@ public class RegisterRowMappersImpl implements Configurer {
 
     @Override
     public void configureForType(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType) {
-        Configurer delegate = new RegisterRowMapperImpl();
-
         RegisterRowMappers registerRowMappers = (RegisterRowMappers) annotation;
         Stream.of(registerRowMappers.value()).forEach(anno -> delegate.configureForType(registry, anno, sqlObjectType));
     }
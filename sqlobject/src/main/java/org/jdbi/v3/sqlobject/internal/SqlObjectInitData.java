@@ -13,26 +13,43 @@
  */
 package org.jdbi.v3.sqlobject.internal;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.function.BiConsumer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.collector.JdbiCollectors;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.internal.Invocations;
 import org.jdbi.v3.core.internal.MemoizingSupplier;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.Update;
 import org.jdbi.v3.sqlobject.GenerateSqlObject;
 import org.jdbi.v3.sqlobject.Handler;
+import org.jdbi.v3.sqlobject.SqlObjects;
+import org.jdbi.v3.sqlobject.SqlOperation;
 import org.jdbi.v3.sqlobject.UnableToCreateSqlObjectException;
 
 public final class SqlObjectInitData {
     private static final Object[] NO_ARGS = new Object[0];
+    private static final int MAX_RESOLVED_PER_METHOD = 4;
     public static final ThreadLocal<SqlObjectInitData> INIT_DATA = new ThreadLocal<>();
 
     private final boolean concrete;
@@ -40,17 +57,32 @@ public final class SqlObjectInitData {
     private final UnaryOperator<ConfigRegistry> instanceConfigurer;
     private final Map<Method, UnaryOperator<ConfigRegistry>> methodConfigurers;
     private final Map<Method, Handler> methodHandlers;
+    private final Map<Method, Handler> undecoratedHandlers;
+
+    // proxy dispatch: methods by index, and their indexes; both are only written by the constructor
+    private final Method[] dispatchMethods;
+    private final Map<Method, Integer> dispatchIndexes = new HashMap<>();
+    // proxy classes pass the same Method instances on every call, so each instance is looked up by equality
+    // once, and by identity afterwards; replaced as a whole when an instance is added
+    private final AtomicReference<Map<Method, Integer>> resolvedIndexes = new AtomicReference<>(new IdentityHashMap<>());
+    private final Supplier<Constructor<?>> proxyConstructor = MemoizingSupplier.of(this::findProxyConstructor);
 
     public SqlObjectInitData(
             Class<?> extensionType,
             UnaryOperator<ConfigRegistry> instanceConfigurer,
             Map<Method, UnaryOperator<ConfigRegistry>> methodConfigurers,
-            Map<Method, Handler> methodHandlers) {
+            Map<Method, Handler> methodHandlers,
+            Map<Method, Handler> undecoratedHandlers) {
         concrete = isConcrete(extensionType);
         this.extensionType = extensionType;
         this.instanceConfigurer = instanceConfigurer;
         this.methodConfigurers = methodConfigurers;
         this.methodHandlers = methodHandlers;
+        this.undecoratedHandlers = undecoratedHandlers;
+        this.dispatchMethods = methodHandlers.keySet().toArray(new Method[0]);
+        for (int i = 0; i < dispatchMethods.length; i++) {
+            dispatchIndexes.put(dispatchMethods[i], i);
+        }
     }
 
     public static boolean isConcrete(Class<?> extensionType) {
@@ -110,37 +142,189 @@ public final class SqlObjectInitData {
         instanceConfigurer.apply(config);
     }
 
-    public void forEachMethodHandler(BiConsumer<Method, Handler> action) {
-        methodHandlers.forEach(action);
+    /**
+     * Warm up each method handler with the configuration it would be invoked with. The configurations are built
+     * the way {@link #createProxy(HandleSupplier, ConfigRegistry)} builds them, from copies of the given one,
+     * so what the handlers resolve is shared with the instances attached later.
+     *
+     * @param config the configuration instances would be attached with
+     */
+    public void warmUp(ConfigRegistry config) {
+        ConfigRegistry instanceConfig = config.createCopy();
+        configureInstance(instanceConfig);
+        undecoratedHandlers.forEach((method, handler) ->
+                handler.warmUp(methodConfig(method, instanceConfig)));
+    }
+
+    /**
+     * Whether generated code may execute the given method's statement itself, instead of invoking its handler:
+     * the handler is the one its SQL method annotation declares, no decorator wraps it, and the handler would not
+     * collect the result into the return type, which generated code maps as a single value.
+     *
+     * @param method the SQL method
+     * @param methodConfig the configuration the method is invoked with
+     * @return whether the method may be executed directly
+     */
+    private boolean isDirect(Method method, ConfigRegistry methodConfig) {
+        Handler handler = undecoratedHandlers.get(method);
+        Type returnType = GenericTypes.resolveType(method.getGenericReturnType(), extensionType);
+        return handler != null
+                && handler == methodHandlers.get(method)
+                && Stream.of(method.getAnnotations())
+                    .map(a -> a.annotationType().getAnnotation(SqlOperation.class))
+                    .anyMatch(op -> op != null && op.value() == handler.getClass())
+                && !(returnType instanceof Class && methodConfig.get(JdbiCollectors.class).findFor(returnType).isPresent());
+    }
+
+    /**
+     * Create the query of a directly executed method, with the SQL the configured locator finds for it.
+     *
+     * @param method the SQL method
+     * @param handleSupplier supplies the handle, configured for the method
+     * @return the query
+     */
+    public Query createQuery(Method method, HandleSupplier handleSupplier) {
+        Handle handle = handleSupplier.getHandle();
+        return handle.createQuery(locateSql(method, handle));
+    }
+
+    /**
+     * Create the update of a directly executed method, with the SQL the configured locator finds for it.
+     *
+     * @param method the SQL method
+     * @param handleSupplier supplies the handle, configured for the method
+     * @return the update
+     */
+    public Update createUpdate(Method method, HandleSupplier handleSupplier) {
+        Handle handle = handleSupplier.getHandle();
+        return handle.createUpdate(locateSql(method, handle));
+    }
+
+    private String locateSql(Method method, Handle handle) {
+        return handle.getConfig(SqlObjects.class).getSqlLocator().locate(extensionType, method, handle.getConfig());
     }
 
     public Supplier<InContextInvoker> lazyInvoker(Object target, Method method, HandleSupplier handle, ConfigRegistry instanceConfig) {
-        return MemoizingSupplier.of(() -> {
-            ExtensionMethod extensionMethod = new ExtensionMethod(extensionType, method);
-            ConfigRegistry methodConfig = methodConfigurers.get(method).apply(instanceConfig.createCopy());
-            Handler methodHandler = methodHandlers.get(method);
-            return new InContextInvoker() {
-                @Override
-                public Object invoke(Object[] args) {
-                    return call(() -> methodHandler.invoke(target, args == null ? NO_ARGS : args, handle));
+        return MemoizingSupplier.of(() -> createInvoker(target, method, handle, instanceConfig));
+    }
+
+    /**
+     * Create a proxy implementing the extension type. Calls dispatch through a table shared by all proxies of
+     * this type, and each method's invoker is created on its first call.
+     *
+     * @param handle the handle supplier
+     * @param instanceConfig the configuration of this instance
+     * @return the proxy
+     */
+    public Object createProxy(HandleSupplier handle, ConfigRegistry instanceConfig) {
+        try {
+            return proxyConstructor.get().newInstance(new ProxyHandler(handle, instanceConfig));
+        } catch (ReflectiveOperationException e) {
+            throw new UnableToCreateSqlObjectException(e);
+        }
+    }
+
+    private Constructor<?> findProxyConstructor() {
+        InvocationHandler unused = (proxy, method, args) -> {
+            throw new IllegalStateException("No handler for method " + method);
+        };
+        try {
+            Object prototype = Proxy.newProxyInstance(extensionType.getClassLoader(), new Class<?>[] {extensionType}, unused);
+            Constructor<?> constructor = prototype.getClass().getConstructor(InvocationHandler.class);
+            if (!Modifier.isPublic(constructor.getDeclaringClass().getModifiers())) {
+                constructor.setAccessible(true);
+            }
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new UnableToCreateSqlObjectException(e);
+        }
+    }
+
+    private int dispatchIndex(Method method) {
+        Integer resolved = resolvedIndexes.get().get(method);
+        if (resolved != null) {
+            return resolved;
+        }
+        Integer index = dispatchIndexes.get(method);
+        if (index == null) {
+            throw new IllegalStateException("No handler for method " + method);
+        }
+        resolvedIndexes.updateAndGet(indexes -> {
+            // callers other than proxy classes may pass new instances on every call
+            if (indexes.size() >= MAX_RESOLVED_PER_METHOD * dispatchMethods.length) {
+                return indexes;
+            }
+            Map<Method, Integer> added = new IdentityHashMap<>(indexes);
+            added.put(method, index);
+            return added;
+        });
+        return index;
+    }
+
+    private InContextInvoker createInvoker(Object target, Method method, HandleSupplier handle, ConfigRegistry instanceConfig) {
+        ExtensionMethod extensionMethod = new ExtensionMethod(extensionType, method);
+        ConfigRegistry methodConfig = methodConfig(method, instanceConfig);
+        Handler methodHandler = methodHandlers.get(method);
+        Supplier<Boolean> direct = MemoizingSupplier.of(() -> isDirect(method, methodConfig));
+        return new InContextInvoker() {
+            @Override
+            public boolean isDirect() {
+                return direct.get();
+            }
+
+            @Override
+            public Object invoke(Object[] args) {
+                return call(() -> methodHandler.invoke(target, args == null ? NO_ARGS : args, handle));
+            }
+
+            @Override
+            public Object call(Callable<?> task) {
+                try {
+                    return handle.invokeInContext(
+                            extensionMethod,
+                            methodConfig,
+                            task);
+                } catch (Exception x) {
+                    throw Sneaky.throwAnyway(x);
                 }
+            }
+        };
+    }
+
+    private ConfigRegistry methodConfig(Method method, ConfigRegistry instanceConfig) {
+        return methodConfigurers.get(method).apply(instanceConfig.createCopy());
+    }
+
+    private final class ProxyHandler implements InvocationHandler {
+        private final HandleSupplier handle;
+        private final ConfigRegistry instanceConfig;
+        // a method called concurrently for the first time may create two invokers, but only the first is kept
+        private final AtomicReferenceArray<InContextInvoker> invokers = new AtomicReferenceArray<>(dispatchMethods.length);
 
-                @Override
-                public Object call(Callable<?> task) {
-                    try {
-                        return handle.invokeInContext(
-                                extensionMethod,
-                                methodConfig,
-                                task);
-                    } catch (Exception x) {
-                        throw Sneaky.throwAnyway(x);
-                    }
+        ProxyHandler(HandleSupplier handle, ConfigRegistry instanceConfig) {
+            this.handle = handle;
+            this.instanceConfig = instanceConfig;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            int index = dispatchIndex(method);
+            InContextInvoker invoker = invokers.get(index);
+            if (invoker == null) {
+                invoker = createInvoker(proxy, dispatchMethods[index], handle, instanceConfig);
+                if (!invokers.compareAndSet(index, null, invoker)) {
+                    invoker = invokers.get(index);
                 }
-            };
-        });
+            }
+            return invoker.invoke(args);
+        }
     }
 
     public interface InContextInvoker {
+        /**
+         * @return whether generated code may execute the method's statement itself, instead of invoking its handler
+         */
+        boolean isDirect();
         Object invoke(Object[] args);
         Object call(Callable<?> task);
         default Object call(Runnable task) { // NOPMD
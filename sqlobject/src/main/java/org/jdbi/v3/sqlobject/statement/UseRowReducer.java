@@ -22,7 +22,9 @@ import org.jdbi.v3.core.result.RowReducer;
 
 /**
  * Used to specify a row reducer on a result-bearing method. Mutually exclusive
- * with {@link UseRowMapper}.
+ * with {@link UseRowMapper}. A {@link org.jdbi.v3.core.result.KeyOrderedRowReducer} reduces
+ * the rows lazily, e.g. while a returned {@link java.util.stream.Stream} is consumed, if the
+ * query orders them by key.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.METHOD})
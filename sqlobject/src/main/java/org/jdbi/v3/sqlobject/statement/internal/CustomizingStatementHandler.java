@@ -27,11 +27,13 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.result.RowReducer;
 import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
 import org.jdbi.v3.sqlobject.Handler;
@@ -51,6 +53,7 @@ import static java.util.stream.Stream.concat;
  */
 abstract class CustomizingStatementHandler<StatementType extends SqlStatement<StatementType>> implements Handler {
     private final List<BoundCustomizer> statementCustomizers;
+    private final List<BoundCustomizer> parameterCustomizers;
     private final Class<?> sqlObjectType;
     private final Method method;
 
@@ -68,9 +71,8 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
             .map(a -> instantiateFactory(a).createForMethod(a, type, method))
             .map(BoundCustomizer::of);
 
-        statementCustomizers = Stream.of(typeCustomizers, methodCustomizers, parameterCustomizers())
-            .reduce(Stream.empty(), Stream::concat)
-            .collect(Collectors.toList());
+        statementCustomizers = concat(typeCustomizers, methodCustomizers).collect(Collectors.toList());
+        parameterCustomizers = findParameterCustomizers().collect(Collectors.toList());
     }
 
     private static Stream<Annotation> annotationsFor(AnnotatedElement... elements) {
@@ -80,7 +82,7 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
                 .filter(a -> a.annotationType().isAnnotationPresent(SqlStatementCustomizingAnnotation.class));
     }
 
-    private Stream<BoundCustomizer> parameterCustomizers() {
+    private Stream<BoundCustomizer> findParameterCustomizers() {
         final Parameter[] parameters = method.getParameters();
 
         return IntStream.range(0, parameters.length)
@@ -154,7 +156,26 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     }
 
     void applyCustomizers(final StatementType stmt, Object[] args) {
-        statementCustomizers.forEach(b -> {
+        applyStatementCustomizers(stmt, args);
+        applyParameterCustomizers(stmt, args);
+    }
+
+    /**
+     * Applies the customizers of the type and method, which do not depend on the arguments.
+     */
+    void applyStatementCustomizers(final StatementType stmt, Object[] args) {
+        apply(statementCustomizers, stmt, args);
+    }
+
+    /**
+     * Applies the customizers of the method parameters.
+     */
+    void applyParameterCustomizers(final StatementType stmt, Object[] args) {
+        apply(parameterCustomizers, stmt, args);
+    }
+
+    private static void apply(List<BoundCustomizer> customizers, SqlStatement<?> stmt, Object[] args) {
+        customizers.forEach(b -> {
             try {
                 b.apply(stmt, args);
             } catch (SQLException e) {
@@ -166,8 +187,17 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     abstract void configureReturner(StatementType stmt, SqlObjectStatementConfiguration cfg);
     abstract StatementType createStatement(Handle handle, String locatedSql);
 
+    @Override
+    public void warmUp(ConfigRegistry config) {
+        config.get(SqlStatements.class).preparse(locateSql(config));
+    }
+
     String locateSql(final Handle h) {
-        return h.getConfig(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, h.getConfig());
+        return locateSql(h.getConfig());
+    }
+
+    String locateSql(final ConfigRegistry config) {
+        return config.get(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, config);
     }
 
     Method getMethod() {
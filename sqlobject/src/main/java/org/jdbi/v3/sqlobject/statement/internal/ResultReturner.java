@@ -21,6 +21,8 @@ import java.util.function.Consumer;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import org.jdbi.v3.core.collector.JdbiCollectors;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
@@ -100,7 +102,7 @@ abstract class ResultReturner {
     protected abstract Object mappedResult(ResultIterable<?> iterable, StatementContext ctx);
     protected abstract Object reducedResult(Stream<?> stream, StatementContext ctx);
 
-    protected abstract QualifiedType<?> elementType(StatementContext ctx);
+    protected abstract QualifiedType<?> elementType(ConfigRegistry config);
 
     private static Object checkResult(Object result, QualifiedType<?> type) {
         if (result == null && getErasedType(type.getType()).isPrimitive()) {
@@ -122,7 +124,7 @@ abstract class ResultReturner {
         }
 
         @Override
-        protected QualifiedType<?> elementType(StatementContext ctx) {
+        protected QualifiedType<?> elementType(ConfigRegistry config) {
             return null;
         }
     }
@@ -149,7 +151,7 @@ abstract class ResultReturner {
         }
 
         @Override
-        protected QualifiedType<?> elementType(StatementContext ctx) {
+        protected QualifiedType<?> elementType(ConfigRegistry config) {
             return elementType;
         }
     }
@@ -174,7 +176,7 @@ abstract class ResultReturner {
         }
 
         @Override
-        protected QualifiedType<?> elementType(StatementContext ctx) {
+        protected QualifiedType<?> elementType(ConfigRegistry config) {
             return elementType;
         }
     }
@@ -199,7 +201,7 @@ abstract class ResultReturner {
         }
 
         @Override
-        protected QualifiedType<?> elementType(StatementContext ctx) {
+        protected QualifiedType<?> elementType(ConfigRegistry config) {
             return elementType;
         }
     }
@@ -224,7 +226,7 @@ abstract class ResultReturner {
         }
 
         @Override
-        protected QualifiedType<?> elementType(StatementContext ctx) {
+        protected QualifiedType<?> elementType(ConfigRegistry config) {
             return elementType;
         }
     }
@@ -243,11 +245,13 @@ abstract class ResultReturner {
 
         @Override
         protected Object reducedResult(Stream<?> stream, StatementContext ctx) {
-            return checkResult(stream.findFirst().orElse(null), returnType);
+            try (Stream<?> s = stream) {
+                return checkResult(s.findFirst().orElse(null), returnType);
+            }
         }
 
         @Override
-        protected QualifiedType<T> elementType(StatementContext ctx) {
+        protected QualifiedType<T> elementType(ConfigRegistry config) {
             return returnType;
         }
     }
@@ -272,16 +276,18 @@ abstract class ResultReturner {
         @Override
         protected Object reducedResult(Stream<?> stream, StatementContext ctx) {
             Collector collector = ctx.findCollectorFor(returnType.getType()).orElse(null);
-            if (collector != null) {
-                return stream.collect(collector);
+            try (Stream<?> s = stream) {
+                if (collector != null) {
+                    return s.collect(collector);
+                }
+                return checkResult(s.findFirst().orElse(null), returnType);
             }
-            return checkResult(stream.findFirst().orElse(null), returnType);
         }
 
         @Override
-        protected QualifiedType<?> elementType(StatementContext ctx) {
+        protected QualifiedType<?> elementType(ConfigRegistry config) {
             // if returnType is not supported by a collector factory, assume it to be a single-value return type.
-            return returnType.flatMapType(type -> ctx.findElementTypeFor(type))
+            return returnType.flatMapType(type -> config.get(JdbiCollectors.class).findElementTypeFor(type))
                 .orElse(returnType);
         }
     }
@@ -315,12 +321,14 @@ abstract class ResultReturner {
             @SuppressWarnings("unchecked")
             Consumer<Object> consumer = (Consumer<Object>)
                 ctx.getConfig(SqlObjectStatementConfiguration.class).getArgs()[consumerIndex];
-            stream.forEach(consumer);
+            try (Stream<?> s = stream) {
+                s.forEach(consumer);
+            }
             return null;
         }
 
         @Override
-        protected QualifiedType<?> elementType(StatementContext ctx) {
+        protected QualifiedType<?> elementType(ConfigRegistry config) {
             return elementType;
         }
     }
@@ -46,7 +46,10 @@ import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch> {
     private final SqlBatch sqlBatch;
     private final SqlBatchHandler.ChunkSizeFunction batchChunkSize;
+    private final boolean chunked;
     private final Function<PreparedBatch, ResultIterator<?>> batchIntermediate;
+    private final boolean returnsGeneratedKeys;
+    private final boolean returnsBooleans;
     private final ResultReturner magic;
 
     public SqlBatchHandler(Class<?> sqlObjectType, Method method) {
@@ -58,15 +61,20 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
 
         this.sqlBatch = method.getAnnotation(SqlBatch.class);
         this.batchChunkSize = determineBatchChunkSize(sqlObjectType, method);
+        this.chunked = indexOfBatchChunkSizeParameter(method) >= 0
+                || method.isAnnotationPresent(BatchChunkSize.class)
+                || sqlObjectType.isAnnotationPresent(BatchChunkSize.class);
         final GetGeneratedKeys getGeneratedKeys = method.getAnnotation(GetGeneratedKeys.class);
+        this.returnsGeneratedKeys = getGeneratedKeys != null;
+        this.returnsBooleans = method.getReturnType().equals(boolean[].class);
 
         if (getGeneratedKeys == null) {
             if (!returnTypeIsValid(method.getReturnType())) {
                 throw new UnableToCreateSqlObjectException(invalidReturnTypeMessage(method));
             }
             Function<PreparedBatch, ResultIterator<?>> modCounts = PreparedBatch::executeAndGetModCount;
-            batchIntermediate = method.getReturnType().equals(boolean[].class)
-                    ? mapToBoolean(modCounts)
+            batchIntermediate = returnsBooleans
+                    ? modCounts.andThen(SqlBatchHandler::mapToBoolean)
                     : modCounts;
             magic = ResultReturner.forOptionalReturn(sqlObjectType, method);
         } else {
@@ -80,14 +88,14 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
                         .iterator();
             } else {
                 batchIntermediate = batch -> batch.executeAndReturnGeneratedKeys(columnNames)
-                        .mapTo(magic.elementType(batch.getContext()))
+                        .mapTo(magic.elementType(batch.getConfig()))
                         .iterator();
             }
         }
     }
 
-    private Function<PreparedBatch, ResultIterator<?>> mapToBoolean(Function<PreparedBatch, ResultIterator<?>> modCounts) {
-        return modCounts.andThen(iterator -> new ResultIterator<Boolean>() {
+    private static ResultIterator<?> mapToBoolean(ResultIterator<?> iterator) {
+        return new ResultIterator<Boolean>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
@@ -107,7 +115,7 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
             public StatementContext getContext() {
                 return iterator.getContext();
             }
-        });
+        };
     }
 
     private SqlBatchHandler.ChunkSizeFunction determineBatchChunkSize(Class<?> sqlObjectType, Method method) {
@@ -175,7 +183,13 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
 
         ResultIterator<Object> result;
 
-        if (batchArgs.hasNext()) {
+        if (batchArgs.hasNext() && chunked && !returnsGeneratedKeys) {
+            ResultIterator<?> updateCounts = new ChunkedUpdateCounts(handle, sql, chunkSize, args, batchArgs);
+            @SuppressWarnings("unchecked")
+            ResultIterator<Object> chunkedResult = (ResultIterator<Object>) (returnsBooleans ? mapToBoolean(updateCounts) : updateCounts);
+            result = chunkedResult;
+            result.hasNext(); // execute the first chunk eagerly, like a regular batch
+        } else if (batchArgs.hasNext()) {
             result = new ResultIterator<Object>() {
                 private ResultIterator<?> batchResult;
                 private boolean closed = false;
@@ -330,6 +344,78 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
                 + method.getReturnType();
     }
 
+    /**
+     * Executes all chunks of a batch through a single prepared statement, buffering only
+     * the update counts of the most recently executed chunk.
+     */
+    private class ChunkedUpdateCounts implements ResultIterator<Integer> {
+        private final Handle handle;
+        private final PreparedBatch batch;
+        private final int chunkSize;
+        private final Iterator<Object[]> batchArgs;
+        private int[] updateCounts = new int[0];
+        private int position;
+        private boolean closed;
+
+        ChunkedUpdateCounts(Handle handle, String sql, int chunkSize, Object[] args, Iterator<Object[]> batchArgs) {
+            this.handle = handle;
+            this.chunkSize = chunkSize;
+            this.batchArgs = batchArgs;
+            this.batch = handle.prepareBatch(sql).executeInChunks(chunkSize, counts -> {
+                updateCounts = counts;
+                position = 0;
+            });
+            applyStatementCustomizers(batch, args);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                throw new IllegalStateException("closed");
+            }
+            while (position >= updateCounts.length) {
+                if (!batchArgs.hasNext()) {
+                    return false;
+                }
+                if (!handle.isInTransaction() && sqlBatch.transactional()) {
+                    handle.useTransaction(h -> executeChunk());
+                } else {
+                    executeChunk();
+                }
+            }
+            return true;
+        }
+
+        private void executeChunk() {
+            for (int i = 0; i < chunkSize && batchArgs.hasNext(); i++) {
+                applyParameterCustomizers(batch, batchArgs.next());
+                batch.add();
+            }
+            if (!batchArgs.hasNext()) {
+                batch.execute();
+            }
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return updateCounts[position++];
+        }
+
+        @Override
+        public StatementContext getContext() {
+            return batch.getContext();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            batch.close();
+        }
+    }
+
     private interface ChunkSizeFunction {
         int call(Object[] args);
     }
@@ -16,6 +16,8 @@ package org.jdbi.v3.sqlobject.statement.internal;
 import java.lang.reflect.Method;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.ResultIterable;
 import org.jdbi.v3.core.statement.Query;
@@ -42,7 +44,7 @@ public class SqlQueryHandler extends CustomizingStatementHandler<Query> {
 
         cfg.setReturner(() -> {
             StatementContext ctx = q.getContext();
-            QualifiedType<?> elementType = magic.elementType(ctx);
+            QualifiedType<?> elementType = magic.elementType(ctx.getConfig());
 
             if (useRowReducer != null) {
                 return magic.reducedResult(q.reduceRows(rowReducerFor(useRowReducer)), ctx);
@@ -55,6 +57,14 @@ public class SqlQueryHandler extends CustomizingStatementHandler<Query> {
         });
     }
 
+    @Override
+    public void warmUp(ConfigRegistry config) {
+        super.warmUp(config);
+        if (!getMethod().isAnnotationPresent(UseRowMapper.class) && !getMethod().isAnnotationPresent(UseRowReducer.class)) {
+            config.get(Mappers.class).findFor(magic.elementType(config));
+        }
+    }
+
     @Override
     Query createStatement(Handle handle, String locatedSql) {
         return handle.createQuery(locatedSql);
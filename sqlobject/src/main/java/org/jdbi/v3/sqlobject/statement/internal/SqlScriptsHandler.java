@@ -16,6 +16,7 @@ package org.jdbi.v3.sqlobject.statement.internal;
 import java.lang.reflect.Method;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.Script;
 
 public class SqlScriptsHandler extends CustomizingStatementHandler<Script> {
@@ -29,6 +30,12 @@ public class SqlScriptsHandler extends CustomizingStatementHandler<Script> {
         cfg.setReturner(() -> stmt.execute());
     }
 
+    @Override
+    public void warmUp(ConfigRegistry config) {
+        // scripts are split into statements before parsing, so only locate them
+        locateSql(config);
+    }
+
     @Override
     Script createStatement(Handle handle, String locatedSql) {
         return new Script(handle, locatedSql);
@@ -13,18 +13,32 @@
  */
 package org.jdbi.v3.sqlobject;
 
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
 import org.jdbi.v3.core.mapper.SomethingMapper;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.DefaultStatementBuilder;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizer;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
 import org.jdbi.v3.sqlobject.statement.BatchChunkSize;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
@@ -122,6 +136,41 @@ public class TestBatching {
         assertThat(counts).hasSize(5).containsOnly(1);
     }
 
+    @Test
+    public void testChunkedBatchingPreparesOnce() {
+        AtomicInteger prepared = new AtomicInteger();
+        handle.setStatementBuilder(new DefaultStatementBuilder() {
+            @Override
+            public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+                prepared.incrementAndGet();
+                return super.create(conn, sql, ctx);
+            }
+        });
+        UsesBatching b = handle.attach(UsesBatching.class);
+        List<Something> things = Arrays.asList(new Something(1, "Brian"),
+                                               new Something(2, "Henri"),
+                                               new Something(3, "Patrick"),
+                                               new Something(4, "Robert"));
+        int[] counts = b.insertChunked(things);
+        assertThat(counts).hasSize(4).containsOnly(1);
+        assertThat(prepared).hasValue(1);
+        assertThat(b.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testChunkedBatchingExecutesOnce() {
+        CountExecutions.Factory.EXECUTIONS.set(0);
+        UsesBatching b = handle.attach(UsesBatching.class);
+        List<Something> things = Arrays.asList(new Something(1, "Brian"),
+                                               new Something(2, "Henri"),
+                                               new Something(3, "Patrick"),
+                                               new Something(4, "Robert"),
+                                               new Something(5, "Maniax"));
+        int[] counts = b.insertChunkedCounted(things);
+        assertThat(counts).hasSize(5).containsOnly(1);
+        assertThat(CountExecutions.Factory.EXECUTIONS).hasValue(1);
+    }
+
     @Test(timeout = 5000)
     public void testNoIterable() {
         BadBatch b = handle.attach(BadBatch.class);
@@ -184,6 +233,11 @@ public class TestBatching {
         @SqlBatch("insert into something (id, name) values (:it.id, :it.name)")
         int[] insertChunked(@BatchChunkSize int size, @BindBean("it") Iterable<Something> its);
 
+        @SqlBatch("insert into something (id, name) values (:it.id, :it.name)")
+        @BatchChunkSize(2)
+        @CountExecutions
+        int[] insertChunkedCounted(@BindBean("it") Iterable<Something> its);
+
         @SqlQuery("select count(*) from something")
         int size();
 
@@ -209,4 +263,22 @@ public class TestBatching {
         @SqlBatch("update something set name = :name where id = :id")
         boolean[] update(@BindBean Something... values);
     }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @SqlStatementCustomizingAnnotation(CountExecutions.Factory.class)
+    public @interface CountExecutions {
+        class Factory implements SqlStatementCustomizerFactory {
+            static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+            @Override
+            public SqlStatementCustomizer createForMethod(Annotation annotation, Class<?> sqlObjectType, Method method) {
+                return stmt -> stmt.addCustomizer(new StatementCustomizer() {
+                    @Override
+                    public void beforeExecution(PreparedStatement ps, StatementContext ctx) {
+                        EXECUTIONS.incrementAndGet();
+                    }
+                });
+            }
+        }
+    }
 }
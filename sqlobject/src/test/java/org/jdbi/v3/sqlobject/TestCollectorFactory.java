@@ -19,6 +19,8 @@ import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.result.ColumnarBatch;
+import org.jdbi.v3.core.result.ColumnarBatchPlugin;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.jdbi.v3.guava.GuavaCollectors;
 import org.jdbi.v3.guava.GuavaPlugin;
@@ -113,6 +115,18 @@ public class TestCollectorFactory {
         assertThat(rs).containsExactly("Brian", "Coda");
     }
 
+    @Test
+    public void testWithSqlObjectColumnarBatch() {
+        dbRule.getJdbi().installPlugin(new ColumnarBatchPlugin());
+        Dao dao = dbRule.getJdbi().onDemand(Dao.class);
+        dao.insert(new Something(1, "Coda"));
+        dao.insert(new Something(2, "Brian"));
+
+        ColumnarBatch batch = dao.findAllAsBatch();
+        assertThat(batch.getRowCount()).isEqualTo(2);
+        assertThat(batch.getColumn("name").getString(1)).isEqualTo("Brian");
+    }
+
     public interface Dao extends Base<String> {
         @SqlQuery("select name from something order by id")
         ImmutableList<String> findAll();
@@ -120,6 +134,9 @@ public class TestCollectorFactory {
         @SqlQuery("select name from something order by id")
         SortedSet<String> findAllAsSet();
 
+        @SqlQuery("select id, name from something order by id")
+        ColumnarBatch findAllAsBatch();
+
         @SqlUpdate("insert into something (id, name) values (:id, :name)")
         void insert(@BindBean Something it);
 
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.core.result.KeyOrderedRowReducer;
+import org.jdbi.v3.core.result.RowView;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.UseRowReducer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestKeyOrderedRowReducer {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething().withPlugin(new SqlObjectPlugin());
+
+    // locations mapped so far, which shows how far ahead of the emitted values the reducer read
+    private final List<String> mappedLocations = new ArrayList<>();
+    private Handle handle;
+
+    @Before
+    public void setUp() {
+        handle = dbRule.getSharedHandle();
+        handle.execute("create table something_location (id int, location varchar)");
+        handle.execute("insert into something (id, name) values (1, 'tree')");
+        handle.execute("insert into something (id, name) values (2, 'apple')");
+        handle.execute("insert into something_location (id, location) values (1, 'outside')");
+        handle.execute("insert into something_location (id, location) values (2, 'tree')");
+        handle.execute("insert into something_location (id, location) values (2, 'pie')");
+        handle.registerColumnMapper(String.class, (r, i, ctx) -> {
+            String location = r.getString(i);
+            mappedLocations.add(location);
+            return location;
+        });
+    }
+
+    @Test
+    public void testStream() {
+        Dao dao = handle.attach(Dao.class);
+
+        try (Stream<Located> located = dao.stream()) {
+            Iterator<Located> it = located.iterator();
+
+            assertThat(it.next()).isEqualTo(new Located(new Something(1, "tree"), "outside"));
+            assertThat(mappedLocations).containsExactly("outside", "tree");
+
+            assertThat(it.next()).isEqualTo(new Located(new Something(2, "apple"), "tree", "pie"));
+            assertThat(it.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testList() {
+        assertThat(handle.attach(Dao.class).list()).containsExactly(
+            new Located(new Something(1, "tree"), "outside"),
+            new Located(new Something(2, "apple"), "tree", "pie"));
+    }
+
+    @RegisterRowMapper(SomethingMapper.class)
+    public interface Dao {
+        @SqlQuery("select something.id, name, location from something natural join something_location order by something.id, location desc")
+        @UseRowReducer(LocationReducer.class)
+        Stream<Located> stream();
+
+        @SqlQuery("select something.id, name, location from something natural join something_location order by something.id, location desc")
+        @UseRowReducer(LocationReducer.class)
+        List<Located> list();
+    }
+
+    public static class LocationReducer implements KeyOrderedRowReducer<Integer, Located> {
+        @Override
+        public void accumulate(Map<Integer, Located> map, RowView rv) {
+            map.computeIfAbsent(rv.getColumn("id", Integer.class), id -> new Located(rv.getRow(Something.class)))
+                .locations.add(rv.getColumn("location", String.class));
+        }
+    }
+
+    public static class Located {
+        final Something something;
+        final List<String> locations = new ArrayList<>();
+
+        Located(Something something, String... locations) {
+            this.something = something;
+            this.locations.addAll(Arrays.asList(locations));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Located)) {
+                return false;
+            }
+            Located o = (Located) other;
+            return o.something.equals(something) && o.locations.equals(locations);
+        }
+
+        @Override
+        public int hashCode() {
+            return something.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return something + " at " + locations;
+        }
+    }
+}
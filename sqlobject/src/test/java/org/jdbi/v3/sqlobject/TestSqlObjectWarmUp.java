@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.config.JdbiCacheStats;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.extension.NoSuchExtensionException;
+import org.jdbi.v3.core.mapper.RowMapperFactory;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSqlObjectWarmUp {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething().withPlugin(new SqlObjectPlugin());
+
+    private Jdbi db;
+
+    @Before
+    public void setUp() {
+        db = dbRule.getJdbi();
+    }
+
+    @Test
+    public void testWarmUp() {
+        long parsed = loads("SqlStatements.parsedTemplates");
+
+        Map<Class<?>, Duration> timings = db.warmUp(SomethingDao.class, OtherDao.class);
+
+        assertThat(timings.keySet()).containsExactly(SomethingDao.class, OtherDao.class);
+        assertThat(loads("SqlObjectFactory.initData")).isEqualTo(2);
+
+        // the insert and the queries are constant, the query with a defined table is not
+        assertThat(loads("SqlStatements.parsedTemplates")).isEqualTo(parsed + 4);
+
+        db.useExtension(SomethingDao.class, dao -> {
+            dao.insert(1, "Alice");
+            assertThat(dao.findById(1)).isEqualTo(new Something(1, "Alice"));
+            assertThat(dao.findByIdIn("something", 1)).isEqualTo(new Something(1, "Alice"));
+        });
+
+        assertThat(loads("SqlObjectFactory.initData")).isEqualTo(2);
+        assertThat(loads("SqlStatements.parsedTemplates")).isEqualTo(parsed + 5);
+    }
+
+    @Test
+    public void testWarmUpResolvesMappersOfLaterInstances() {
+        AtomicInteger lookups = new AtomicInteger();
+        db.registerRowMapper((RowMapperFactory) (type, config) -> {
+            if (type != Name.class) {
+                return Optional.empty();
+            }
+            lookups.incrementAndGet();
+            return Optional.of((rs, ctx) -> new Name(rs.getString("name")));
+        });
+
+        db.warmUp(OtherDao.class);
+        assertThat(lookups).hasValue(1);
+
+        db.useHandle(h -> h.execute("insert into something (id, name) values (1, 'Alice')"));
+        assertThat(db.withExtension(OtherDao.class, OtherDao::names)).extracting(name -> name.value).containsExactly("Alice");
+        assertThat(db.onDemand(OtherDao.class).names()).extracting(name -> name.value).containsExactly("Alice");
+
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    public void testWarmUpInParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(db.warmUp(executor, SomethingDao.class, OtherDao.class))
+                .containsOnlyKeys(SomethingDao.class, OtherDao.class);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(loads("SqlObjectFactory.initData")).isEqualTo(2);
+    }
+
+    @Test
+    public void testWarmUpUnknownType() {
+        assertThatThrownBy(() -> db.warmUp(String.class))
+            .isInstanceOf(NoSuchExtensionException.class);
+    }
+
+    @Test
+    public void testWarmUpFailsForInvalidSqlObject() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThatThrownBy(() -> db.warmUp(executor, SomethingDao.class, Unimplemented.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must have an implementation");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long loads(String name) {
+        return db.getConfig(JdbiCaches.class).stats().getOrDefault(name, JdbiCacheStats.empty()).getLoadCount();
+    }
+
+    @RegisterRowMapper(SomethingMapper.class)
+    public interface SomethingDao {
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        void insert(@Bind("id") int id, @Bind("name") String name);
+
+        @Transaction
+        @SqlQuery("select id, name from something where id = :id")
+        Something findById(@Bind("id") int id);
+
+        @SqlQuery("select id, name from <table> where id = :id")
+        Something findByIdIn(@Define("table") String table, @Bind("id") int id);
+    }
+
+    @RegisterRowMapper(SomethingMapper.class)
+    public interface OtherDao {
+        @SqlQuery("select id, name from something order by id")
+        List<Something> list();
+
+        @SqlQuery("select name from something order by id")
+        List<Name> names();
+    }
+
+    public static class Name {
+        private final String value;
+
+        Name(String value) {
+            this.value = value;
+        }
+    }
+
+    public interface Unimplemented {
+        @SqlQuery("select 1")
+        int one();
+
+        int two();
+    }
+}
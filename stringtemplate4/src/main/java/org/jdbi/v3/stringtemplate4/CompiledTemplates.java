@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.stringtemplate4;
+
+import java.util.Map;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.stringtemplate.v4.Interpreter;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.compiler.Bytecode;
+import org.stringtemplate.v4.compiler.CompiledST;
+import org.stringtemplate.v4.compiler.FormalArgument;
+
+/**
+ * Compiles templates into prototypes which can be shared between threads.
+ * <p>
+ * A template without declared arguments declares each attribute the first time a value is added to it, which
+ * changes the compiled template shared by all instances copied with {@link ST#ST(ST)}. Prototypes declare every
+ * attribute the template reads up front instead, and {@link #addAttributes(ST, Map)} only adds those, so that
+ * rendering never changes a shared compiled template.
+ */
+final class CompiledTemplates {
+    private CompiledTemplates() {
+        throw new UtilityClassException();
+    }
+
+    static ST prototype(String template) {
+        STGroup group = new STGroup();
+        CompiledST code = new ST(group, template).impl;
+        declareAttributes(code, code);
+        return group.createStringTemplateInternally(code);
+    }
+
+    static void addAttributes(ST template, Map<String, Object> attributes) {
+        Map<String, FormalArgument> declared = template.impl.formalArguments;
+        if (declared == null) {
+            return;
+        }
+        attributes.forEach((name, value) -> {
+            if (declared.containsKey(name)) {
+                template.add(name, value);
+            }
+        });
+    }
+
+    // attributes read by subtemplates which they do not declare are looked up in the enclosing template
+    private static void declareAttributes(CompiledST code, CompiledST target) {
+        int ip = 0;
+        while (ip < code.codeSize) {
+            short opcode = code.instrs[ip];
+            if (opcode == Bytecode.INSTR_LOAD_ATTR) {
+                String name = code.strings[Interpreter.getShort(code.instrs, ip + 1)];
+                if (target.formalArguments == null || !target.formalArguments.containsKey(name)) {
+                    target.addArg(new FormalArgument(name));
+                }
+            }
+            ip += 1 + Bytecode.instructions[opcode].nopnds * Bytecode.OPND_SIZE_IN_BYTES;
+        }
+        if (code.implicitlyDefinedTemplates != null) {
+            code.implicitlyDefinedTemplates.forEach(sub -> declareAttributes(sub, target));
+        }
+    }
+}
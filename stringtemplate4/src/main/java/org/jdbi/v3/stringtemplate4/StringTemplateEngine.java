@@ -13,20 +13,26 @@
  */
 package org.jdbi.v3.stringtemplate4;
 
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 import org.stringtemplate.v4.ST;
-import org.stringtemplate.v4.STGroup;
 
 /**
  * Rewrites a StringTemplate template, using the attributes on the {@link StatementContext} as template parameters.
+ * Templates are compiled once, and cached as {@code StringTemplateEngine.prototypes} in {@link JdbiCaches}.
+ * Attributes which the template does not read are not added to it.
  */
 public class StringTemplateEngine implements TemplateEngine {
+    private static final JdbiCache<String, ST> PROTOTYPES =
+        JdbiCaches.declare("StringTemplateEngine.prototypes", "maximumSize=1000", (config, sql) -> CompiledTemplates.prototype(sql));
+
     @Override
     public String render(String sql, StatementContext ctx) {
-        ST template = new ST(new STGroup(), sql);
+        ST template = new ST(PROTOTYPES.get(sql, ctx));
 
-        ctx.getAttributes().forEach(template::add);
+        CompiledTemplates.addAttributes(template, ctx.getAttributes());
 
         return template.render();
     }
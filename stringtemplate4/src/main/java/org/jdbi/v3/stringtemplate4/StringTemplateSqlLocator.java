@@ -17,19 +17,27 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.jdbi.v3.core.locator.internal.ClasspathBuilder;
+import org.jdbi.v3.meta.Beta;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.STGroupFile;
 
 /**
  * Locates SQL in <code>.sql.stg</code> StringTemplate group files on the classpath.
+ * <p>
+ * Each group file is compiled once, and the templates located in it are copied from compiled prototypes.
+ * The groups returned by {@link #findStringTemplateGroup(Class)} and friends are loaded once per thread
+ * instead, because callers may modify them.
  */
 public class StringTemplateSqlLocator {
     private static final Map<ClassLoader, Map<String, ThreadLocal<STGroup>>> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<ClassLoader, Map<String, CompiledGroup>> COMPILED = Collections.synchronizedMap(new WeakHashMap<>());
 
     private StringTemplateSqlLocator() {}
 
@@ -44,13 +52,13 @@ public class StringTemplateSqlLocator {
      * @return the located SQL.
      */
     public static ST findStringTemplate(Class<?> type, String name) {
-        STGroup group = findStringTemplateGroup(type);
+        ST template = compiledGroup(type).getInstanceOf(name);
 
-        if (!group.isDefined(name)) {
+        if (template == null) {
             throw new IllegalStateException("No StringTemplate group " + name + " for class " + type);
         }
 
-        return group.getInstanceOf(name);
+        return template;
     }
 
     /**
@@ -62,9 +70,7 @@ public class StringTemplateSqlLocator {
      * @return the located SQL.
      */
     public static ST findStringTemplate(String path, String name) {
-        STGroup group = findStringTemplateGroup(path);
-
-        return findTemplateInGroup(path, name, group);
+        return findStringTemplate(Thread.currentThread().getContextClassLoader(), path, name);
     }
 
     /**
@@ -77,34 +83,68 @@ public class StringTemplateSqlLocator {
      * @return the located SQL.
      */
     public static ST findStringTemplate(ClassLoader classLoader, String path, String name) {
-        STGroup group = findStringTemplateGroup(classLoader, path);
-
-        return findTemplateInGroup(path, name, group);
-    }
+        ST template = compiledGroup(classLoader, path).getInstanceOf(name);
 
-    private static ST findTemplateInGroup(String path, String name, STGroup group) {
-        if (!group.isDefined(name)) {
+        if (template == null) {
             throw new IllegalStateException("No StringTemplate group " + name + " for path " + path);
         }
 
-        return group.getInstanceOf(name);
+        return template;
     }
 
     /**
-     * Loads the StringTemplateGroup for the given type. Example: Given a type <code>com.foo.Bar</code>, returns a
-     * StringTemplateGroup loaded from the resource named <code>com/foo/Bar.sql.stg</code> on the classpath.
+     * Compiles all templates in the StringTemplate group file for the given type, so that locating them
+     * later does not need to. Example: Given a type <code>com.foo.Bar</code>, compiles the resource named
+     * <code>com/foo/Bar.sql.stg</code> on the classpath.
      *
      * @param type the type that "owns" the given StringTemplate group file. Dictates the filename of the
      *             StringTemplate group file on the classpath.
-     * @return the loaded StringTemplateGroup.
+     * @return the names of the compiled templates.
      */
-    public static STGroup findStringTemplateGroup(Class<?> type) {
-        String path = new ClasspathBuilder()
+    @Beta
+    public static Set<String> precompile(Class<?> type) {
+        return compiledGroup(type).precompile();
+    }
+
+    /**
+     * Compiles all templates in the StringTemplate group file at the given path, so that locating them
+     * later does not need to.
+     *
+     * @param classLoader the classloader from which to load the resource.
+     * @param path the resource path on the classpath.
+     * @return the names of the compiled templates.
+     */
+    @Beta
+    public static Set<String> precompile(ClassLoader classLoader, String path) {
+        return compiledGroup(classLoader, path).precompile();
+    }
+
+    private static CompiledGroup compiledGroup(Class<?> type) {
+        return compiledGroup(type.getClassLoader(), groupPath(type));
+    }
+
+    private static CompiledGroup compiledGroup(ClassLoader classLoader, String path) {
+        return COMPILED.computeIfAbsent(classLoader, x -> new ConcurrentHashMap<>())
+                       .computeIfAbsent(path, p -> new CompiledGroup(readStringTemplateGroup(classLoader, path)));
+    }
+
+    private static String groupPath(Class<?> type) {
+        return new ClasspathBuilder()
             .appendFullyQualifiedClassName(type)
             .setExtension("sql.stg")
             .build();
+    }
 
-        return findStringTemplateGroup(type.getClassLoader(), path);
+    /**
+     * Loads the StringTemplateGroup for the given type. Example: Given a type <code>com.foo.Bar</code>, returns a
+     * StringTemplateGroup loaded from the resource named <code>com/foo/Bar.sql.stg</code> on the classpath.
+     *
+     * @param type the type that "owns" the given StringTemplate group file. Dictates the filename of the
+     *             StringTemplate group file on the classpath.
+     * @return the loaded StringTemplateGroup.
+     */
+    public static STGroup findStringTemplateGroup(Class<?> type) {
+        return findStringTemplateGroup(type.getClassLoader(), groupPath(type));
     }
 
     /**
@@ -139,4 +179,37 @@ public class StringTemplateSqlLocator {
             throw new RuntimeException("Unable to read StringTemplate group file at " + path + " on classpath", e);
         }
     }
+
+    /**
+     * A loaded group which is only read from, so its templates can be shared between threads.
+     */
+    private static final class CompiledGroup {
+        private final STGroup group;
+        private final Map<String, ST> prototypes = new ConcurrentHashMap<>();
+        private final Object lookUpLock = new Object();
+
+        CompiledGroup(STGroup group) {
+            this.group = group;
+        }
+
+        ST getInstanceOf(String name) {
+            ST prototype = prototypes.computeIfAbsent(name, this::lookUp);
+            return prototype == null ? null : new ST(prototype);
+        }
+
+        // looking up a template may record a miss in the group, so lookups do not run concurrently
+        private ST lookUp(String name) {
+            synchronized (lookUpLock) {
+                return group.isDefined(name) ? group.getInstanceOf(name) : null;
+            }
+        }
+
+        Set<String> precompile() {
+            return group.getTemplateNames().stream()
+                .filter(name -> !group.rawGetTemplate(name).isAnonSubtemplate)
+                .map(name -> name.substring(1))
+                .filter(name -> getInstanceOf(name) != null)
+                .collect(Collectors.toSet());
+        }
+    }
 }
@@ -24,25 +24,21 @@ import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.internal.SqlAnnotations;
 import org.jdbi.v3.sqlobject.locator.SqlLocator;
 import org.stringtemplate.v4.ST;
-import org.stringtemplate.v4.STGroup;
 
-import static org.jdbi.v3.stringtemplate4.StringTemplateSqlLocator.findStringTemplateGroup;
+import static org.jdbi.v3.stringtemplate4.StringTemplateSqlLocator.findStringTemplate;
 
 public class UseStringTemplateSqlLocatorImpl implements Configurer {
     @Override
     public void configureForType(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType) {
         SqlLocator locator = (type, method, config) -> {
             String templateName = SqlAnnotations.getAnnotationValue(method).orElseGet(method::getName);
-            STGroup group = findStringTemplateGroup(type);
-            if (!group.isDefined(templateName)) {
-                throw new IllegalStateException("No StringTemplate group " + templateName + " for class " + sqlObjectType);
-            }
+            // fails if the compiled group does not define the template
+            findStringTemplate(type, templateName);
 
             return templateName;
         };
         TemplateEngine templateEngine = (templateName, ctx) -> {
-            STGroup group = findStringTemplateGroup(sqlObjectType);
-            ST template = group.getInstanceOf(templateName);
+            ST template = findStringTemplate(sqlObjectType, templateName);
             ctx.getAttributes().forEach(template::add);
             return template.render();
         };
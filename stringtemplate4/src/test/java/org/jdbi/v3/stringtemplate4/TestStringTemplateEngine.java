@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.stringtemplate4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.Query;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStringTemplateEngine {
+    private static final String TEMPLATE = "select <columns:{c | <c>}; separator=\", \"><if(filter)> where <filter><endif>";
+
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private final StringTemplateEngine engine = new StringTemplateEngine();
+    private Handle handle;
+
+    @Before
+    public void setUp() {
+        dbRule.getJdbi().setTemplateEngine(engine);
+        // the shared handle was opened before the engine was set on the Jdbi
+        handle = dbRule.getSharedHandle().setTemplateEngine(engine);
+        handle.execute("insert into something (id, name) values (1, 'Alice'), (2, 'Bob')");
+    }
+
+    @Test
+    public void testCompilesTemplateOnce() {
+        String sql = "select <column> from something where id = 1";
+        long loaded = loadCount();
+
+        assertThat(handle.createQuery(sql).define("column", "name").mapTo(String.class).one()).isEqualTo("Alice");
+        assertThat(handle.createQuery(sql).define("column", "id").mapTo(String.class).one()).isEqualTo("1");
+        assertThat(handle.createQuery(sql).define("column", "name").define("unused", 1).mapTo(String.class).one())
+            .isEqualTo("Alice");
+
+        assertThat(loadCount() - loaded).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = IntStream.range(0, 200)
+                .mapToObj(i -> pool.submit(() -> render(i)))
+                .collect(Collectors.toList());
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(expected(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // renders with varying attributes, which a template without declared arguments would declare on first use
+    private String render(int i) {
+        try (Handle h = dbRule.getJdbi().open();
+             Query query = h.createQuery(TEMPLATE)) {
+            query.define("columns", Arrays.asList("c" + i, "d" + i))
+                .define("unused" + i, i);
+            if (i % 2 == 0) {
+                query.define("filter", "id = " + i);
+            }
+            return engine.render(TEMPLATE, query.getContext());
+        }
+    }
+
+    private long loadCount() {
+        return handle.getConfig(JdbiCaches.class).stats().get("StringTemplateEngine.prototypes").getLoadCount();
+    }
+
+    private static String expected(int i) {
+        return "select c" + i + ", d" + i + (i % 2 == 0 ? " where id = " + i : "");
+    }
+}
@@ -33,6 +33,7 @@ import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.stringtemplate.v4.ST;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -112,6 +113,18 @@ public class TestStringTemplateSqlLocator {
         assertThat(roo.findById(2L)).isEqualTo(new Something(2, "Brian"));
     }
 
+    @Test
+    public void testPrecompile() {
+        assertThat(StringTemplateSqlLocator.precompile(Wombat.class))
+            .contains("kangaroo", "insert", "findById", "weirdInsert");
+
+        ST first = StringTemplateSqlLocator.findStringTemplate(Wombat.class, "kangaroo").add("name", "Alice");
+        ST second = StringTemplateSqlLocator.findStringTemplate(Wombat.class, "kangaroo");
+
+        assertThat(first.render()).isEqualTo(" hello Alice ");
+        assertThat(second.render()).isEqualToNormalizingWhitespace(" hello ");
+    }
+
     @UseStringTemplateSqlLocator
     @RegisterRowMapper(SomethingMapper.class)
     public interface Wombat {